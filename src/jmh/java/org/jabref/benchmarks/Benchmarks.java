@@ -2,38 +2,67 @@ package org.jabref.benchmarks;
 
 import java.io.IOException;
 import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import org.jabref.Globals;
+import org.jabref.logic.bibtex.DuplicateCandidateIndex;
+import org.jabref.logic.bibtexkeypattern.BibtexKeyPatternPreferences;
+import org.jabref.logic.bibtexkeypattern.BibtexKeyPatternUtil;
+import org.jabref.logic.bst.BstProgram;
+import org.jabref.logic.bst.VM;
+import org.jabref.logic.citationstyle.CitationStyle;
+import org.jabref.logic.citationstyle.CitationStyleGenerator;
+import org.jabref.logic.citationstyle.CitationStyleOutputFormat;
 import org.jabref.logic.exporter.BibtexDatabaseWriter;
+import org.jabref.logic.exporter.ExportFormats;
+import org.jabref.logic.exporter.IExportFormat;
 import org.jabref.logic.exporter.SavePreferences;
 import org.jabref.logic.exporter.StringSaveSession;
 import org.jabref.logic.formatter.bibtexfields.HtmlToLatexFormatter;
+import org.jabref.logic.formatter.casechanger.ProtectTermsFormatter;
 import org.jabref.logic.importer.ParseException;
 import org.jabref.logic.importer.ParserResult;
 import org.jabref.logic.importer.fileformat.BibtexParser;
+import org.jabref.logic.journals.JournalAbbreviationLoader;
 import org.jabref.logic.layout.format.HTMLChars;
 import org.jabref.logic.layout.format.LatexToUnicodeFormatter;
+import org.jabref.logic.protectedterms.ProtectedTermsLoader;
+import org.jabref.logic.protectedterms.ProtectedTermsPreferences;
 import org.jabref.logic.search.SearchQuery;
 import org.jabref.model.Defaults;
+import org.jabref.model.bibtexkeypattern.GlobalBibtexKeyPattern;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.database.BibDatabaseMode;
 import org.jabref.model.database.BibDatabaseModeDetection;
+import org.jabref.model.entry.AuthorList;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.groups.AllEntriesGroup;
 import org.jabref.model.groups.GroupHierarchyType;
+import org.jabref.model.groups.GroupMembershipIndex;
+import org.jabref.model.groups.GroupTreeNode;
 import org.jabref.model.groups.KeywordGroup;
 import org.jabref.model.groups.WordKeywordGroup;
 import org.jabref.model.metadata.MetaData;
 import org.jabref.preferences.JabRefPreferences;
 
+import org.antlr.runtime.RecognitionException;
 import org.openjdk.jmh.Main;
 import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
 import org.openjdk.jmh.runner.RunnerException;
 
 @State(Scope.Thread)
@@ -42,7 +71,11 @@ public class Benchmarks {
     private String bibtexString;
     private final BibDatabase database = new BibDatabase();
     private String latexConversionString;
+    private String plainTextConversionString;
+    private String heavyLatexConversionString;
+    private int heavyLatexConversionCount;
     private String htmlConversionString;
+    private String citationStyle;
 
     @Setup
     public void init() throws Exception {
@@ -67,8 +100,13 @@ public class Benchmarks {
         bibtexString = saveSession.getStringValue();
 
         latexConversionString = "{A} \\textbf{bold} approach {\\it to} ${{\\Sigma}}{\\Delta}$ modulator \\textsuperscript{2} \\$";
+        plainTextConversionString = "A 32 mA sigma-delta modulator for low-power applications: design and evaluation";
+        heavyLatexConversionString = "{\\\"{O}}sterreichische {\\v{S}}tudie {\\'{e}}t{\\'{e}} -- ${\\alpha}^{2} + "
+                + "\\sqrt{\\beta_{i}}$ \\textit{in} \\textbf{Ma{\\~{n}}ana} \\L\\k{e}ski ``quoted'' \\textsuperscript{th}";
 
         htmlConversionString = "<b>&Ouml;sterreich</b> &#8211; &amp; characters &#x2aa2; <i>italic</i>";
+
+        citationStyle = CitationStyle.getDefault().getSource();
     }
 
     @Benchmark
@@ -78,11 +116,16 @@ public class Benchmarks {
     }
 
     @Benchmark
-    public String write() throws Exception {
+    public ParserResult parseLargeLibrary(ParseState state) throws IOException {
+        // run at the revision before the char buffer was introduced to compare with the PushbackReader
+        BibtexParser parser = new BibtexParser(Globals.prefs.getImportFormatPreferences());
+        return parser.parse(new StringReader(state.bibtexString));
+    }
+
+    @Benchmark
+    public String write(WriteState state) throws Exception {
         BibtexDatabaseWriter<StringSaveSession> databaseWriter = new BibtexDatabaseWriter<>(StringSaveSession::new);
-        StringSaveSession saveSession = databaseWriter.savePartOfDatabase(
-                new BibDatabaseContext(database, new MetaData(), new Defaults()), database.getEntries(),
-                new SavePreferences());
+        StringSaveSession saveSession = databaseWriter.saveDatabase(state.databaseContext, new SavePreferences());
         return saveSession.getStringValue();
     }
 
@@ -111,6 +154,26 @@ public class Benchmarks {
         return f.format(latexConversionString);
     }
 
+    @Benchmark
+    public String latexToUnicodeConversionOfPlainText() {
+        LatexToUnicodeFormatter f = new LatexToUnicodeFormatter();
+        return f.format(plainTextConversionString);
+    }
+
+    @Benchmark
+    public String latexToUnicodeConversionOfHeavyLatex() {
+        LatexToUnicodeFormatter f = new LatexToUnicodeFormatter();
+        return f.format(heavyLatexConversionString);
+    }
+
+    @Benchmark
+    public String latexToUnicodeConversionOfNewHeavyLatex() {
+        // a different value every time, which is never found in the cache
+        LatexToUnicodeFormatter f = new LatexToUnicodeFormatter();
+        heavyLatexConversionCount++;
+        return f.format(heavyLatexConversionString + heavyLatexConversionCount);
+    }
+
     @Benchmark
     public String latexToHTMLConversion() {
         HTMLChars f = new HTMLChars();
@@ -123,12 +186,333 @@ public class Benchmarks {
         return f.format(htmlConversionString);
     }
 
+    @Benchmark
+    public List<String> citationStyleSingleEntry() {
+        return CitationStyleGenerator.generateCitations(database.getEntries().subList(0, 1), citationStyle,
+                CitationStyleOutputFormat.HTML);
+    }
+
+    @Benchmark
+    public List<String> citationStyleBibliography() {
+        return CitationStyleGenerator.generateCitations(database.getEntries(), citationStyle,
+                CitationStyleOutputFormat.HTML);
+    }
+
     @Benchmark
     public boolean keywordGroupContains() throws ParseException {
         KeywordGroup group = new WordKeywordGroup("testGroup", GroupHierarchyType.INDEPENDENT, "keyword", "testkeyword", false, ',', false);
         return group.containsAll(database.getEntries());
     }
 
+    @Benchmark
+    public int keywordGroupNumberOfMatchesAfterEdit(GroupMembershipState state) {
+        state.editEntry();
+        int hits = 0;
+        for (GroupTreeNode node : state.root.getChildren()) {
+            hits += node.calculateNumberOfMatches(state.database);
+        }
+        return hits;
+    }
+
+    @Benchmark
+    public int keywordGroupNumberOfMatchesAfterEditWithIndex(GroupMembershipState state) {
+        state.editEntry();
+        int hits = 0;
+        for (GroupTreeNode node : state.root.getChildren()) {
+            hits += state.index.getNumberOfMatches(node);
+        }
+        return hits;
+    }
+
+    @Benchmark
+    public int findDuplicates(DuplicateDetectionState state) {
+        AtomicInteger duplicates = new AtomicInteger();
+        new DuplicateCandidateIndex(state.entries).findDuplicates(BibDatabaseMode.BIBTEX,
+                (first, second) -> duplicates.incrementAndGet(), checkedEntries -> {
+                }, () -> false);
+        return duplicates.get();
+    }
+
+    /**
+     * Creates an entry as it is kept in the memory of a loaded library. Run with "-prof gc" and compare
+     * "gc.alloc.rate.norm", which gives the bytes allocated per entry.
+     */
+    @Benchmark
+    public BibEntry createEntry() {
+        BibEntry entry = new BibEntry("article");
+        entry.setCiteKey("Lastname2017");
+        entry.setField("title", "This is my title");
+        entry.setField("author", "Firstname Lastname and FirstnameA LastnameA");
+        entry.setField("journal", "Journal Title");
+        entry.setField("year", "2017");
+        entry.setField("pages", "1--10");
+        entry.registerListener(database);
+        return entry;
+    }
+
+    @Benchmark
+    public void htmlExport(ExportState state) throws Exception {
+        state.exportFormat.performExport(state.databaseContext, state.exportFile, StandardCharsets.UTF_8,
+                state.databaseContext.getEntries());
+    }
+
+    @Benchmark
+    public String bstInterpreted(BstState state) {
+        return state.vm.run(database);
+    }
+
+    @Benchmark
+    public String bstCompiled(BstState state) {
+        return state.program.run(database);
+    }
+
+    /**
+     * Formats the authors of all entries from several threads, which share the cache of parsed author lists
+     */
+    @Benchmark
+    @Threads(4)
+    public int authorFormattingAcrossThreads() {
+        int length = 0;
+        for (BibEntry entry : database.getEntries()) {
+            String authors = entry.getField("author").get();
+            length += AuthorList.fixAuthorFirstNameFirstCommas(authors, true, false).length();
+            length += AuthorList.fixAuthorForAlphabetization(authors).length();
+        }
+        return length;
+    }
+
+    @Benchmark
+    public int protectTerms(ProtectTermsState state) {
+        int length = 0;
+        for (String title : state.titles) {
+            length += state.formatter.format(title).length();
+        }
+        return length;
+    }
+
+    @Benchmark
+    public void generateKeysEntryByEntry(KeyGenerationState state) {
+        for (BibEntry entry : state.database.getEntries()) {
+            BibtexKeyPatternUtil.makeAndSetLabel(state.keyPattern, state.database, entry, state.preferences);
+        }
+    }
+
+    @Benchmark
+    public void generateKeysForAllEntries(KeyGenerationState state) {
+        BibtexKeyPatternUtil.makeAndSetLabels(state.keyPattern, state.database, state.database.getEntries(),
+                state.preferences);
+    }
+
+    @State(Scope.Benchmark)
+    public static class ParseState {
+
+        @Param({"1000", "100000"})
+        public int numberOfEntries;
+
+        private String bibtexString;
+
+        @Setup
+        public void init() throws Exception {
+            BibDatabase database = new BibDatabase();
+            for (int i = 0; i < numberOfEntries; i++) {
+                BibEntry entry = new BibEntry("article");
+                entry.setCiteKey("id" + i);
+                entry.setField("title", "This is {my} title " + i);
+                entry.setField("author", "Firstname Lastname and FirstnameA LastnameA and FirstnameB LastnameB" + i);
+                entry.setField("journal", "Journal Title " + i);
+                entry.setField("abstract", "An abstract which is considerably longer than the other fields, "
+                        + "as it is in most libraries, with {braces} and \\LaTeX{} commands " + i);
+                entry.setField("year", String.valueOf(1950 + (i % 70)));
+                database.insertEntry(entry);
+            }
+            BibtexDatabaseWriter<StringSaveSession> databaseWriter = new BibtexDatabaseWriter<>(StringSaveSession::new);
+            StringSaveSession saveSession = databaseWriter.saveDatabase(
+                    new BibDatabaseContext(database, new MetaData(), new Defaults()), new SavePreferences());
+            bibtexString = saveSession.getStringValue();
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class WriteState {
+
+        @Param({"1000", "100000"})
+        public int numberOfEntries;
+
+        private BibDatabaseContext databaseContext;
+
+        @Setup
+        public void init() {
+            BibDatabase database = new BibDatabase();
+            for (int i = 0; i < numberOfEntries; i++) {
+                BibEntry entry = new BibEntry("article");
+                entry.setCiteKey("id" + i);
+                entry.setField("title", "This is my title " + i);
+                entry.setField("author", "Firstname Lastname and FirstnameA LastnameA and FirstnameB LastnameB" + i);
+                entry.setField("journal", "Journal Title " + i);
+                entry.setField("year", String.valueOf(1950 + (i % 70)));
+                database.insertEntry(entry);
+            }
+            databaseContext = new BibDatabaseContext(database, new MetaData(), new Defaults());
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class DuplicateDetectionState {
+
+        @Param({"10000", "100000"})
+        public int numberOfEntries;
+
+        private final List<BibEntry> entries = new ArrayList<>();
+
+        @Setup
+        public void init() {
+            Random randomizer = new Random(42);
+            for (int i = 0; i < numberOfEntries; i++) {
+                // every hundredth entry is a slightly modified copy of an earlier one
+                int number = ((i % 100) == 99) ? randomizer.nextInt(i) : i;
+                BibEntry entry = new BibEntry("article");
+                entry.setField("title", "On the title number " + number + " of " + Integer.toString(number, 36));
+                entry.setField("author", "Firstname Lastname" + (number % 1000) + " and FirstnameA LastnameA");
+                entry.setField("journal", "Journal Title " + (number % 100));
+                entry.setField("year", String.valueOf(1950 + (number % 70)));
+                entries.add(entry);
+            }
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class GroupMembershipState {
+
+        @Param({"10", "100"})
+        public int numberOfGroups;
+
+        private final BibDatabase database = new BibDatabase();
+        private final GroupTreeNode root = GroupTreeNode.fromGroup(new AllEntriesGroup("All entries"));
+        private GroupMembershipIndex index;
+        private int edits;
+
+        @Setup
+        public void init() {
+            for (int i = 0; i < 10000; i++) {
+                BibEntry entry = new BibEntry();
+                entry.setField("title", "This is my title " + i);
+                entry.setField("keyword", "testkeyword" + (i % numberOfGroups));
+                database.insertEntry(entry);
+            }
+            for (int i = 0; i < numberOfGroups; i++) {
+                root.addSubgroup(new WordKeywordGroup("testGroup" + i, GroupHierarchyType.INDEPENDENT, "keyword",
+                        "testkeyword" + i, false, ',', false));
+            }
+            index = new GroupMembershipIndex(database);
+        }
+
+        private void editEntry() {
+            edits++;
+            database.getEntries().get(edits % database.getEntryCount())
+                    .setField("keyword", "testkeyword" + (edits % numberOfGroups));
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class ExportState {
+
+        @Param({"1000", "100000"})
+        public int numberOfEntries;
+
+        private BibDatabaseContext databaseContext;
+        private IExportFormat exportFormat;
+        private String exportFile;
+
+        @Setup
+        public void init() throws IOException {
+            Globals.prefs = JabRefPreferences.getInstance();
+
+            BibDatabase database = new BibDatabase();
+            for (int i = 0; i < numberOfEntries; i++) {
+                BibEntry entry = new BibEntry("article");
+                entry.setCiteKey("id" + i);
+                entry.setField("title", "This is my title " + i);
+                entry.setField("author", "Firstname Lastname and FirstnameA LastnameA and FirstnameB LastnameB" + i);
+                entry.setField("journal", "Journal Title " + i);
+                entry.setField("year", String.valueOf(1950 + (i % 70)));
+                database.insertEntry(entry);
+            }
+            databaseContext = new BibDatabaseContext(database, new MetaData(), new Defaults());
+
+            ExportFormats.initAllExports(Collections.emptyMap(),
+                    Globals.prefs.getLayoutFormatterPreferences(new JournalAbbreviationLoader()),
+                    SavePreferences.loadForExportFromPreferences(Globals.prefs));
+            exportFormat = ExportFormats.getExportFormat("html");
+            exportFile = Files.createTempFile("benchmark", ".html").toString();
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class BstState {
+
+        private static final Path STYLE = Paths.get("src/test/resources/org/jabref/logic/bst/abbrv.bst");
+
+        private VM vm;
+        private BstProgram program;
+
+        @Setup
+        public void init() throws RecognitionException, IOException {
+            vm = new VM(STYLE.toFile());
+            program = BstProgram.fromFile(STYLE);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class KeyGenerationState {
+
+        private final BibDatabase database = new BibDatabase();
+        private final GlobalBibtexKeyPattern keyPattern = GlobalBibtexKeyPattern.fromPattern("[auth][year][shorttitle]");
+        private final BibtexKeyPatternPreferences preferences = new BibtexKeyPatternPreferences("", "", false, true,
+                true, keyPattern, ',');
+
+        @Setup
+        public void init() {
+            Random random = new Random(42);
+            for (int i = 0; i < 100000; i++) {
+                BibEntry entry = new BibEntry("article");
+                // few authors and years, so that many keys need letters to be unique
+                entry.setField("author", "Firstname Lastname" + random.nextInt(100) + " and FirstnameA LastnameA");
+                entry.setField("year", String.valueOf(1950 + random.nextInt(70)));
+                entry.setField("title", "This is my title " + random.nextInt(10));
+                database.insertEntry(entry);
+            }
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class ProtectTermsState {
+
+        private static final String[] TITLE_PARTS = {"A survey of", "VLSI design for", "CDMA networks in",
+                "Monte Carlo methods for", "the IEEE 802.11 standard", "3GPP LTE and 3G", "Bayesian inference",
+                "on Linux and Windows", "in Germany and France", "using Java and XML", "during March and April",
+                "with MATLAB", "of deep neural networks", "for the Internet of Things"};
+
+        private final List<String> titles = new ArrayList<>();
+        private ProtectTermsFormatter formatter;
+
+        @Setup
+        public void init() {
+            ProtectTermsFormatter.setProtectedTermsLoader(
+                    new ProtectedTermsLoader(new ProtectedTermsPreferences(ProtectedTermsLoader.getInternalLists(),
+                            Collections.emptyList(), Collections.emptyList(), Collections.emptyList())));
+            formatter = new ProtectTermsFormatter();
+
+            Random random = new Random(42);
+            for (int i = 0; i < 1000; i++) {
+                StringBuilder title = new StringBuilder(TITLE_PARTS[random.nextInt(TITLE_PARTS.length)]);
+                for (int j = 0; j < 3; j++) {
+                    title.append(' ').append(TITLE_PARTS[random.nextInt(TITLE_PARTS.length)]);
+                }
+                titles.add(title.toString());
+            }
+        }
+    }
+
     public static void main(String[] args) throws IOException, RunnerException {
         Main.main(args);
     }
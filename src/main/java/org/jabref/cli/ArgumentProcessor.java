@@ -512,12 +512,9 @@ public class ArgumentProcessor {
             MetaData metaData = parserResult.getMetaData();
             if (metaData != null) {
                 LOGGER.info(Localization.lang("Regenerating BibTeX keys according to metadata"));
-                for (BibEntry entry : database.getEntries()) {
-                    // try to make a new label
-                    BibtexKeyPatternUtil.makeAndSetLabel(
-                            metaData.getCiteKeyPattern(Globals.prefs.getBibtexKeyPatternPreferences().getKeyPattern()),
-                            database, entry, Globals.prefs.getBibtexKeyPatternPreferences());
-                }
+                BibtexKeyPatternUtil.makeAndSetLabels(
+                        metaData.getCiteKeyPattern(Globals.prefs.getBibtexKeyPatternPreferences().getKeyPattern()),
+                        database, database.getEntries(), Globals.prefs.getBibtexKeyPatternPreferences());
             } else {
                 LOGGER.info(Localization.lang("No meta data present in BIB file. Cannot regenerate BibTeX keys"));
             }
@@ -112,6 +112,7 @@ import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.layout.Layout;
 import org.jabref.logic.layout.LayoutHelper;
 import org.jabref.logic.pdf.FileAnnotationCache;
+import org.jabref.logic.search.SearchIndex;
 import org.jabref.logic.search.SearchQuery;
 import org.jabref.logic.util.FileExtensions;
 import org.jabref.logic.util.UpdateField;
@@ -200,6 +201,8 @@ public class BasePanel extends JPanel implements ClipboardOwner {
 
     private DatabaseChangeMonitor changeMonitor;
 
+    private final SearchIndex searchIndex;
+
     public BasePanel(JabRefFrame frame, BibDatabaseContext bibDatabaseContext) {
         Objects.requireNonNull(frame);
         Objects.requireNonNull(bibDatabaseContext);
@@ -219,6 +222,7 @@ public class BasePanel extends JPanel implements ClipboardOwner {
 
         setupActions();
 
+        this.searchIndex = new SearchIndex(getDatabase());
         this.getDatabase().registerListener(new SearchListener());
         this.getDatabase().registerListener(new EntryRemovedListener());
 
@@ -448,15 +452,20 @@ public class BasePanel extends JPanel implements ClipboardOwner {
                 final NamedCompound ce = new NamedCompound(Localization.lang("Autogenerate BibTeX keys"));
                 AbstractBibtexKeyPattern citeKeyPattern = bibDatabaseContext.getMetaData()
                         .getCiteKeyPattern(Globals.prefs.getBibtexKeyPatternPreferences().getKeyPattern());
-                for (BibEntry entry : entries) {
-                    String oldCiteKey = entry.getCiteKeyOptional().orElse("");
-                    BibtexKeyPatternUtil.makeAndSetLabel(citeKeyPattern, bibDatabaseContext.getDatabase(),
-                            entry, Globals.prefs.getBibtexKeyPatternPreferences());
-                    String newCiteKey = entry.getCiteKeyOptional().orElse("");
-                    if (!oldCiteKey.equals(newCiteKey)) {
-                        ce.addEdit(new UndoableKeyChange(entry, oldCiteKey, newCiteKey));
+                runWithBatchedTableUpdates(() -> {
+                    List<String> oldCiteKeys = entries.stream()
+                            .map(entry -> entry.getCiteKeyOptional().orElse(""))
+                            .collect(Collectors.toList());
+                    BibtexKeyPatternUtil.makeAndSetLabels(citeKeyPattern, bibDatabaseContext.getDatabase(),
+                            entries, Globals.prefs.getBibtexKeyPatternPreferences());
+                    for (int i = 0; i < entries.size(); i++) {
+                        String oldCiteKey = oldCiteKeys.get(i);
+                        String newCiteKey = entries.get(i).getCiteKeyOptional().orElse("");
+                        if (!oldCiteKey.equals(newCiteKey)) {
+                            ce.addEdit(new UndoableKeyChange(entries.get(i), oldCiteKey, newCiteKey));
+                        }
                     }
-                }
+                });
                 ce.end();
 
                 // register the undo event only if new cite keys were generated
@@ -550,7 +559,7 @@ public class BasePanel extends JPanel implements ClipboardOwner {
         actions.put(Actions.PULL_CHANGES_FROM_SHARED_DATABASE, (BaseAction) () -> {
             DBMSSynchronizer dbmsSynchronizer = frame.getCurrentBasePanel().getBibDatabaseContext()
                     .getDBMSSynchronizer();
-            dbmsSynchronizer.pullChanges();
+            frame.getCurrentBasePanel().runWithBatchedTableUpdates(dbmsSynchronizer::pullChanges);
         });
 
         actions.put(Actions.OPEN_URL, new OpenURLAction());
@@ -1231,8 +1240,13 @@ public class BasePanel extends JPanel implements ClipboardOwner {
         bibDatabaseContext.getDatabase().registerListener(tableModel.getListSynchronizer());
         bibDatabaseContext.getDatabase().registerListener(SpecialFieldDatabaseChangeListener.getInstance());
 
+        if (tableFormat != null) {
+            // the caches of the replaced table need no updates anymore
+            bibDatabaseContext.getDatabase().unregisterListener(tableFormat);
+        }
         tableFormat = new MainTableFormat(bibDatabaseContext.getDatabase());
         tableFormat.updateTableFormat();
+        bibDatabaseContext.getDatabase().registerListener(tableFormat);
         mainTable = new MainTable(tableFormat, tableModel, frame, this);
 
         selectionListener = new MainTableSelectionListener(this, mainTable);
@@ -1660,6 +1674,10 @@ public class BasePanel extends JPanel implements ClipboardOwner {
         return bibDatabaseContext.getDatabase();
     }
 
+    public SearchIndex getSearchIndex() {
+        return searchIndex;
+    }
+
     public void preambleEditorClosing() {
         preambleEditor = null;
     }
@@ -1796,6 +1814,7 @@ public class BasePanel extends JPanel implements ClipboardOwner {
      * Perform necessary cleanup when this BasePanel is closed.
      */
     public void cleanUp() {
+        searchIndex.close();
         changeMonitor.unregister();
 
         // Check if there is a FileUpdatePanel for this BasePanel being shown. If so,
@@ -1941,6 +1960,13 @@ public class BasePanel extends JPanel implements ClipboardOwner {
         return mainTable;
     }
 
+    /**
+     * Runs an action which adds, removes or changes many entries. The main table is updated once after the action.
+     */
+    public void runWithBatchedTableUpdates(Runnable action) {
+        tableModel.getListSynchronizer().runBatched(action);
+    }
+
     public BibDatabaseContext getDatabaseContext() {
         return bibDatabaseContext;
     }
@@ -3,7 +3,9 @@ package org.jabref.gui;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
+import javax.swing.JOptionPane;
 import javax.swing.SwingUtilities;
 
 import org.jabref.JabRefExecutorService;
@@ -14,14 +16,22 @@ import org.jabref.gui.undo.NamedCompound;
 import org.jabref.gui.undo.UndoableInsertEntry;
 import org.jabref.gui.undo.UndoableRemoveEntry;
 import org.jabref.gui.worker.CallBack;
+import org.jabref.logic.bibtex.DuplicateCandidateIndex;
 import org.jabref.logic.bibtex.DuplicateCheck;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.model.entry.BibEntry;
 
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 import spin.Spin;
 
 public class DuplicateSearch implements Runnable {
 
+    private static final Log LOGGER = LogFactory.getLog(DuplicateSearch.class);
+
+    // Number of checked entries between two updates of the progress bar
+    private static final int PROGRESS_STEP = 100;
+
     private final BasePanel panel;
     private List<BibEntry> bes;
     private final List<List<BibEntry>> duplicates = new ArrayList<>();
@@ -149,26 +159,42 @@ public class DuplicateSearch implements Runnable {
 
         @Override
         public void run() {
-            for (int i = 0; (i < (bes.size() - 1)) && !finished; i++) {
-                for (int j = i + 1; (j < bes.size()) && !finished; j++) {
-                    BibEntry first = bes.get(i);
-                    BibEntry second = bes.get(j);
-                    boolean eq = DuplicateCheck.isDuplicate(first, second, panel.getBibDatabaseContext().getMode());
-
-                    // If (suspected) duplicates, add them to the duplicates vector.
-                    if (eq) {
-                        synchronized (duplicates) {
-                            duplicates.add(Arrays.asList(first, second));
-                            duplicates.notifyAll(); // send wake up all
-                        }
-                    }
+            JabRefFrame frame = JabRefGUI.getMainFrame();
+            frame.setProgressBarValue(0);
+            frame.setProgressBarMaximum(bes.size());
+            frame.setProgressBarVisible(true);
+
+            // The consumer blocks while the user resolves a duplicate, which must not block the common pool
+            ForkJoinPool pool = new ForkJoinPool();
+            try {
+                DuplicateCandidateIndex index = new DuplicateCandidateIndex(bes);
+                pool.submit(() -> index.findDuplicates(panel.getBibDatabaseContext().getMode(),
+                        (first, second) -> {
+                            // If (suspected) duplicates, add them to the duplicates vector.
+                            synchronized (duplicates) {
+                                duplicates.add(Arrays.asList(first, second));
+                                duplicates.notifyAll(); // send wake up all
+                            }
+                        },
+                        checkedEntries -> {
+                            if ((checkedEntries % PROGRESS_STEP) == 0) {
+                                frame.setProgressBarValue(checkedEntries);
+                            }
+                        },
+                        this::finished)).join();
+            } catch (RuntimeException e) {
+                LOGGER.error("Problem searching for duplicates", e);
+                SwingUtilities.invokeLater(() -> JOptionPane.showMessageDialog(frame, e.getMessage(),
+                        Localization.lang("Error"), JOptionPane.ERROR_MESSAGE));
+            } finally {
+                pool.shutdown();
+                frame.setProgressBarVisible(false);
+                finished = true;
+                // if no duplicates found or the search failed, the graphical thread would never wake up
+                synchronized (duplicates) {
+                    duplicates.notifyAll();
                 }
             }
-            finished = true;
-            // if no duplicates found, the graphical thread will never wake up
-            synchronized (duplicates) {
-                duplicates.notifyAll();
-            }
         }
 
         public boolean finished() {
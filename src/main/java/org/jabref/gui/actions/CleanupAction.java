@@ -85,18 +85,20 @@ public class CleanupAction extends AbstractWorker {
             }
         }
 
-        for (BibEntry entry : panel.getSelectedEntries()) {
-            // undo granularity is on entry level
-            NamedCompound ce = new NamedCompound(Localization.lang("Cleanup entry"));
-
-            doCleanup(cleanupPreset, entry, ce);
-
-            ce.end();
-            if (ce.hasEdits()) {
-                modifiedEntriesCount++;
-                panel.getUndoManager().addEdit(ce);
+        panel.runWithBatchedTableUpdates(() -> {
+            for (BibEntry entry : panel.getSelectedEntries()) {
+                // undo granularity is on entry level
+                NamedCompound ce = new NamedCompound(Localization.lang("Cleanup entry"));
+
+                doCleanup(cleanupPreset, entry, ce);
+
+                ce.end();
+                if (ce.hasEdits()) {
+                    modifiedEntriesCount++;
+                    panel.getUndoManager().addEdit(ce);
+                }
             }
-        }
+        });
     }
 
     @Override
@@ -68,8 +68,8 @@ public class FindFullTextAction extends AbstractWorker {
                 return;
             }
         }
+        FulltextFetchers fft = new FulltextFetchers(Globals.prefs.getImportFormatPreferences());
         for (BibEntry entry : basePanel.getSelectedEntries()) {
-            FulltextFetchers fft = new FulltextFetchers(Globals.prefs.getImportFormatPreferences());
             downloads.put(fft.findFullTextPDF(entry), entry);
         }
     }
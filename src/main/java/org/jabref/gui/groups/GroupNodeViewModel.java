@@ -208,10 +208,9 @@ public class GroupNodeViewModel {
 
     private void calculateNumberOfMatches() {
         // We calculate the new hit value
-        // We could be more intelligent and try to figure out the new number of hits based on the entry change
-        // for example, a previously matched entry gets removed -> hits = hits - 1
+        // The index has already been updated, as it listens to the more specific event types
         BackgroundTask
-                .wrap(() -> groupNode.calculateNumberOfMatches(databaseContext.getDatabase()))
+                .wrap(() -> databaseContext.getGroupMembershipIndex().getNumberOfMatches(groupNode))
                 .onSuccess(hits::setValue)
                 .executeWith(taskExecutor);
     }
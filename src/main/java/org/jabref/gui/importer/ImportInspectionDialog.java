@@ -76,6 +76,7 @@ import org.jabref.gui.undo.UndoableInsertEntry;
 import org.jabref.gui.undo.UndoableRemoveEntry;
 import org.jabref.gui.util.comparator.IconComparator;
 import org.jabref.gui.util.component.CheckBoxMessage;
+import org.jabref.logic.bibtex.DuplicateCandidateIndex;
 import org.jabref.logic.bibtex.DuplicateCheck;
 import org.jabref.logic.bibtex.comparator.FieldComparator;
 import org.jabref.logic.bibtexkeypattern.BibtexKeyPatternUtil;
@@ -88,6 +89,7 @@ import org.jabref.model.Defaults;
 import org.jabref.model.FieldChange;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.database.BibDatabaseMode;
 import org.jabref.model.entry.AuthorList;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.FieldName;
@@ -366,6 +368,11 @@ public class ImportInspectionDialog extends JabRefDialog implements ImportInspec
     }
 
     public void addEntries(Collection<BibEntry> entriesToAdd) {
+        // Building the index only pays off if several entries are checked
+        Optional<DuplicateCandidateIndex> duplicateCandidateIndex = Optional.empty();
+        if ((panel != null) && (entriesToAdd.size() > 1)) {
+            duplicateCandidateIndex = Optional.of(new DuplicateCandidateIndex(panel.getDatabase().getEntries()));
+        }
 
         for (BibEntry entry : entriesToAdd) {
             // We exploit the entry's search status for indicating "Keep"
@@ -376,8 +383,7 @@ public class ImportInspectionDialog extends JabRefDialog implements ImportInspec
             // Checking duplicates means both checking against the background
             // database (if
             // applicable) and against entries already in the table.
-            if ((panel != null) && (DuplicateCheck
-                    .containsDuplicate(panel.getDatabase(), entry, panel.getBibDatabaseContext().getMode()).isPresent()
+            if ((panel != null) && (containsDuplicate(duplicateCandidateIndex, entry)
                     || (internalDuplicate(this.entries, entry).isPresent()))) {
                 entry.setGroupHit(true);
                 SwingUtilities.invokeLater(() -> deselectAllDuplicates.setEnabled(true));
@@ -391,6 +397,15 @@ public class ImportInspectionDialog extends JabRefDialog implements ImportInspec
         }
     }
 
+    private boolean containsDuplicate(Optional<DuplicateCandidateIndex> duplicateCandidateIndex, BibEntry entry) {
+        BibDatabaseMode mode = panel.getBibDatabaseContext().getMode();
+        if (duplicateCandidateIndex.isPresent()) {
+            return DuplicateCheck.containsDuplicate(duplicateCandidateIndex.get(), entry, mode).isPresent();
+        } else {
+            return DuplicateCheck.containsDuplicate(panel.getDatabase(), entry, mode).isPresent();
+        }
+    }
+
     /**
      * Checks if there are duplicates to the given entry in the Collection. Does
      * not report the entry as duplicate of itself if it is in the Collection.
@@ -1,5 +1,12 @@
 package org.jabref.gui.maintable;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 import org.jabref.model.database.event.EntryAddedEvent;
 import org.jabref.model.database.event.EntryRemovedEvent;
 import org.jabref.model.entry.BibEntry;
@@ -8,19 +15,105 @@ import org.jabref.model.entry.event.EntryChangedEvent;
 import ca.odell.glazedlists.EventList;
 import com.google.common.eventbus.Subscribe;
 
+/**
+ * Keeps the list of the main table in sync with the entries of the database.
+ * <p>
+ * The position of an entry in the list is looked up by identity through {@link EntryPositions}, so that a single
+ * change does not require scanning the whole list. Bulk operations should be run with {@link #runBatched(Runnable)},
+ * which applies all their changes at the end with a single acquisition of the list's lock.
+ */
 public class ListSynchronizer {
 
     private final EventList<BibEntry> list;
+    private final EntryPositions positions;
+
+    // Changes received during a batch, guarded by itself
+    private final List<PendingChange> pendingChanges = new ArrayList<>();
+    private final Set<BibEntry> pendingUpdates = Collections.newSetFromMap(new IdentityHashMap<>());
+    private int batchDepth;
 
     public ListSynchronizer(EventList<BibEntry> list) {
         this.list = list;
+        lock();
+        try {
+            this.positions = new EntryPositions(list);
+        } finally {
+            unlock();
+        }
+    }
+
+    /**
+     * Runs the given action, which may add, remove or change many entries. The corresponding changes of the list are
+     * collected and applied after the action finished, and every changed entry is updated only once.
+     */
+    public void runBatched(Runnable action) {
+        synchronized (pendingChanges) {
+            batchDepth++;
+        }
+        try {
+            action.run();
+        } finally {
+            applyPendingChanges();
+        }
+    }
+
+    private void applyPendingChanges() {
+        List<PendingChange> changes;
+        List<BibEntry> updates;
+        synchronized (pendingChanges) {
+            batchDepth--;
+            if (batchDepth > 0) {
+                return;
+            }
+            changes = new ArrayList<>(pendingChanges);
+            updates = new ArrayList<>(pendingUpdates);
+            pendingChanges.clear();
+            pendingUpdates.clear();
+        }
+        if (changes.isEmpty() && updates.isEmpty()) {
+            return;
+        }
+
+        lock();
+        try {
+            for (PendingChange change : changes) {
+                if (change.added) {
+                    add(change.entry);
+                } else {
+                    remove(change.entry);
+                }
+            }
+            for (BibEntry entry : updates) {
+                update(entry);
+            }
+        } finally {
+            unlock();
+        }
+    }
+
+    /**
+     * Remembers the given change if a batch is running.
+     *
+     * @return true if the change is applied later
+     */
+    private boolean deferIfBatched(BibEntry entry, boolean added) {
+        synchronized (pendingChanges) {
+            if (batchDepth > 0) {
+                pendingChanges.add(new PendingChange(entry, added));
+                return true;
+            }
+            return false;
+        }
     }
 
     @Subscribe
     public void listen(EntryAddedEvent entryAddedEvent) {
+        if (deferIfBatched(entryAddedEvent.getBibEntry(), true)) {
+            return;
+        }
         lock();
         try {
-            list.add(entryAddedEvent.getBibEntry());
+            add(entryAddedEvent.getBibEntry());
         } finally {
             unlock();
         }
@@ -28,9 +121,12 @@ public class ListSynchronizer {
 
     @Subscribe
     public void listen(EntryRemovedEvent entryRemovedEvent) {
+        if (deferIfBatched(entryRemovedEvent.getBibEntry(), false)) {
+            return;
+        }
         lock();
         try {
-            list.remove(entryRemovedEvent.getBibEntry());
+            remove(entryRemovedEvent.getBibEntry());
         } finally {
             unlock();
         }
@@ -38,20 +134,42 @@ public class ListSynchronizer {
 
     @Subscribe
     public void listen(EntryChangedEvent entryChangedEvent) {
+        synchronized (pendingChanges) {
+            if (batchDepth > 0) {
+                pendingUpdates.add(entryChangedEvent.getBibEntry());
+                return;
+            }
+        }
         lock();
         try {
-            // cannot use list#indexOf b/c it won't distinguish between duplicates
-            for (int i = 0; i < list.size(); i++) {
-                if (list.get(i) == entryChangedEvent.getBibEntry()) {
-                    list.set(i, entryChangedEvent.getBibEntry());
-                    break;
-                }
-            }
+            update(entryChangedEvent.getBibEntry());
         } finally {
             unlock();
         }
     }
 
+    private void add(BibEntry entry) {
+        list.add(entry);
+        positions.added(entry);
+    }
+
+    private void remove(BibEntry entry) {
+        // cannot use list#remove b/c it won't distinguish between duplicates
+        int index = positions.indexOf(entry);
+        if (index >= 0) {
+            list.remove(index);
+            positions.removed(entry);
+        }
+    }
+
+    private void update(BibEntry entry) {
+        // cannot use list#indexOf b/c it won't distinguish between duplicates
+        int index = positions.indexOf(entry);
+        if (index >= 0) {
+            list.set(index, entry);
+        }
+    }
+
     private void lock() {
         list.getReadWriteLock().writeLock().lock();
     }
@@ -59,4 +177,94 @@ public class ListSynchronizer {
     private void unlock() {
         list.getReadWriteLock().writeLock().unlock();
     }
+
+    private static class PendingChange {
+
+        private final BibEntry entry;
+        private final boolean added;
+
+        PendingChange(BibEntry entry, boolean added) {
+            this.entry = entry;
+            this.added = added;
+        }
+    }
+
+    /**
+     * Finds the position of an entry in the list in logarithmic time.
+     * <p>
+     * Every entry gets a slot when it is added, which does not change when other entries are removed. The position of
+     * an entry is the number of entries in the slots before its own slot, which is counted by a Fenwick tree. When all
+     * slots are used, the slots are assigned anew from the list. Like the database, the list contains every entry
+     * only once.
+     */
+    private static class EntryPositions {
+
+        private static final int MIN_CAPACITY = 16;
+
+        private final List<BibEntry> list;
+        private final Map<BibEntry, Integer> slots = new IdentityHashMap<>();
+        // tree[i] counts the entries in the slots (i - lowestOneBit(i), i], shifted by one
+        private int[] tree;
+        private int usedSlots;
+
+        EntryPositions(List<BibEntry> list) {
+            this.list = list;
+            rebuild();
+        }
+
+        private void rebuild() {
+            int size = list.size();
+            slots.clear();
+            for (int i = 0; i < size; i++) {
+                slots.put(list.get(i), i);
+            }
+            tree = new int[Math.max(MIN_CAPACITY, 2 * size) + 1];
+            for (int i = 1; i < tree.length; i++) {
+                int start = i - Integer.lowestOneBit(i);
+                tree[i] = Math.max(0, Math.min(i, size) - start);
+            }
+            usedSlots = size;
+        }
+
+        /**
+         * Registers the entry which was added at the end of the list
+         */
+        void added(BibEntry entry) {
+            if (usedSlots == (tree.length - 1)) {
+                rebuild();
+                return;
+            }
+            slots.put(entry, usedSlots);
+            change(usedSlots, 1);
+            usedSlots++;
+        }
+
+        void removed(BibEntry entry) {
+            Integer slot = slots.remove(entry);
+            if (slot != null) {
+                change(slot, -1);
+            }
+        }
+
+        /**
+         * Returns the position of the entry in the list, or -1 if the list does not contain it
+         */
+        int indexOf(BibEntry entry) {
+            Integer slot = slots.get(entry);
+            if (slot == null) {
+                return -1;
+            }
+            int count = 0;
+            for (int i = slot; i > 0; i -= Integer.lowestOneBit(i)) {
+                count += tree[i];
+            }
+            return count;
+        }
+
+        private void change(int slot, int delta) {
+            for (int i = slot + 1; i < tree.length; i += Integer.lowestOneBit(i)) {
+                tree[i] += delta;
+            }
+        }
+    }
 }
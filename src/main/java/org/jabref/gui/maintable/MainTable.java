@@ -2,6 +2,7 @@ package org.jabref.gui.maintable;
 
 import java.awt.Color;
 import java.awt.Dimension;
+import java.awt.Graphics;
 import java.awt.Point;
 import java.awt.Rectangle;
 import java.awt.event.ActionEvent;
@@ -80,6 +81,8 @@ public class MainTable extends JTable {
     private static List<CompleteRenderer> markedNumberRenderers;
 
     private static final Log LOGGER = LogFactory.getLog(MainTable.class);
+    // Number of paints after which the render statistics are logged
+    private static final int STATISTICS_LOG_INTERVAL = 1000;
     private final MainTableFormat tableFormat;
 
     private final BasePanel panel;
@@ -399,7 +402,8 @@ public class MainTable extends JTable {
             } else {
                 comparators = comparatorChooser.getComparatorsForColumn(i);
                 comparators.clear();
-                comparators.add(new FieldComparator(tableFormat.getColumnName(i).toLowerCase(Locale.ROOT)));
+                comparators.add(new FieldComparator(tableFormat.getColumnName(i).toLowerCase(Locale.ROOT), false,
+                        tableFormat.getSortKeyCache()));
             }
         }
 
@@ -697,6 +701,17 @@ public class MainTable extends JTable {
         return TableComparatorChooser.install(table, list, sortingStrategy);
     }
 
+    @Override
+    protected void paintComponent(Graphics g) {
+        long start = System.nanoTime();
+        super.paintComponent(g);
+        MainTableRenderStatistics statistics = tableFormat.getRenderStatistics();
+        statistics.recordPaint(System.nanoTime() - start);
+        if (LOGGER.isDebugEnabled() && ((statistics.getPaintCount() % STATISTICS_LOG_INTERVAL) == 0)) {
+            LOGGER.debug("Main table rendering: " + statistics);
+        }
+    }
+
     /**
      * Morten Alver: This override is a workaround NullPointerException when
      * dragging stuff into the table. I found this in a forum, but have no idea
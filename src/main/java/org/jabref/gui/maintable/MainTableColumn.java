@@ -2,6 +2,7 @@ package org.jabref.gui.maintable;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.StringJoiner;
 
@@ -15,8 +16,14 @@ import org.jabref.model.entry.FieldName;
 import org.jabref.model.entry.FieldProperty;
 import org.jabref.model.entry.InternalBibtexFields;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
 public class MainTableColumn {
 
+    // Rendered values of the most recently painted entries, see getColumnValue
+    private static final int RENDER_CACHE_SIZE = 10_000;
+
     private final String columnName;
 
     private final List<String> bibtexFields;
@@ -29,20 +36,34 @@ public class MainTableColumn {
 
     private final LayoutFormatter toUnicode = new LatexToUnicodeFormatter();
 
+    private final MainTableRenderStatistics statistics;
+
+    private final Cache<BibEntry, RenderedValue> renderCache = CacheBuilder.newBuilder()
+            .weakKeys()
+            .maximumSize(RENDER_CACHE_SIZE)
+            .build();
+
     public MainTableColumn(String columnName) {
         this.columnName = columnName;
         this.bibtexFields = Collections.emptyList();
         this.isIconColumn = false;
         this.iconLabel = Optional.empty();
         this.database = Optional.empty();
+        this.statistics = new MainTableRenderStatistics();
     }
 
     public MainTableColumn(String columnName, List<String> bibtexFields, BibDatabase database) {
+        this(columnName, bibtexFields, database, new MainTableRenderStatistics());
+    }
+
+    public MainTableColumn(String columnName, List<String> bibtexFields, BibDatabase database,
+            MainTableRenderStatistics statistics) {
         this.columnName = columnName;
         this.bibtexFields = Collections.unmodifiableList(bibtexFields);
         this.isIconColumn = false;
         this.iconLabel = Optional.empty();
         this.database = Optional.of(database);
+        this.statistics = Objects.requireNonNull(statistics);
     }
 
     public MainTableColumn(String columnName, List<String> bibtexFields, JLabel iconLabel) {
@@ -51,6 +72,7 @@ public class MainTableColumn {
         this.isIconColumn = true;
         this.iconLabel = Optional.of(iconLabel);
         this.database = Optional.empty();
+        this.statistics = new MainTableRenderStatistics();
     }
 
     /**
@@ -86,6 +108,13 @@ public class MainTableColumn {
         return false; // Overridden in SpecialMainTableColumns for file filter columns
     }
 
+    /**
+     * Returns the value of the column for the given entry, as it is displayed in the table.
+     * <p>
+     * Formatting the value is expensive, so the result is cached per entry. A cached value is only used as long as the
+     * field content it was formatted from is unchanged, so that changes of crossref'd entries, strings or aliased
+     * fields are shown, too.
+     */
     public Object getColumnValue(BibEntry entry) {
         if (bibtexFields.isEmpty()) {
             return null;
@@ -101,7 +130,18 @@ public class MainTableColumn {
             }
         }
 
-        String result = content.orElse(null);
+        if (!content.isPresent()) {
+            return null;
+        }
+
+        RenderedValue cached = renderCache.getIfPresent(entry);
+        if ((cached != null) && cached.content.equals(content.get()) && (cached.isNameColumn == isNameColumn)) {
+            statistics.recordCacheHit();
+            return cached.value;
+        }
+        statistics.recordCacheMiss();
+
+        String result = content.get();
 
         if (isNameColumn) {
             result = toUnicode.format(MainTableNameFormatter.formatName(result));
@@ -111,9 +151,19 @@ public class MainTableColumn {
             result = toUnicode.format(result).trim();
         }
 
+        renderCache.put(entry, new RenderedValue(content.get(), isNameColumn, result));
         return result;
     }
 
+    /**
+     * Drops the cached value of the given entry if the column displays the given field.
+     */
+    void invalidate(BibEntry entry, String fieldName) {
+        if (bibtexFields.contains(fieldName)) {
+            renderCache.invalidate(entry);
+        }
+    }
+
     public JLabel getHeaderLabel() {
         if (isIconColumn) {
             return iconLabel.get();
@@ -157,4 +207,18 @@ public class MainTableColumn {
         }
         return (!resolvedFieldContent.equals(plainFieldContent));
     }
+
+    private static class RenderedValue {
+
+        // The field content the value was formatted from
+        private final String content;
+        private final boolean isNameColumn;
+        private final String value;
+
+        RenderedValue(String content, boolean isNameColumn, String value) {
+            this.content = content;
+            this.isNameColumn = isNameColumn;
+            this.value = value;
+        }
+    }
 }
@@ -9,15 +9,22 @@ import javax.swing.JLabel;
 
 import org.jabref.Globals;
 import org.jabref.gui.IconTheme;
+import org.jabref.logic.bibtex.comparator.SortKeyCache;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.FieldName;
+import org.jabref.model.entry.event.FieldChangedEvent;
 import org.jabref.preferences.JabRefPreferences;
 
 import ca.odell.glazedlists.gui.TableFormat;
+import com.google.common.eventbus.Subscribe;
 
 /**
  * Class defining the contents and column headers of the main table.
+ * <p>
+ * The format keeps the caches of the rendered cell values and of the sort keys. It has to be registered as listener
+ * of the database, so that the cached values of changed entries are dropped. Changed preferences lead to a new format
+ * or new columns and thus to empty caches.
  */
 public class MainTableFormat implements TableFormat<BibEntry> {
 
@@ -31,6 +38,11 @@ public class MainTableFormat implements TableFormat<BibEntry> {
 
     private final List<MainTableColumn> tableColumns = new ArrayList<>();
 
+    private final MainTableRenderStatistics renderStatistics = new MainTableRenderStatistics();
+
+    // shared by the comparators of all columns
+    private final SortKeyCache sortKeyCache = new SortKeyCache();
+
     public MainTableFormat(BibDatabase database) {
         this.database = database;
     }
@@ -49,6 +61,22 @@ public class MainTableFormat implements TableFormat<BibEntry> {
 
     }
 
+    public MainTableRenderStatistics getRenderStatistics() {
+        return renderStatistics;
+    }
+
+    public SortKeyCache getSortKeyCache() {
+        return sortKeyCache;
+    }
+
+    @Subscribe
+    public void listen(FieldChangedEvent event) {
+        sortKeyCache.listen(event);
+        for (MainTableColumn tableColumn : tableColumns) {
+            tableColumn.invalidate(event.getBibEntry(), event.getFieldName());
+        }
+    }
+
     public MainTableColumn getTableColumn(int index) {
         return tableColumns.get(index);
     }
@@ -123,7 +151,7 @@ public class MainTableFormat implements TableFormat<BibEntry> {
             // There might be more than one field to display, e.g., "author/editor" or "date/year" - so split
             // at MainTableFormat.COL_DEFINITION_FIELD_SEPARATOR
             String[] fields = columnName.split(FieldName.FIELD_SEPARATOR);
-            tableColumns.add(new MainTableColumn(columnName, Arrays.asList(fields), database));
+            tableColumns.add(new MainTableColumn(columnName, Arrays.asList(fields), database, renderStatistics));
         }
 
         // Add the "special" icon columns (e.g., ranking, file, ...) that are enabled in preferences.
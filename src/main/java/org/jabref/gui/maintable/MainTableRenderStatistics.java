@@ -0,0 +1,57 @@
+package org.jabref.gui.maintable;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts how often the main table finds the rendered value of a cell in the cache of its column and how long painting
+ * the table takes.
+ */
+public class MainTableRenderStatistics {
+
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder cacheMisses = new LongAdder();
+    private final LongAdder paints = new LongAdder();
+    private final LongAdder paintTime = new LongAdder();
+
+    void recordCacheHit() {
+        cacheHits.increment();
+    }
+
+    void recordCacheMiss() {
+        cacheMisses.increment();
+    }
+
+    void recordPaint(long nanos) {
+        paints.increment();
+        paintTime.add(nanos);
+    }
+
+    /**
+     * @return the share of rendered values which were found in the cache, 1 if no value was rendered yet
+     */
+    public double getCacheHitRate() {
+        long hits = cacheHits.sum();
+        long requests = hits + cacheMisses.sum();
+        return requests == 0 ? 1.0 : (double) hits / requests;
+    }
+
+    public long getPaintCount() {
+        return paints.sum();
+    }
+
+    /**
+     * @return the average time of painting the table in microseconds, 0 if the table was not painted yet
+     */
+    public long getAveragePaintTime() {
+        long count = paints.sum();
+        return count == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(paintTime.sum() / count);
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "cache hit rate %.1f%%, %d paints, average paint time %d us",
+                100 * getCacheHitRate(), getPaintCount(), getAveragePaintTime());
+    }
+}
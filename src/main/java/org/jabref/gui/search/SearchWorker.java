@@ -2,6 +2,8 @@ package org.jabref.gui.search;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
 
@@ -42,7 +44,9 @@ class SearchWorker extends SwingWorker<List<BibEntry>, Void> {
 
     @Override
     protected List<BibEntry> doInBackground() throws Exception {
+        Optional<Set<BibEntry>> candidates = basePanel.getSearchIndex().getCandidates(searchQuery);
         return database.getEntries().parallelStream()
+                .filter(entry -> candidates.map(set -> set.contains(entry)).orElse(true))
                 .filter(searchQuery::isMatch)
                 .collect(Collectors.toList());
     }
@@ -109,6 +109,7 @@ public class SharedDatabaseUIManager {
                 Globals.prefs.getKeywordDelimiter(), Globals.prefs.getKeyPattern());
 
         dbmsSynchronizer = bibDatabaseContext.getDBMSSynchronizer();
+        dbmsSynchronizer.setSynchronizationExecutor(SwingUtilities::invokeLater);
         dbmsSynchronizer.openSharedDatabase(dbmsConnectionProperties);
         dbmsSynchronizer.registerListener(this);
         frame.output(Localization.lang("Connection to %0 server established.", dbmsConnectionProperties.getType().toString()));
@@ -137,6 +138,7 @@ public class SharedDatabaseUIManager {
         bibDatabaseContext.setDatabaseFile(parserResult.getDatabaseContext().getDatabaseFile().orElse(null));
 
         dbmsSynchronizer = bibDatabaseContext.getDBMSSynchronizer();
+        dbmsSynchronizer.setSynchronizationExecutor(SwingUtilities::invokeLater);
         dbmsSynchronizer.openSharedDatabase(dbmsConnectionProperties);
         dbmsSynchronizer.registerListener(this);
         parserResult.setDatabaseContext(bibDatabaseContext);
@@ -0,0 +1,212 @@
+package org.jabref.logic.bibtex;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.BooleanSupplier;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.AuthorList;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.FieldName;
+
+/**
+ * Blocking index for duplicate detection.
+ * <p>
+ * Comparing every pair of entries with {@link DuplicateCheck#isDuplicate(BibEntry, BibEntry, BibDatabaseMode)} is
+ * quadratic in the number of entries. This index only proposes pairs as candidates which
+ * <ul>
+ * <li>share an identifier (DOI, ISBN, eprint, ...),</li>
+ * <li>are of the same type and share the last name of the first author (or editor) and the year, or</li>
+ * <li>are of the same type and share a large part of the character n-grams of their normalized titles.</li>
+ * </ul>
+ * Only the candidates are then compared by the weighted comparison of {@link DuplicateCheck}. Hence, duplicates
+ * that agree in none of these properties are not found.
+ * <p>
+ * The index is immutable and can be used by several threads concurrently.
+ */
+public class DuplicateCandidateIndex {
+
+    private static final int TITLE_NGRAM_SIZE = 3;
+    // Fraction of the n-grams of the shorter title that have to be present in the other title
+    private static final double MIN_SHARED_TITLE_NGRAMS = 0.5;
+    // n-grams occurring in more titles are too common to separate entries (e.g., "the", "ion")
+    private static final int MAX_TITLE_NGRAM_FREQUENCY = 256;
+
+    private final List<BibEntry> entries;
+    private final Map<BibEntry, Integer> positions = new IdentityHashMap<>();
+    private final Map<String, List<Integer>> blocks = new HashMap<>();
+    private final Map<String, List<Integer>> titleNgrams = new HashMap<>();
+    private final int[] distinctiveTitleNgramCounts;
+
+    public DuplicateCandidateIndex(Collection<BibEntry> entries) {
+        this.entries = new ArrayList<>(entries);
+        for (int position = 0; position < this.entries.size(); position++) {
+            BibEntry entry = this.entries.get(position);
+            positions.put(entry, position);
+            for (String key : getBlockingKeys(entry)) {
+                blocks.computeIfAbsent(key, k -> new ArrayList<>()).add(position);
+            }
+            for (String ngram : getTitleNgrams(entry)) {
+                titleNgrams.computeIfAbsent(ngram, k -> new ArrayList<>()).add(position);
+            }
+        }
+
+        distinctiveTitleNgramCounts = new int[this.entries.size()];
+        for (List<Integer> ngramPositions : titleNgrams.values()) {
+            if (ngramPositions.size() <= MAX_TITLE_NGRAM_FREQUENCY) {
+                for (int position : ngramPositions) {
+                    distinctiveTitleNgramCounts[position]++;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the indexed entries that may be duplicates of the given entry, in the order they were indexed. The
+     * given entry itself is never part of the result.
+     */
+    public List<BibEntry> getCandidates(BibEntry entry) {
+        List<BibEntry> candidates = new ArrayList<>();
+        for (int position : getCandidatePositions(entry)) {
+            candidates.add(entries.get(position));
+        }
+        return candidates;
+    }
+
+    /**
+     * Checks all candidate pairs of the indexed entries in parallel and reports the pairs that are duplicates
+     * according to {@link DuplicateCheck#isDuplicate(BibEntry, BibEntry, BibDatabaseMode)}. Each pair is reported
+     * once, with the entry indexed first as first element. The consumers may be called concurrently.
+     *
+     * @param duplicateConsumer receives the duplicate pairs
+     * @param progressConsumer  receives the number of entries that have been checked so far
+     * @param isCancelled       stops the search as soon as it returns true
+     */
+    public void findDuplicates(BibDatabaseMode bibDatabaseMode, BiConsumer<BibEntry, BibEntry> duplicateConsumer,
+            IntConsumer progressConsumer, BooleanSupplier isCancelled) {
+        AtomicInteger checkedEntries = new AtomicInteger();
+        IntStream.range(0, entries.size()).parallel().forEach(position -> {
+            if (isCancelled.getAsBoolean()) {
+                return;
+            }
+            BibEntry entry = entries.get(position);
+            // the candidates are sorted, thus the pairs with entries indexed earlier are skipped
+            for (int candidatePosition : getCandidatePositions(entry).tailSet(position + 1)) {
+                BibEntry candidate = entries.get(candidatePosition);
+                if (DuplicateCheck.isDuplicate(entry, candidate, bibDatabaseMode)) {
+                    duplicateConsumer.accept(entry, candidate);
+                }
+            }
+            progressConsumer.accept(checkedEntries.incrementAndGet());
+        });
+    }
+
+    private TreeSet<Integer> getCandidatePositions(BibEntry entry) {
+        TreeSet<Integer> candidates = new TreeSet<>();
+        for (String key : getBlockingKeys(entry)) {
+            candidates.addAll(blocks.getOrDefault(key, Collections.emptyList()));
+        }
+        candidates.addAll(getTitleCandidatePositions(entry));
+
+        Integer ownPosition = positions.get(entry);
+        if (ownPosition != null) {
+            candidates.remove(ownPosition);
+        }
+        return candidates;
+    }
+
+    private Set<Integer> getTitleCandidatePositions(BibEntry entry) {
+        Map<Integer, Integer> sharedNgramCounts = new HashMap<>();
+        int distinctiveNgramCount = 0;
+        for (String ngram : getTitleNgrams(entry)) {
+            List<Integer> ngramPositions = titleNgrams.getOrDefault(ngram, Collections.emptyList());
+            if (ngramPositions.size() > MAX_TITLE_NGRAM_FREQUENCY) {
+                continue;
+            }
+            distinctiveNgramCount++;
+            for (int position : ngramPositions) {
+                sharedNgramCounts.merge(position, 1, Integer::sum);
+            }
+        }
+
+        Set<Integer> candidates = new HashSet<>();
+        for (Map.Entry<Integer, Integer> sharedNgramCount : sharedNgramCounts.entrySet()) {
+            int shorterTitleNgramCount = Math.min(distinctiveNgramCount,
+                    distinctiveTitleNgramCounts[sharedNgramCount.getKey()]);
+            if (sharedNgramCount.getValue() >= (MIN_SHARED_TITLE_NGRAMS * shorterTitleNgramCount)) {
+                candidates.add(sharedNgramCount.getKey());
+            }
+        }
+        return candidates;
+    }
+
+    private static Set<String> getBlockingKeys(BibEntry entry) {
+        Set<String> keys = new HashSet<>();
+
+        List<String> identifierFields = new ArrayList<>(FieldName.getIdentifierFieldNames());
+        identifierFields.add(FieldName.ISBN);
+        for (String field : identifierFields) {
+            entry.getField(field).map(DuplicateCandidateIndex::normalize)
+                    .filter(value -> !value.isEmpty())
+                    .ifPresent(value -> keys.add(field + ':' + value));
+        }
+
+        // The weighted comparison requires the entry types to be equal
+        getFirstPersonLastName(entry).ifPresent(lastName -> keys.add(entry.getType() + ':' + lastName + ':'
+                + entry.getFieldOrAlias(FieldName.YEAR).map(DuplicateCandidateIndex::normalize).orElse("")));
+
+        return keys;
+    }
+
+    private static Optional<String> getFirstPersonLastName(BibEntry entry) {
+        Optional<String> persons = entry.getField(FieldName.AUTHOR);
+        if (!persons.isPresent()) {
+            persons = entry.getField(FieldName.EDITOR);
+        }
+        return persons.map(AuthorList::parse)
+                .filter(authorList -> !authorList.isEmpty())
+                .flatMap(authorList -> authorList.getAuthor(0).getLast())
+                .map(DuplicateCandidateIndex::normalize)
+                .filter(lastName -> !lastName.isEmpty());
+    }
+
+    private static Set<String> getTitleNgrams(BibEntry entry) {
+        Set<String> ngrams = new HashSet<>();
+        Optional<String> title = entry.getField(FieldName.TITLE).map(DuplicateCandidateIndex::normalize);
+        if (title.isPresent()) {
+            String prefix = entry.getType() + ':';
+            String normalizedTitle = title.get();
+            for (int i = 0; (i + TITLE_NGRAM_SIZE) <= normalizedTitle.length(); i++) {
+                ngrams.add(prefix + normalizedTitle.substring(i, i + TITLE_NGRAM_SIZE));
+            }
+        }
+        return ngrams;
+    }
+
+    /**
+     * Keeps only letters and digits in lower case, which removes LaTeX braces, punctuation and differing spacing
+     */
+    private static String normalize(String value) {
+        StringBuilder normalized = new StringBuilder(value.length());
+        for (char character : value.toCharArray()) {
+            if (Character.isLetterOrDigit(character)) {
+                normalized.append(character);
+            }
+        }
+        return normalized.toString().toLowerCase(Locale.ROOT);
+    }
+}
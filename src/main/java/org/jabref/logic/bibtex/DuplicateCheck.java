@@ -238,6 +238,23 @@ public class DuplicateCheck {
         return Optional.empty(); // No duplicate found.
     }
 
+    /**
+     * Same as {@link #containsDuplicate(BibDatabase, BibEntry, BibDatabaseMode)}, but only compares the entry to the
+     * candidates proposed by the given index. Use this when checking many entries against the same database.
+     *
+     * @param index The index of the entries to search.
+     * @param entry The entry of which we are looking for duplicates.
+     * @return The first duplicate entry found. Empty Optional if no duplicates are found.
+     */
+    public static Optional<BibEntry> containsDuplicate(DuplicateCandidateIndex index, BibEntry entry, BibDatabaseMode bibDatabaseMode) {
+        for (BibEntry other : index.getCandidates(entry)) {
+            if (DuplicateCheck.isDuplicate(entry, other, bibDatabaseMode)) {
+                return Optional.of(other); // Duplicate found.
+            }
+        }
+        return Optional.empty(); // No duplicate found.
+    }
+
     /**
      * Compare two strings on the basis of word-by-word correlation analysis.
      *
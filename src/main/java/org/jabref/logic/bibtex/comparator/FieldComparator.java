@@ -8,6 +8,7 @@ import java.util.Locale;
 import java.util.Objects;
 import java.util.Optional;
 
+import org.jabref.logic.bibtex.comparator.SortKeyCache.SortKey;
 import org.jabref.model.entry.AuthorList;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.FieldName;
@@ -19,6 +20,9 @@ import org.jabref.model.strings.StringUtil;
 
 /**
  * A comparator for BibEntry fields
+ * <p>
+ * The field values are prepared for comparison, e.g. names are rearranged and a collation key is computed, only once
+ * per entry and kept in a {@link SortKeyCache}.
  */
 public class FieldComparator implements Comparator<BibEntry> {
 
@@ -33,6 +37,7 @@ public class FieldComparator implements Comparator<BibEntry> {
     private final FieldType fieldType;
     private final boolean isNumeric;
     private final int multiplier;
+    private final SortKeyCache sortKeyCache;
 
     public FieldComparator(String field) {
         this(field, false);
@@ -43,6 +48,15 @@ public class FieldComparator implements Comparator<BibEntry> {
     }
 
     public FieldComparator(String field, boolean descending) {
+        this(field, descending, new SortKeyCache());
+    }
+
+    /**
+     * Creates a comparator which keeps its sort keys in the given cache, which may be shared with other comparators,
+     * e.g. those of the columns of a table.
+     */
+    public FieldComparator(String field, boolean descending, SortKeyCache sortKeyCache) {
+        this.sortKeyCache = Objects.requireNonNull(sortKeyCache);
         this.fieldName = Objects.requireNonNull(field);
         this.field = fieldName.split(FieldName.FIELD_SEPARATOR);
         fieldType = determineFieldType();
@@ -85,66 +99,45 @@ public class FieldComparator implements Comparator<BibEntry> {
 
     @Override
     public int compare(BibEntry e1, BibEntry e2) {
-        String f1;
-        String f2;
+        return getSortKey(e1).compareTo(getSortKey(e2)) * multiplier;
+    }
 
+    private SortKey getSortKey(BibEntry entry) {
+        String value;
         if (fieldType == FieldType.TYPE) {
             // Sort by type.
-            f1 = e1.getType();
-            f2 = e2.getType();
+            value = entry.getType();
         } else {
-            // If the field is author or editor, we rearrange names so they are
-            // sorted according to last name.
-            f1 = getField(e1);
-            f2 = getField(e2);
+            value = getField(entry);
         }
+        return sortKeyCache.get(entry, fieldName, value, this::createSortKey);
+    }
 
-        // Catch all cases involving null:
-        if ((f1 == null) && (f2 == null)) {
-            return 0;
-        } else if (f1 == null) {
-            return multiplier;
-        } else if (f2 == null) {
-            return -multiplier;
+    private SortKey createSortKey(String value) {
+        if (value == null) {
+            return SortKey.missing();
         }
 
-        // Now we know that both f1 and f2 are != null
+        String text = value;
         if (fieldType == FieldType.NAME) {
-            f1 = AuthorList.fixAuthorForAlphabetization(f1);
-            f2 = AuthorList.fixAuthorForAlphabetization(f2);
+            // If the field is author or editor, we rearrange names so they are
+            // sorted according to last name.
+            text = AuthorList.fixAuthorForAlphabetization(value);
         } else if (fieldType == FieldType.YEAR) {
-            Integer f1year = StringUtil.intValueOfOptional(f1).orElse(0);
-            Integer f2year = StringUtil.intValueOfOptional(f2).orElse(0);
-            int comparisonResult = Integer.compare(f1year, f2year);
-            return comparisonResult * multiplier;
+            return SortKey.ofNumber(value, StringUtil.intValueOfOptional(value).orElse(0));
         } else if (fieldType == FieldType.MONTH) {
-            int month1 = Month.parse(f1).map(Month::getNumber).orElse(-1);
-            int month2 = Month.parse(f2).map(Month::getNumber).orElse(-1);
-            return Integer.compare(month1, month2) * multiplier;
+            return SortKey.ofNumber(value, Month.parse(value).map(Month::getNumber).orElse(-1));
         }
 
         if (isNumeric) {
-            Optional<Integer> i1 = StringUtil.intValueOfOptional(f1);
-            Optional<Integer> i2 = StringUtil.intValueOfOptional(f2);
-
-            if ((i2.isPresent()) && (i1.isPresent())) {
-                // Ok, parsing was successful. Update f1 and f2:
-                return i1.get().compareTo(i2.get()) * multiplier;
-            } else if (i1.isPresent()) {
-                // The first one was parseable, but not the second one.
-                // This means we consider one < two
-                return -1 * multiplier;
-            } else if (i2.isPresent()) {
-                // The second one was parseable, but not the first one.
-                // This means we consider one > two
-                return 1 * multiplier;
+            // Parseable values are sorted before the others
+            Optional<Integer> number = StringUtil.intValueOfOptional(text);
+            if (number.isPresent()) {
+                return SortKey.ofNumber(value, number.get());
             }
-            // Else none of them were parseable, and we can fall back on comparing strings.
         }
 
-        String ours = f1.toLowerCase(Locale.ENGLISH);
-        String theirs = f2.toLowerCase(Locale.ENGLISH);
-        return COLLATOR.compare(ours, theirs) * multiplier;
+        return SortKey.ofText(value, COLLATOR.getCollationKey(text.toLowerCase(Locale.ENGLISH)));
     }
 
     /**
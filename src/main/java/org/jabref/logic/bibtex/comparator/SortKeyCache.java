@@ -0,0 +1,96 @@
+package org.jabref.logic.bibtex.comparator;
+
+import java.text.CollationKey;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.FieldChangedEvent;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.eventbus.Subscribe;
+
+/**
+ * Keeps the sort keys computed by {@link FieldComparator}s, so that every entry is prepared for sorting only once per
+ * field instead of once per comparison.
+ * <p>
+ * A sort key remembers the field value it was computed from and is computed again if the value differs, so that a
+ * changed entry is never sorted by an outdated key, regardless of the order in which listeners receive the change.
+ * When the cache is registered as listener of a database, the keys of changed entries are also dropped right away.
+ * Entries are referenced weakly and compared by identity.
+ */
+public class SortKeyCache {
+
+    private final Cache<BibEntry, Map<String, SortKey>> keys = CacheBuilder.newBuilder()
+            .weakKeys()
+            .build();
+
+    SortKey get(BibEntry entry, String field, String value, Function<String, SortKey> keyFunction) {
+        Map<String, SortKey> entryKeys = keys.asMap().computeIfAbsent(entry, e -> new ConcurrentHashMap<>(4));
+        SortKey key = entryKeys.get(field);
+        if ((key == null) || !Objects.equals(key.value, value)) {
+            key = keyFunction.apply(value);
+            entryKeys.put(field, key);
+        }
+        return key;
+    }
+
+    @Subscribe
+    public void listen(FieldChangedEvent event) {
+        keys.invalidate(event.getBibEntry());
+    }
+
+    /**
+     * The prepared value of a field: missing, a number or a collation key. Numbers are sorted before texts, and
+     * missing values after all others.
+     */
+    static class SortKey implements Comparable<SortKey> {
+
+        // The field value the key was computed from, null if the field is missing
+        private final String value;
+        private final boolean numeric;
+        private final int number;
+        private final CollationKey text;
+
+        private SortKey(String value, boolean numeric, int number, CollationKey text) {
+            this.value = value;
+            this.numeric = numeric;
+            this.number = number;
+            this.text = text;
+        }
+
+        static SortKey missing() {
+            return new SortKey(null, false, 0, null);
+        }
+
+        static SortKey ofNumber(String value, int number) {
+            return new SortKey(value, true, number, null);
+        }
+
+        static SortKey ofText(String value, CollationKey text) {
+            return new SortKey(value, false, 0, text);
+        }
+
+        private boolean isMissing() {
+            return !numeric && (text == null);
+        }
+
+        @Override
+        public int compareTo(SortKey other) {
+            if (isMissing() || other.isMissing()) {
+                return Boolean.compare(isMissing(), other.isMissing());
+            }
+            if (numeric && other.numeric) {
+                return Integer.compare(number, other.number);
+            } else if (numeric) {
+                return -1;
+            } else if (other.numeric) {
+                return 1;
+            }
+            return Integer.signum(text.compareTo(other.text));
+        }
+    }
+}
@@ -1,8 +1,15 @@
 package org.jabref.logic.bibtexkeypattern;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 import org.jabref.logic.util.BracketedPattern;
 import org.jabref.model.bibtexkeypattern.AbstractBibtexKeyPattern;
@@ -11,6 +18,8 @@ import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.strings.StringUtil;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
@@ -24,6 +33,14 @@ public class BibtexKeyPatternUtil extends BracketedPattern {
     // All single characters that we can use for extending a key to make it unique:
     private static final String CHARS = "abcdefghijklmnopqrstuvwxyz";
 
+    // Field names which are expanded to the same text with or without being parsed as bracketed pattern again
+    private static final Pattern PLAIN_FIELD_NAME = Pattern.compile("[^\\\\:\\[\\]]+");
+
+    // The parts of the patterns which were used, by their complete pattern
+    private static final Cache<String, List<KeyPart>> COMPILED_PATTERNS = CacheBuilder.newBuilder()
+            .maximumSize(1000)
+            .build();
+
     private BibtexKeyPatternUtil() {
     }
 
@@ -44,56 +61,130 @@ public class BibtexKeyPatternUtil extends BracketedPattern {
         entry.setCiteKey(newKey);
     }
 
+    /**
+     * Generates and saves the labels of all given entries, like calling
+     * {@link #makeAndSetLabel(AbstractBibtexKeyPattern, BibDatabase, BibEntry, BibtexKeyPatternPreferences)} for one
+     * entry after the other.
+     *
+     * The labels are expanded from the pattern in parallel. The letters which make them unique are then added in one
+     * pass in the order of the given entries, so that the result does not depend on the number of threads. Fields
+     * referring to other entries are resolved with the keys the entries had before.
+     */
+    public static void makeAndSetLabels(AbstractBibtexKeyPattern citeKeyPattern, BibDatabase database,
+            List<BibEntry> entries, BibtexKeyPatternPreferences bibtexKeyPatternPreferences) {
+        Optional<Pattern> keyPatternRegex = getKeyPatternRegex(bibtexKeyPatternPreferences);
+        List<String> keys = entries.parallelStream()
+                .map(entry -> expandPattern(getCompiledPattern(citeKeyPattern, entry.getType()), database, entry,
+                        keyPatternRegex, bibtexKeyPatternPreferences))
+                .collect(Collectors.toList());
+
+        Map<String, Integer> usedAdditions = new HashMap<>();
+        for (int i = 0; i < entries.size(); i++) {
+            BibEntry entry = entries.get(i);
+            String oldKey = entry.getCiteKeyOptional().orElse(null);
+            String newKey = makeUniqueKey(keys.get(i), oldKey, database, bibtexKeyPatternPreferences, usedAdditions);
+            entry.setCiteKey(newKey);
+            if ((oldKey != null) && !oldKey.equals(newKey)) {
+                forgetUsedAdditions(oldKey, usedAdditions);
+            }
+        }
+    }
+
     private static String makeLabel(AbstractBibtexKeyPattern citeKeyPattern, BibDatabase database, BibEntry entry, BibtexKeyPatternPreferences bibtexKeyPatternPreferences) {
-        String key;
-        StringBuilder stringBuilder = new StringBuilder();
+        String key = expandPattern(getCompiledPattern(citeKeyPattern, entry.getType()), database, entry,
+                getKeyPatternRegex(bibtexKeyPatternPreferences), bibtexKeyPatternPreferences);
+        String oldKey = entry.getCiteKeyOptional().orElse(null);
+        return makeUniqueKey(key, oldKey, database, bibtexKeyPatternPreferences, new HashMap<>());
+    }
+
+    /**
+     * Returns the parts of the pattern for the given entry type. The pattern is only split into its parts the first
+     * time it is used.
+     */
+    private static List<KeyPart> getCompiledPattern(AbstractBibtexKeyPattern citeKeyPattern, String entryType) {
+        // Get the arrayList corresponding to the type, its first element is the complete pattern
+        List<String> typeList = citeKeyPattern.getValue(entryType);
+        if (typeList.isEmpty()) {
+            return Collections.emptyList();
+        }
         try {
-            // get the type of entry
-            String entryType = entry.getType();
-            // Get the arrayList corresponding to the type
-            List<String> typeList = new ArrayList<>(citeKeyPattern.getValue(entryType));
-            if (!typeList.isEmpty()) {
-                typeList.remove(0);
-            }
-            boolean field = false;
-            for (String typeListEntry : typeList) {
-                if ("[".equals(typeListEntry)) {
-                    field = true;
-                } else if ("]".equals(typeListEntry)) {
-                    field = false;
-                } else if (field) {
-                    // check whether there is a modifier on the end such as
-                    // ":lower"
-                    List<String> parts = parseFieldMarker(typeListEntry);
-                    Character delimiter = bibtexKeyPatternPreferences.getKeywordDelimiter();
-                    String pattern = "[" + parts.get(0) + "]";
-                    String label = expandBrackets(pattern, delimiter, entry, database);
-                    // apply modifier if present
-                    if (parts.size() > 1) {
-                        label = applyModifiers(label, parts, 1);
-                    }
-
-                    stringBuilder.append(label);
+            return COMPILED_PATTERNS.get(typeList.get(0), () -> compilePattern(typeList.subList(1, typeList.size())));
+        } catch (ExecutionException e) {
+            LOGGER.warn("Cannot compile key pattern " + typeList.get(0), e);
+            return compilePattern(typeList.subList(1, typeList.size()));
+        }
+    }
 
+    private static List<KeyPart> compilePattern(List<String> typeList) {
+        List<KeyPart> parts = new ArrayList<>();
+        boolean field = false;
+        for (String typeListEntry : typeList) {
+            if ("[".equals(typeListEntry)) {
+                field = true;
+            } else if ("]".equals(typeListEntry)) {
+                field = false;
+            } else if (field) {
+                // check whether there is a modifier on the end such as
+                // ":lower"
+                List<String> fieldParts = parseFieldMarker(typeListEntry);
+                String fieldName = fieldParts.get(0);
+                if (PLAIN_FIELD_NAME.matcher(fieldName).matches()) {
+                    parts.add((entry, delimiter, database) -> applyModifiers(
+                            getFieldValue(entry, fieldName, delimiter, database), fieldParts, 1));
                 } else {
-                    stringBuilder.append(typeListEntry);
+                    // escaped characters are expanded again, like in any bracketed pattern
+                    String pattern = "[" + fieldName + "]";
+                    parts.add((entry, delimiter, database) -> applyModifiers(
+                            expandBrackets(pattern, delimiter, entry, database), fieldParts, 1));
                 }
+            } else {
+                parts.add((entry, delimiter, database) -> typeListEntry);
+            }
+        }
+        return parts;
+    }
+
+    /**
+     * Expands the pattern for the given entry to a legal key, which might not be unique
+     */
+    private static String expandPattern(List<KeyPart> compiledPattern, BibDatabase database, BibEntry entry,
+            Optional<Pattern> keyPatternRegex, BibtexKeyPatternPreferences bibtexKeyPatternPreferences) {
+        StringBuilder stringBuilder = new StringBuilder();
+        try {
+            Character delimiter = bibtexKeyPatternPreferences.getKeywordDelimiter();
+            for (KeyPart part : compiledPattern) {
+                stringBuilder.append(part.expand(entry, delimiter, database));
             }
         } catch (Exception e) {
             LOGGER.warn("Cannot make label", e);
         }
 
         // Remove all illegal characters from the key.
-        key = checkLegalKey(stringBuilder.toString(), bibtexKeyPatternPreferences.isEnforceLegalKey());
+        String key = checkLegalKey(stringBuilder.toString(), bibtexKeyPatternPreferences.isEnforceLegalKey());
 
         // Remove Regular Expressions while generating Keys
+        if (keyPatternRegex.isPresent()) {
+            key = keyPatternRegex.get().matcher(key).replaceAll(bibtexKeyPatternPreferences.getKeyPatternReplacement());
+        }
+        return key;
+    }
+
+    private static Optional<Pattern> getKeyPatternRegex(BibtexKeyPatternPreferences bibtexKeyPatternPreferences) {
         String regex = bibtexKeyPatternPreferences.getKeyPatternRegex();
         if ((regex != null) && !regex.trim().isEmpty()) {
-            String replacement = bibtexKeyPatternPreferences.getKeyPatternReplacement();
-            key = key.replaceAll(regex, replacement);
+            return Optional.of(Pattern.compile(regex));
         }
+        return Optional.empty();
+    }
 
-        String oldKey = entry.getCiteKeyOptional().orElse(null);
+    /**
+     * Adds letters to the key until no other entry of the database uses it.
+     *
+     * @param usedAdditions for keys which got letters before, the number of the first letters which might be unused.
+     *                      All smaller numbers are used by other entries.
+     */
+    private static String makeUniqueKey(String key, String oldKey, BibDatabase database,
+            BibtexKeyPatternPreferences bibtexKeyPatternPreferences, Map<String, Integer> usedAdditions) {
         int occurrences = database.getDuplicationChecker().getNumberOfKeyOccurrences(key);
 
         if (Objects.equals(oldKey, key)) {
@@ -109,6 +200,10 @@ public class BibtexKeyPatternUtil extends BracketedPattern {
         } else {
             // The key is already in use, so we must modify it.
             int number = !alwaysAddLetter && !firstLetterA ? 1 : 0;
+            // The entry may keep its own key, even if it is among the ones known to be used
+            if ((oldKey == null) || !oldKey.startsWith(key)) {
+                number = Math.max(number, usedAdditions.getOrDefault(key, number));
+            }
             String moddedKey;
 
             do {
@@ -122,11 +217,22 @@ public class BibtexKeyPatternUtil extends BracketedPattern {
                 }
             } while (occurrences > 0);
 
+            usedAdditions.put(key, number);
             newKey = moddedKey;
         }
         return newKey;
     }
 
+    /**
+     * Forgets the used letters of all keys which the given key might have been made unique from, as it is no longer
+     * used
+     */
+    private static void forgetUsedAdditions(String releasedKey, Map<String, Integer> usedAdditions) {
+        for (int i = releasedKey.length() - 1; (i >= 0) && (CHARS.indexOf(releasedKey.charAt(i)) >= 0); i--) {
+            usedAdditions.remove(releasedKey.substring(0, i));
+        }
+    }
+
     public static String makeLabel(BibEntry entry, String value, Character keywordDelimiter, BibDatabase database) {
         return expandBrackets("[" + value + "]", keywordDelimiter, entry, database);
     }
@@ -195,4 +301,12 @@ public class BibtexKeyPatternUtil extends BracketedPattern {
         AbstractBibtexKeyPattern citeKeyPattern = bibDatabaseContext.getMetaData().getCiteKeyPattern(bibtexKeyPatternPreferences.getKeyPattern());
         return makeLabel(citeKeyPattern, bibDatabaseContext.getDatabase(), entry, bibtexKeyPatternPreferences);
     }
+
+    /**
+     * A part of a key pattern, either text or a field marker with its modifiers
+     */
+    @FunctionalInterface
+    private interface KeyPart {
+        String expand(BibEntry entry, Character keywordDelimiter, BibDatabase database);
+    }
 }
@@ -0,0 +1,277 @@
+package org.jabref.logic.bst;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.jabref.logic.bst.BstProgram.Block;
+import org.jabref.logic.bst.BstProgram.Builtin;
+import org.jabref.logic.bst.BstProgram.Command;
+import org.jabref.logic.bst.BstProgram.Symbol;
+import org.jabref.model.entry.FieldName;
+
+import org.antlr.runtime.tree.CommonTree;
+import org.antlr.runtime.tree.Tree;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Lowers the syntax tree of a .bst file to a {@link BstProgram}.
+ * <p>
+ * First, all names declared by the file are collected and numbered per kind. Then every function body is compiled to
+ * a {@link Block}, in which each name is replaced by an instruction accessing the numbered declaration. If a name is
+ * declared as several kinds, e.g. as a field and as a function, the declaration is chosen when the instruction is
+ * executed, in the same order as {@link VM} does.
+ * <p>
+ * {@link VM} looks up the declarations at the time a name is executed. The compiled program knows all declarations
+ * of the file in advance, but it only uses a declaration after the command declaring it was run, so that it behaves
+ * the same.
+ */
+class BstCompiler {
+
+    private static final Log LOGGER = LogFactory.getLog(BstCompiler.class);
+
+    private static final String SORT_KEY = "sort.key$";
+
+    private final Map<String, Integer> fields = new LinkedHashMap<>();
+    private final Map<String, Integer> localStrings = new LinkedHashMap<>();
+    private final Map<String, Integer> localIntegers = new LinkedHashMap<>();
+    private final Map<String, Integer> globalStrings = new LinkedHashMap<>();
+    private final Map<String, Integer> globalIntegers = new LinkedHashMap<>();
+    private final Map<String, Integer> functions = new LinkedHashMap<>();
+    // Names of functions defined by the file, which may replace built-in functions
+    private final Set<String> definedFunctions = new HashSet<>();
+    private final Map<String, Symbol> symbols = new HashMap<>();
+
+    BstProgram compile(CommonTree tree, Path file) {
+        declareAll(tree);
+
+        List<Command> commands = new ArrayList<>(tree.getChildCount());
+        for (int i = 0; i < tree.getChildCount(); i++) {
+            compileCommand(tree.getChild(i)).ifPresent(commands::add);
+        }
+
+        Object[] initialFunctions = new Object[functions.size()];
+        for (Map.Entry<String, Integer> function : functions.entrySet()) {
+            initialFunctions[function.getValue()] = Builtin.fromName(function.getKey()).orElse(null);
+        }
+
+        // call.type$ looks up the type of an entry as a name at runtime
+        for (Map<String, Integer> slots : Arrays.asList(fields, localStrings, localIntegers, globalStrings,
+                globalIntegers, functions)) {
+            slots.keySet().forEach(this::getSymbol);
+        }
+
+        return new BstProgram(names(fields), names(localStrings), names(localIntegers), names(globalStrings),
+                names(globalIntegers), names(functions), initialFunctions, symbols, localStrings.get(SORT_KEY),
+                fields.get(FieldName.CROSSREF), commands.toArray(new Command[commands.size()]), file);
+    }
+
+    private static String[] names(Map<String, Integer> slots) {
+        return slots.keySet().toArray(new String[slots.size()]);
+    }
+
+    private static void declare(Map<String, Integer> slots, String name) {
+        slots.putIfAbsent(name, slots.size());
+    }
+
+    private static int[] declareList(Map<String, Integer> slots, Tree idList) {
+        int[] declared = new int[idList.getChildCount()];
+        for (int i = 0; i < idList.getChildCount(); i++) {
+            String name = idList.getChild(i).getText();
+            declare(slots, name);
+            declared[i] = slots.get(name);
+        }
+        return declared;
+    }
+
+    /**
+     * Collects the names declared by the commands of the file
+     */
+    private void declareAll(CommonTree tree) {
+        globalIntegers.put("entry.max$", 0);
+        globalIntegers.put("global.max$", 1);
+        for (Builtin builtin : Builtin.VALUES) {
+            declare(functions, builtin.getName());
+        }
+        // always declared, but only in effect after the ENTRY and READ commands
+        declare(localStrings, SORT_KEY);
+        declare(fields, FieldName.CROSSREF);
+
+        for (int i = 0; i < tree.getChildCount(); i++) {
+            Tree child = tree.getChild(i);
+            switch (child.getType()) {
+            case BstParser.STRINGS:
+                declareList(globalStrings, child.getChild(0));
+                break;
+            case BstParser.INTEGERS:
+                declareList(globalIntegers, child.getChild(0));
+                break;
+            case BstParser.ENTRY:
+                declareList(fields, child.getChild(0));
+                declareList(localIntegers, child.getChild(1));
+                declareList(localStrings, child.getChild(2));
+                break;
+            case BstParser.FUNCTION:
+            case BstParser.MACRO:
+                String name = child.getChild(0).getText();
+                declare(functions, name);
+                definedFunctions.add(name);
+                break;
+            default:
+                break;
+            }
+        }
+    }
+
+    private Optional<Command> compileCommand(Tree child) {
+        switch (child.getType()) {
+        case BstParser.STRINGS:
+            return Optional.of(new Command(BstParser.STRINGS, declareList(globalStrings, child.getChild(0)), null));
+        case BstParser.INTEGERS:
+            return Optional.of(new Command(BstParser.INTEGERS, declareList(globalIntegers, child.getChild(0)), null));
+        case BstParser.FUNCTION:
+            return Optional.of(new Command(BstParser.FUNCTION, getFunctionSlot(child.getChild(0).getText()),
+                    compileBlock(child.getChild(1))));
+        case BstParser.MACRO:
+            // The replacement is pushed including its quotes
+            return Optional.of(new Command(BstParser.MACRO, getFunctionSlot(child.getChild(0).getText()),
+                    child.getChild(1).getText()));
+        case BstParser.EXECUTE:
+            return Optional.of(new Command(BstParser.EXECUTE, null, getSymbol(child.getChild(0).getText())));
+        case BstParser.ITERATE:
+        case BstParser.REVERSE:
+            String function = child.getChild(0).getText();
+            return Optional.of(new Command(child.getType(), getFunctionSlot(function), function));
+        case BstParser.ENTRY:
+            int[][] entryVariables = new int[][] {
+                    declareList(fields, child.getChild(0)),
+                    declareList(localIntegers, child.getChild(1)),
+                    append(declareList(localStrings, child.getChild(2)), localStrings.get(SORT_KEY))};
+            return Optional.of(new Command(BstParser.ENTRY, null, entryVariables));
+        case BstParser.READ:
+        case BstParser.SORT:
+            return Optional.of(new Command(child.getType(), null, null));
+        default:
+            LOGGER.info("Unknown type: " + child.getType());
+            return Optional.empty();
+        }
+    }
+
+    private static int[] append(int[] slots, int slot) {
+        int[] result = new int[slots.length + 1];
+        System.arraycopy(slots, 0, result, 0, slots.length);
+        result[slots.length] = slot;
+        return result;
+    }
+
+    private int[] getFunctionSlot(String name) {
+        Integer slot = functions.get(name);
+        return new int[] {slot == null ? -1 : slot};
+    }
+
+    private Block compileBlock(Tree tree) {
+        int size = tree.getChildCount();
+        int[] code = new int[2 * size];
+        int[] lines = new int[size];
+        List<Object> constants = new ArrayList<>();
+
+        for (int i = 0; i < size; i++) {
+            Tree item = tree.getChild(i);
+            lines[i] = item.getLine();
+            int operation;
+            int operand;
+            switch (item.getType()) {
+            case BstParser.STRING:
+                String s = item.getText();
+                operation = BstProgram.PUSH_CONSTANT;
+                operand = addConstant(constants, s.substring(1, s.length() - 1));
+                break;
+            case BstParser.INTEGER:
+                operation = BstProgram.PUSH_INTEGER;
+                operand = Integer.parseInt(item.getText().substring(1));
+                break;
+            case BstParser.QUOTED:
+                operation = BstProgram.PUSH_CONSTANT;
+                operand = addConstant(constants, getSymbol(item.getText().substring(1)));
+                break;
+            case BstParser.STACK:
+                operation = BstProgram.PUSH_CONSTANT;
+                operand = addConstant(constants, compileBlock(item));
+                break;
+            default:
+                Symbol symbol = getSymbol(item.getText());
+                if (symbol.kinds.length == 1) {
+                    operation = getLoadOperation(symbol);
+                    operand = symbol.slots[0];
+                    if ((operation == BstProgram.CALL) && !definedFunctions.contains(symbol.name)) {
+                        // the built-in function cannot be replaced
+                        operation = BstProgram.BUILTIN;
+                        operand = Builtin.fromName(symbol.name).get().ordinal();
+                    }
+                } else {
+                    operation = BstProgram.RESOLVE;
+                    operand = addConstant(constants, symbol);
+                }
+                break;
+            }
+            code[2 * i] = operation;
+            code[(2 * i) + 1] = operand;
+        }
+        return new Block(code, constants.toArray(), lines);
+    }
+
+    private static int getLoadOperation(Symbol symbol) {
+        switch (symbol.kinds[0]) {
+        case BstProgram.FIELD:
+            return BstProgram.LOAD_FIELD;
+        case BstProgram.LOCAL_STRING:
+            return BstProgram.LOAD_LOCAL_STRING;
+        case BstProgram.LOCAL_INTEGER:
+            return BstProgram.LOAD_LOCAL_INTEGER;
+        case BstProgram.GLOBAL_STRING:
+            return BstProgram.LOAD_GLOBAL_STRING;
+        case BstProgram.GLOBAL_INTEGER:
+            return BstProgram.LOAD_GLOBAL_INTEGER;
+        default:
+            return BstProgram.CALL;
+        }
+    }
+
+    private static int addConstant(List<Object> constants, Object constant) {
+        constants.add(constant);
+        return constants.size() - 1;
+    }
+
+    /**
+     * Returns the symbol of the given name, listing its declarations in the order in which {@link VM} looks them up
+     */
+    private Symbol getSymbol(String name) {
+        return symbols.computeIfAbsent(name, key -> {
+            List<Integer> kinds = new ArrayList<>(1);
+            List<Integer> slots = new ArrayList<>(1);
+            addDeclaration(kinds, slots, BstProgram.FIELD, fields.get(name));
+            addDeclaration(kinds, slots, BstProgram.LOCAL_STRING, localStrings.get(name));
+            addDeclaration(kinds, slots, BstProgram.LOCAL_INTEGER, localIntegers.get(name));
+            addDeclaration(kinds, slots, BstProgram.GLOBAL_STRING, globalStrings.get(name));
+            addDeclaration(kinds, slots, BstProgram.GLOBAL_INTEGER, globalIntegers.get(name));
+            addDeclaration(kinds, slots, BstProgram.FUNCTION, functions.get(name));
+            return new Symbol(name, kinds.stream().mapToInt(Integer::intValue).toArray(),
+                    slots.stream().mapToInt(Integer::intValue).toArray());
+        });
+    }
+
+    private static void addDeclaration(List<Integer> kinds, List<Integer> slots, int kind, Integer slot) {
+        if (slot != null) {
+            kinds.add(kind);
+            slots.add(slot);
+        }
+    }
+}
@@ -0,0 +1,920 @@
+package org.jabref.logic.bst;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EmptyStackException;
+import java.util.List;
+import java.util.Locale;
+
+import org.jabref.logic.bst.BibtexCaseChanger.FORMAT_MODE;
+import org.jabref.logic.bst.BstProgram.Block;
+import org.jabref.logic.bst.BstProgram.Builtin;
+import org.jabref.logic.bst.BstProgram.Command;
+import org.jabref.logic.bst.BstProgram.Symbol;
+import org.jabref.model.entry.Author;
+import org.jabref.model.entry.AuthorList;
+import org.jabref.model.entry.BibEntry;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Executes a {@link BstProgram} once. The functions behave exactly like the ones of {@link VM}, including their error
+ * messages.
+ * <p>
+ * The operand stack stores integers unboxed: an integer is stored in {@link #stackIntegers}, and the corresponding
+ * element of {@link #stackValues} is set to {@link #INTEGER}. All other elements are strings, <code>null</code> for
+ * missing fields, quoted names ({@link Symbol}) or blocks.
+ */
+class BstMachine implements Warn {
+
+    private static final Log LOGGER = LogFactory.getLog(BstMachine.class);
+
+    private static final Object INTEGER = new Object();
+    private static final int TRUE = 1;
+    private static final int FALSE = 0;
+    private static final int INITIAL_STACK_SIZE = 64;
+
+    private final BstProgram program;
+    private final String preamble;
+    private final StringBuilder bbl = new StringBuilder();
+
+    // Variables are only visible after they were declared, see BstCompiler
+    private final boolean[] fieldDeclared;
+    private final boolean[] localStringDeclared;
+    private final boolean[] localIntegerDeclared;
+    private final boolean[] globalStringDeclared;
+    private final boolean[] globalIntegerDeclared;
+    private final String[] globalStrings;
+    private final int[] globalIntegers;
+    // A block, a built-in function or the string of a macro per function slot, null if not defined (yet)
+    private final Object[] functions;
+
+    private List<EntryState> entries;
+
+    private Object[] stackValues = new Object[INITIAL_STACK_SIZE];
+    private int[] stackIntegers = new int[INITIAL_STACK_SIZE];
+    private int stackSize;
+
+    private int warning = 1;
+
+    BstMachine(BstProgram program, String preamble) {
+        this.program = program;
+        this.preamble = preamble;
+
+        fieldDeclared = new boolean[program.fieldNames.length];
+        localStringDeclared = new boolean[program.localStringNames.length];
+        localIntegerDeclared = new boolean[program.localIntegerNames.length];
+        globalStringDeclared = new boolean[program.globalStringNames.length];
+        globalIntegerDeclared = new boolean[program.globalIntegerNames.length];
+        globalStrings = new String[program.globalStringNames.length];
+        globalIntegers = new int[program.globalIntegerNames.length];
+        functions = program.initialFunctions.clone();
+
+        // entry.max$ and global.max$
+        for (int i = 0; i < 2; i++) {
+            globalIntegerDeclared[i] = true;
+            globalIntegers[i] = Integer.MAX_VALUE;
+        }
+    }
+
+    String run(Collection<BibEntry> bibtex) {
+        entries = new ArrayList<>(bibtex.size());
+        for (BibEntry entry : bibtex) {
+            entries.add(new EntryState(entry, program));
+        }
+
+        for (Command command : program.commands) {
+            switch (command.type) {
+            case BstParser.STRINGS:
+                for (int slot : command.slots) {
+                    globalStringDeclared[slot] = true;
+                    globalStrings[slot] = null;
+                }
+                break;
+            case BstParser.INTEGERS:
+                for (int slot : command.slots) {
+                    globalIntegerDeclared[slot] = true;
+                    globalIntegers[slot] = 0;
+                }
+                break;
+            case BstParser.FUNCTION:
+            case BstParser.MACRO:
+                functions[command.slots[0]] = command.operand;
+                break;
+            case BstParser.EXECUTE:
+                execute((Symbol) command.operand, null);
+                break;
+            case BstParser.SORT:
+                entries.sort((o1, o2) -> o1.strings[program.sortKeySlot].compareTo(o2.strings[program.sortKeySlot]));
+                break;
+            case BstParser.ITERATE:
+                Object iterated = getFunction(command);
+                for (EntryState entry : entries) {
+                    call(iterated, entry);
+                }
+                break;
+            case BstParser.REVERSE:
+                Object reversed = getFunction(command);
+                for (int i = entries.size() - 1; i >= 0; i--) {
+                    call(reversed, entries.get(i));
+                }
+                break;
+            case BstParser.ENTRY:
+                entry((int[][]) command.operand);
+                break;
+            case BstParser.READ:
+                read();
+                break;
+            default:
+                break;
+            }
+        }
+
+        return bbl.toString();
+    }
+
+    private Object getFunction(Command command) {
+        int slot = command.slots[0];
+        if ((slot < 0) || (functions[slot] == null)) {
+            throw new VMException("No matching identifier found: " + command.operand);
+        }
+        return functions[slot];
+    }
+
+    private void entry(int[][] variables) {
+        for (int slot : variables[0]) {
+            fieldDeclared[slot] = true;
+            for (EntryState entry : entries) {
+                entry.fields[slot] = null;
+            }
+        }
+        for (int slot : variables[1]) {
+            localIntegerDeclared[slot] = true;
+            for (EntryState entry : entries) {
+                entry.integers[slot] = 0;
+            }
+        }
+        for (int slot : variables[2]) {
+            localStringDeclared[slot] = true;
+            for (EntryState entry : entries) {
+                entry.strings[slot] = null;
+            }
+        }
+    }
+
+    private void read() {
+        if (entries.isEmpty()) {
+            return;
+        }
+        for (int slot = 0; slot < fieldDeclared.length; slot++) {
+            if (fieldDeclared[slot]) {
+                for (EntryState entry : entries) {
+                    entry.fields[slot] = entry.entry.getField(program.fieldNames[slot]).orElse(null);
+                }
+            }
+        }
+        if (!fieldDeclared[program.crossrefSlot]) {
+            fieldDeclared[program.crossrefSlot] = true;
+            for (EntryState entry : entries) {
+                entry.fields[program.crossrefSlot] = null;
+            }
+        }
+    }
+
+    private void execute(Block block, EntryState context) {
+        int[] code = block.code;
+        for (int pc = 0; pc < code.length; pc += 2) {
+            int operand = code[pc + 1];
+            try {
+                switch (code[pc]) {
+                case BstProgram.PUSH_CONSTANT:
+                    push(block.constants[operand]);
+                    break;
+                case BstProgram.PUSH_INTEGER:
+                    push(operand);
+                    break;
+                case BstProgram.LOAD_FIELD:
+                    if ((context == null) || !fieldDeclared[operand]) {
+                        throw noMatchingIdentifier(program.fieldNames[operand]);
+                    }
+                    push(context.fields[operand]);
+                    break;
+                case BstProgram.LOAD_LOCAL_STRING:
+                    if ((context == null) || !localStringDeclared[operand]) {
+                        throw noMatchingIdentifier(program.localStringNames[operand]);
+                    }
+                    push(context.strings[operand]);
+                    break;
+                case BstProgram.LOAD_LOCAL_INTEGER:
+                    if ((context == null) || !localIntegerDeclared[operand]) {
+                        throw noMatchingIdentifier(program.localIntegerNames[operand]);
+                    }
+                    push(context.integers[operand]);
+                    break;
+                case BstProgram.LOAD_GLOBAL_STRING:
+                    if (!globalStringDeclared[operand]) {
+                        throw noMatchingIdentifier(program.globalStringNames[operand]);
+                    }
+                    push(globalStrings[operand]);
+                    break;
+                case BstProgram.LOAD_GLOBAL_INTEGER:
+                    if (!globalIntegerDeclared[operand]) {
+                        throw noMatchingIdentifier(program.globalIntegerNames[operand]);
+                    }
+                    push(globalIntegers[operand]);
+                    break;
+                case BstProgram.CALL:
+                    if (functions[operand] == null) {
+                        throw noMatchingIdentifier(program.functionNames[operand]);
+                    }
+                    call(functions[operand], context);
+                    break;
+                case BstProgram.BUILTIN:
+                    callBuiltin(Builtin.VALUES[operand], context);
+                    break;
+                default:
+                    execute((Symbol) block.constants[operand], context);
+                    break;
+                }
+            } catch (VMException e) {
+                int line = block.lines[pc / 2];
+                if (program.file == null) {
+                    LOGGER.error("ERROR " + e.getMessage() + " (" + line + ")");
+                } else {
+                    LOGGER.error("ERROR " + e.getMessage() + " (" + program.file + ":" + line + ")");
+                }
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Executes the first declaration of the given name which is in effect
+     */
+    private void execute(Symbol symbol, EntryState context) {
+        for (int i = 0; i < symbol.kinds.length; i++) {
+            int slot = symbol.slots[i];
+            switch (symbol.kinds[i]) {
+            case BstProgram.FIELD:
+                if ((context != null) && fieldDeclared[slot]) {
+                    push(context.fields[slot]);
+                    return;
+                }
+                break;
+            case BstProgram.LOCAL_STRING:
+                if ((context != null) && localStringDeclared[slot]) {
+                    push(context.strings[slot]);
+                    return;
+                }
+                break;
+            case BstProgram.LOCAL_INTEGER:
+                if ((context != null) && localIntegerDeclared[slot]) {
+                    push(context.integers[slot]);
+                    return;
+                }
+                break;
+            case BstProgram.GLOBAL_STRING:
+                if (globalStringDeclared[slot]) {
+                    push(globalStrings[slot]);
+                    return;
+                }
+                break;
+            case BstProgram.GLOBAL_INTEGER:
+                if (globalIntegerDeclared[slot]) {
+                    push(globalIntegers[slot]);
+                    return;
+                }
+                break;
+            default:
+                if (functions[slot] != null) {
+                    call(functions[slot], context);
+                    return;
+                }
+                break;
+            }
+        }
+        throw noMatchingIdentifier(symbol.name);
+    }
+
+    private static VMException noMatchingIdentifier(String name) {
+        return new VMException("No matching identifier found: " + name);
+    }
+
+    private void call(Object function, EntryState context) {
+        if (function instanceof Block) {
+            execute((Block) function, context);
+        } else if (function instanceof Builtin) {
+            callBuiltin((Builtin) function, context);
+        } else {
+            // a macro
+            push(function);
+        }
+    }
+
+    private void executeInContext(Object o, EntryState context) {
+        if (o instanceof Block) {
+            execute((Block) o, context);
+        } else if (o instanceof Symbol) {
+            execute((Symbol) o, context);
+        }
+    }
+
+    private static boolean isFunction(Object o) {
+        return (o instanceof Symbol) || (o instanceof Block);
+    }
+
+    private void push(Object value) {
+        if (stackSize == stackValues.length) {
+            stackValues = Arrays.copyOf(stackValues, 2 * stackSize);
+            stackIntegers = Arrays.copyOf(stackIntegers, 2 * stackSize);
+        }
+        stackValues[stackSize++] = value;
+    }
+
+    private void push(int value) {
+        push(INTEGER);
+        stackIntegers[stackSize - 1] = value;
+    }
+
+    /**
+     * Pops the top element, boxing it if it is an integer
+     */
+    private Object pop() {
+        if (stackSize == 0) {
+            throw new EmptyStackException();
+        }
+        stackSize--;
+        Object value = stackValues[stackSize];
+        stackValues[stackSize] = null;
+        return value == INTEGER ? Integer.valueOf(stackIntegers[stackSize]) : value;
+    }
+
+    private boolean topIsInteger(int depth) {
+        return stackValues[stackSize - 1 - depth] == INTEGER;
+    }
+
+    private int topInteger(int depth) {
+        return stackIntegers[stackSize - 1 - depth];
+    }
+
+    private void callBuiltin(Builtin builtin, EntryState context) {
+        switch (builtin) {
+        case GREATER:
+            compare(">", true);
+            break;
+        case LESS:
+            compare("<", false);
+            break;
+        case EQUALS:
+            equalsFunction();
+            break;
+        case PLUS:
+            arithmetic("+", "Can only compare two integers with +", true);
+            break;
+        case MINUS:
+            arithmetic("-", "Can only subtract two integers with -", false);
+            break;
+        case CONCATENATE:
+            concatenate();
+            break;
+        case ASSIGN:
+            assign(context);
+            break;
+        case ADD_PERIOD:
+            addPeriod();
+            break;
+        case CALL_TYPE:
+            if (context == null) {
+                throw new VMException("Call.type$ can only be called from within a context (ITERATE or REVERSE).");
+            }
+            String type = context.entry.getType();
+            execute(program.getSymbol(type).orElseThrow(() -> noMatchingIdentifier(type)), context);
+            break;
+        case CHANGE_CASE:
+            changeCase();
+            break;
+        case CHR_TO_INT:
+            chrToInt();
+            break;
+        case CITE:
+            if (context == null) {
+                throw new VMException("Must have an entry to cite$");
+            }
+            push(context.entry.getCiteKeyOptional().orElse(null));
+            break;
+        case DUPLICATE:
+            if (stackSize == 0) {
+                throw new VMException("Not enough operands on stack for operation duplicate$");
+            }
+            push(stackValues[stackSize - 1]);
+            stackIntegers[stackSize - 1] = stackIntegers[stackSize - 2];
+            break;
+        case EMPTY:
+            empty();
+            break;
+        case FORMAT_NAME:
+            formatName();
+            break;
+        case IF:
+            ifFunction(context);
+            break;
+        case INT_TO_CHR:
+            intToChr();
+            break;
+        case INT_TO_STR:
+            intToStr();
+            break;
+        case MISSING:
+            missing();
+            break;
+        case NEWLINE:
+            bbl.append('\n');
+            break;
+        case NUM_NAMES:
+            numNames();
+            break;
+        case POP:
+            pop();
+            break;
+        case PREAMBLE:
+            push(preamble);
+            break;
+        case PURIFY:
+            purify();
+            break;
+        case QUOTE:
+            push("\"");
+            break;
+        case SKIP:
+            break;
+        case STACK:
+            while (stackSize > 0) {
+                LOGGER.debug(pop());
+            }
+            break;
+        case SUBSTRING:
+            substring();
+            break;
+        case SWAP:
+            swap();
+            break;
+        case TEXT_LENGTH:
+            textLength();
+            break;
+        case TEXT_PREFIX:
+            textPrefix();
+            break;
+        case TOP:
+            LOGGER.debug(pop());
+            break;
+        case TYPE:
+            if (context == null) {
+                throw new VMException("type$ need a context.");
+            }
+            push(context.entry.getType());
+            break;
+        case WARNING:
+            LOGGER.warn("Warning (#" + (warning++) + "): " + pop());
+            break;
+        case WHILE:
+            whileFunction(context);
+            break;
+        case WIDTH:
+            width();
+            break;
+        default:
+            // write$
+            bbl.append((String) pop());
+            break;
+        }
+    }
+
+    private void compare(String operation, boolean greater) {
+        if (stackSize < 2) {
+            throw new VMException("Not enough operands on stack for operation " + operation);
+        }
+        if (!(topIsInteger(0) && topIsInteger(1))) {
+            pop();
+            pop();
+            throw new VMException("Can only compare two integers with " + operation);
+        }
+        int o2 = topInteger(0);
+        int o1 = topInteger(1);
+        stackSize -= 2;
+        push((greater ? o1 > o2 : o1 < o2) ? TRUE : FALSE);
+    }
+
+    private void arithmetic(String operation, String error, boolean add) {
+        if (stackSize < 2) {
+            throw new VMException("Not enough operands on stack for operation " + operation);
+        }
+        if (!(topIsInteger(0) && topIsInteger(1))) {
+            pop();
+            pop();
+            throw new VMException(error);
+        }
+        int o2 = topInteger(0);
+        int o1 = topInteger(1);
+        stackSize -= 2;
+        push(add ? o1 + o2 : o1 - o2);
+    }
+
+    private void equalsFunction() {
+        if (stackSize < 2) {
+            throw new VMException("Not enough operands on stack for operation =");
+        }
+        if (topIsInteger(0) && topIsInteger(1)) {
+            boolean equal = topInteger(0) == topInteger(1);
+            stackSize -= 2;
+            push(equal ? TRUE : FALSE);
+            return;
+        }
+        Object o1 = pop();
+        Object o2 = pop();
+
+        if ((o1 == null) ^ (o2 == null)) {
+            push(FALSE);
+            return;
+        }
+
+        if ((o1 == null) && (o2 == null)) {
+            push(TRUE);
+            return;
+        }
+
+        push(o1.equals(o2) ? TRUE : FALSE);
+    }
+
+    private void concatenate() {
+        if (stackSize < 2) {
+            throw new VMException("Not enough operands on stack for operation *");
+        }
+        Object o2 = pop();
+        Object o1 = pop();
+
+        if (!((o1 instanceof String) && (o2 instanceof String))) {
+            throw new VMException("Can only concatenate two String with *");
+        }
+
+        push(o1.toString() + o2);
+    }
+
+    private void assign(EntryState context) {
+        if (stackSize < 2) {
+            throw new VMException("Invalid call to operation :=");
+        }
+        Object o1 = pop();
+        boolean isInteger = topIsInteger(0);
+        int integer = topInteger(0);
+        Object o2 = pop();
+
+        if (!(o1 instanceof Symbol) || !((o2 instanceof String) || isInteger)) {
+            throw new VMException("Invalid parameters");
+        }
+
+        Symbol symbol = (Symbol) o1;
+        int localKind = isInteger ? BstProgram.LOCAL_INTEGER : BstProgram.LOCAL_STRING;
+        int globalKind = isInteger ? BstProgram.GLOBAL_INTEGER : BstProgram.GLOBAL_STRING;
+
+        if (context != null) {
+            for (int i = 0; i < symbol.kinds.length; i++) {
+                int slot = symbol.slots[i];
+                if ((symbol.kinds[i] == localKind)
+                        && (isInteger ? localIntegerDeclared[slot] : localStringDeclared[slot])) {
+                    if (isInteger) {
+                        context.integers[slot] = integer;
+                    } else {
+                        context.strings[slot] = (String) o2;
+                    }
+                    return;
+                }
+            }
+        }
+        for (int i = 0; i < symbol.kinds.length; i++) {
+            int slot = symbol.slots[i];
+            if ((symbol.kinds[i] == globalKind)
+                    && (isInteger ? globalIntegerDeclared[slot] : globalStringDeclared[slot])) {
+                if (isInteger) {
+                    globalIntegers[slot] = integer;
+                } else {
+                    globalStrings[slot] = (String) o2;
+                }
+                return;
+            }
+        }
+    }
+
+    private void addPeriod() {
+        if (stackSize == 0) {
+            throw new VMException("Not enough operands on stack for operation add.period$");
+        }
+        Object o1 = pop();
+
+        if (!(o1 instanceof String)) {
+            throw new VMException("Can only add a period to a string for add.period$");
+        }
+
+        push(VM.addPeriod((String) o1));
+    }
+
+    private void changeCase() {
+        if (stackSize < 2) {
+            throw new VMException("Not enough operands on stack for operation change.case$");
+        }
+
+        Object o1 = pop();
+        if (!((o1 instanceof String) && (((String) o1).length() == 1))) {
+            throw new VMException("A format string of length 1 is needed for change.case$");
+        }
+
+        Object o2 = pop();
+        if (!(o2 instanceof String)) {
+            throw new VMException("A string is needed as second parameter for change.case$");
+        }
+
+        char format = ((String) o1).toLowerCase(Locale.ROOT).charAt(0);
+        push(BibtexCaseChanger.changeCase((String) o2, FORMAT_MODE.getFormatModeForBSTFormat(format)));
+    }
+
+    private void chrToInt() {
+        if (stackSize == 0) {
+            throw new VMException("Not enough operands on stack for operation chr.to.int$");
+        }
+        Object o1 = pop();
+
+        if (!((o1 instanceof String) && (((String) o1).length() == 1))) {
+            throw new VMException("Can only perform chr.to.int$ on string with length 1");
+        }
+
+        push((int) ((String) o1).charAt(0));
+    }
+
+    private void empty() {
+        if (stackSize == 0) {
+            throw new VMException("Not enough operands on stack for operation empty$");
+        }
+        Object o1 = pop();
+
+        if (o1 == null) {
+            push(TRUE);
+            return;
+        }
+
+        if (!(o1 instanceof String)) {
+            throw new VMException("Operand does not match function empty$");
+        }
+
+        push("".equals(((String) o1).trim()) ? TRUE : FALSE);
+    }
+
+    private void formatName() {
+        if (stackSize < 3) {
+            throw new VMException("Not enough operands on stack for operation format.name$");
+        }
+        Object o1 = pop();
+        Object o2 = pop();
+        Object o3 = pop();
+
+        if (!(o1 instanceof String) && !(o2 instanceof Integer) && !(o3 instanceof String)) {
+            push("");
+            return;
+        }
+
+        String format = (String) o1;
+        Integer name = (Integer) o2;
+        String names = (String) o3;
+
+        if (names == null) {
+            push("");
+        } else {
+            AuthorList a = AuthorList.parse(names);
+            if (name > a.getNumberOfAuthors()) {
+                throw new VMException("Author Out of Bounds. Number " + name + " invalid for " + names);
+            }
+            Author author = a.getAuthor(name - 1);
+
+            push(BibtexNameFormatter.formatName(author, format, this));
+        }
+    }
+
+    private void ifFunction(EntryState context) {
+        if (stackSize < 3) {
+            throw new VMException("Not enough operands on stack for operation =");
+        }
+        Object f1 = pop();
+        Object f2 = pop();
+        Object i = pop();
+
+        if (!isFunction(f1) && isFunction(f2) && (i instanceof Integer)) {
+            throw new VMException("Expecting two functions and an integer for if$.");
+        }
+
+        if ((Integer) i > 0) {
+            executeInContext(f2, context);
+        } else {
+            executeInContext(f1, context);
+        }
+    }
+
+    private void intToChr() {
+        if (stackSize == 0) {
+            throw new VMException("Not enough operands on stack for operation int.to.chr$");
+        }
+        if (!topIsInteger(0)) {
+            pop();
+            throw new VMException("Can only perform operation int.to.chr$ on an Integer");
+        }
+        int i = topInteger(0);
+        pop();
+        push(String.valueOf((char) i));
+    }
+
+    private void intToStr() {
+        if (stackSize == 0) {
+            throw new VMException("Not enough operands on stack for operation int.to.str$");
+        }
+        if (!topIsInteger(0)) {
+            pop();
+            throw new VMException("Can only transform an integer to an string using int.to.str$");
+        }
+        int i = topInteger(0);
+        pop();
+        push(Integer.toString(i));
+    }
+
+    private void missing() {
+        if (stackSize == 0) {
+            throw new VMException("Not enough operands on stack for operation missing$");
+        }
+        Object o1 = pop();
+
+        if (o1 == null) {
+            push(TRUE);
+            return;
+        }
+
+        if (!(o1 instanceof String)) {
+            warn("Not a string or missing field in operation missing$");
+            push(TRUE);
+            return;
+        }
+
+        push(FALSE);
+    }
+
+    private void numNames() {
+        if (stackSize == 0) {
+            throw new VMException("Not enough operands on stack for operation num.names$");
+        }
+        Object o1 = pop();
+
+        if (!(o1 instanceof String)) {
+            throw new VMException("Need a string at the top of the stack for num.names$");
+        }
+
+        push(AuthorList.parse((String) o1).getNumberOfAuthors());
+    }
+
+    private void purify() {
+        if (stackSize == 0) {
+            throw new VMException("Not enough operands on stack for operation purify$");
+        }
+        Object o1 = pop();
+
+        if (!(o1 instanceof String)) {
+            warn("A string is needed for purify$");
+            push("");
+            return;
+        }
+
+        push(BibtexPurify.purify((String) o1, this));
+    }
+
+    private void substring() {
+        if (stackSize < 3) {
+            throw new VMException("Not enough operands on stack for operation substring$");
+        }
+        Object o1 = pop();
+        Object o2 = pop();
+        Object o3 = pop();
+
+        if (!((o1 instanceof Integer) && (o2 instanceof Integer) && (o3 instanceof String))) {
+            throw new VMException("Expecting two integers and a string for substring$");
+        }
+
+        push(VM.substring((String) o3, (Integer) o2, (Integer) o1));
+    }
+
+    private void swap() {
+        if (stackSize < 2) {
+            throw new VMException("Not enough operands on stack for operation swap$");
+        }
+        int top = stackSize - 1;
+        Object value = stackValues[top];
+        int integer = stackIntegers[top];
+        stackValues[top] = stackValues[top - 1];
+        stackIntegers[top] = stackIntegers[top - 1];
+        stackValues[top - 1] = value;
+        stackIntegers[top - 1] = integer;
+    }
+
+    private void textLength() {
+        if (stackSize == 0) {
+            throw new VMException("Not enough operands on stack for operation text.length$");
+        }
+        Object o1 = pop();
+
+        if (!(o1 instanceof String)) {
+            throw new VMException("Can only perform operation on a string text.length$");
+        }
+
+        push(VM.textLength((String) o1));
+    }
+
+    private void textPrefix() {
+        if (stackSize < 2) {
+            throw new VMException("Not enough operands on stack for operation text.prefix$");
+        }
+
+        Object o1 = pop();
+        if (!(o1 instanceof Integer)) {
+            warn("An integer is needed as first parameter to text.prefix$");
+            push("");
+            return;
+        }
+
+        Object o2 = pop();
+        if (!(o2 instanceof String)) {
+            warn("A string is needed as second parameter to text.prefix$");
+            push("");
+            return;
+        }
+
+        push(BibtexTextPrefix.textPrefix((Integer) o1, (String) o2, this));
+    }
+
+    private void whileFunction(EntryState context) {
+        if (stackSize < 2) {
+            throw new VMException("Not enough operands on stack for operation while$");
+        }
+        Object f2 = pop();
+        Object f1 = pop();
+
+        if (!isFunction(f1) && isFunction(f2)) {
+            throw new VMException("Expecting two functions for while$.");
+        }
+
+        do {
+            executeInContext(f1, context);
+
+            Object i = pop();
+            if (!(i instanceof Integer)) {
+                throw new VMException("First parameter to while has to return an integer but was " + i);
+            }
+            if ((Integer) i <= 0) {
+                break;
+            }
+            executeInContext(f2, context);
+        } while (true);
+    }
+
+    private void width() {
+        if (stackSize == 0) {
+            throw new VMException("Not enough operands on stack for operation width$");
+        }
+        Object o1 = pop();
+
+        if (!(o1 instanceof String)) {
+            warn("A string is needed for change.case$");
+            push(0);
+            return;
+        }
+
+        push(BibtexWidth.width((String) o1));
+    }
+
+    @Override
+    public void warn(String string) {
+        LOGGER.warn(string);
+    }
+
+    /**
+     * The fields and entry variables of an entry, indexed by their slots
+     */
+    private static class EntryState {
+
+        private final BibEntry entry;
+        private final String[] fields;
+        private final String[] strings;
+        private final int[] integers;
+
+        EntryState(BibEntry entry, BstProgram program) {
+            this.entry = entry;
+            fields = new String[program.fieldNames.length];
+            strings = new String[program.localStringNames.length];
+            integers = new int[program.localIntegerNames.length];
+        }
+    }
+}
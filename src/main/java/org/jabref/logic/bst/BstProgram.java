@@ -0,0 +1,287 @@
+package org.jabref.logic.bst;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import org.antlr.runtime.ANTLRFileStream;
+import org.antlr.runtime.ANTLRStringStream;
+import org.antlr.runtime.RecognitionException;
+
+/**
+ * A compiled .bst file, which produces the same output as {@link VM}, but runs much faster.
+ * <p>
+ * {@link VM} walks the syntax tree of the .bst file and looks up every name in hash maps each time it is executed.
+ * The program instead consists of blocks of instructions, in which the names are already resolved to indices of the
+ * global variables, the entry variables and the functions. See {@link BstCompiler} for the compilation and
+ * {@link BstMachine} for the execution.
+ * <p>
+ * A program does not change when it is run, thus it can be run several times and by several threads at once.
+ */
+public class BstProgram {
+
+    // Kinds of declarations a name can refer to, in the order in which they are looked up
+    static final int FIELD = 0;
+    static final int LOCAL_STRING = 1;
+    static final int LOCAL_INTEGER = 2;
+    static final int GLOBAL_STRING = 3;
+    static final int GLOBAL_INTEGER = 4;
+    static final int FUNCTION = 5;
+
+    // Instructions of a block, every instruction consists of an operation and an operand
+    /** Pushes the constant with the index given by the operand, i.e., a string, a quoted name or a block */
+    static final int PUSH_CONSTANT = 0;
+    /** Pushes the operand */
+    static final int PUSH_INTEGER = 1;
+    static final int LOAD_FIELD = 2;
+    static final int LOAD_LOCAL_STRING = 3;
+    static final int LOAD_LOCAL_INTEGER = 4;
+    static final int LOAD_GLOBAL_STRING = 5;
+    static final int LOAD_GLOBAL_INTEGER = 6;
+    /** Executes the function with the given index, which may be changed by the FUNCTION and MACRO commands */
+    static final int CALL = 7;
+    /** Executes the built-in function with the given ordinal, which is not redefined by the .bst file */
+    static final int BUILTIN = 8;
+    /** Looks up the name given by the constant with the index given by the operand at runtime */
+    static final int RESOLVE = 9;
+
+    private static final int MAX_CACHED_PROGRAMS = 16;
+
+    private static final Cache<ProgramFile, BstProgram> PROGRAMS = CacheBuilder.newBuilder()
+            .maximumSize(MAX_CACHED_PROGRAMS)
+            .build();
+
+    final String[] fieldNames;
+    final String[] localStringNames;
+    final String[] localIntegerNames;
+    final String[] globalStringNames;
+    final String[] globalIntegerNames;
+    final String[] functionNames;
+    // The built-in functions, the other functions are defined by the commands
+    final Object[] initialFunctions;
+    final Map<String, Symbol> symbols;
+    final int sortKeySlot;
+    final int crossrefSlot;
+    final Command[] commands;
+    // The .bst file for error messages, may be null
+    final Path file;
+
+    BstProgram(String[] fieldNames, String[] localStringNames, String[] localIntegerNames,
+            String[] globalStringNames, String[] globalIntegerNames, String[] functionNames, Object[] initialFunctions,
+            Map<String, Symbol> symbols, int sortKeySlot, int crossrefSlot, Command[] commands, Path file) {
+        this.fieldNames = fieldNames;
+        this.localStringNames = localStringNames;
+        this.localIntegerNames = localIntegerNames;
+        this.globalStringNames = globalStringNames;
+        this.globalIntegerNames = globalIntegerNames;
+        this.functionNames = functionNames;
+        this.initialFunctions = initialFunctions;
+        this.symbols = symbols;
+        this.sortKeySlot = sortKeySlot;
+        this.crossrefSlot = crossrefSlot;
+        this.commands = commands;
+        this.file = file;
+    }
+
+    /**
+     * Compiles the given .bst program.
+     */
+    public static BstProgram compile(String bst) throws RecognitionException {
+        return new BstCompiler().compile(VM.charStream2CommonTree(new ANTLRStringStream(bst)), null);
+    }
+
+    /**
+     * Returns the compiled program of the given .bst file. The programs are cached, so that a file is only compiled
+     * again if it was modified.
+     */
+    public static BstProgram fromFile(Path file) throws RecognitionException, IOException {
+        Objects.requireNonNull(file);
+        ProgramFile key = new ProgramFile(file.toAbsolutePath(), Files.getLastModifiedTime(file).toMillis());
+        try {
+            return PROGRAMS.get(key, () -> new BstCompiler().compile(
+                    VM.charStream2CommonTree(new ANTLRFileStream(file.toString())), file));
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            Throwables.throwIfInstanceOf(e.getCause(), RecognitionException.class);
+            Throwables.throwIfInstanceOf(e.getCause(), IOException.class);
+            Throwables.throwIfUnchecked(e.getCause());
+            throw new IOException(e.getCause());
+        }
+    }
+
+    /**
+     * Runs the program for the entries and the preamble of the given database, and returns the produced bbl text.
+     */
+    public String run(BibDatabase database) {
+        return new BstMachine(this, database.getPreamble().orElse("")).run(database.getEntries());
+    }
+
+    /**
+     * Runs the program for the given entries, and returns the produced bbl text.
+     */
+    public String run(Collection<BibEntry> entries) {
+        return new BstMachine(this, "").run(entries);
+    }
+
+    Optional<Symbol> getSymbol(String name) {
+        return Optional.ofNullable(symbols.get(name));
+    }
+
+    /**
+     * The functions built into the bst language
+     */
+    enum Builtin {
+        GREATER(">"),
+        LESS("<"),
+        EQUALS("="),
+        PLUS("+"),
+        MINUS("-"),
+        CONCATENATE("*"),
+        ASSIGN(":="),
+        ADD_PERIOD("add.period$"),
+        CALL_TYPE("call.type$"),
+        CHANGE_CASE("change.case$"),
+        CHR_TO_INT("chr.to.int$"),
+        CITE("cite$"),
+        DUPLICATE("duplicate$"),
+        EMPTY("empty$"),
+        FORMAT_NAME("format.name$"),
+        IF("if$"),
+        INT_TO_CHR("int.to.chr$"),
+        INT_TO_STR("int.to.str$"),
+        MISSING("missing$"),
+        NEWLINE("newline$"),
+        NUM_NAMES("num.names$"),
+        POP("pop$"),
+        PREAMBLE("preamble$"),
+        PURIFY("purify$"),
+        QUOTE("quote$"),
+        SKIP("skip$"),
+        STACK("stack$"),
+        SUBSTRING("substring$"),
+        SWAP("swap$"),
+        TEXT_LENGTH("text.length$"),
+        TEXT_PREFIX("text.prefix$"),
+        TOP("top$"),
+        TYPE("type$"),
+        WARNING("warning$"),
+        WHILE("while$"),
+        WIDTH("width$"),
+        WRITE("write$");
+
+        static final Builtin[] VALUES = values();
+
+        private static final Map<String, Builtin> BY_NAME = new HashMap<>();
+
+        static {
+            for (Builtin builtin : VALUES) {
+                BY_NAME.put(builtin.name, builtin);
+            }
+        }
+
+        private final String name;
+
+        Builtin(String name) {
+            this.name = name;
+        }
+
+        static Optional<Builtin> fromName(String name) {
+            return Optional.ofNullable(BY_NAME.get(name));
+        }
+
+        String getName() {
+            return name;
+        }
+    }
+
+    /**
+     * A compiled function body, see the instructions above
+     */
+    static class Block {
+
+        final int[] code;
+        final Object[] constants;
+        // The line in the .bst file of every instruction
+        final int[] lines;
+
+        Block(int[] code, Object[] constants, int[] lines) {
+            this.code = code;
+            this.constants = constants;
+            this.lines = lines;
+        }
+    }
+
+    /**
+     * A name together with the declarations it may refer to, in the order in which they are looked up. The first
+     * declaration in effect when the name is executed is used.
+     */
+    static class Symbol {
+
+        final String name;
+        final int[] kinds;
+        final int[] slots;
+
+        Symbol(String name, int[] kinds, int[] slots) {
+            this.name = name;
+            this.kinds = kinds;
+            this.slots = slots;
+        }
+    }
+
+    /**
+     * A top level command of a .bst file, whose type is given by the token type of {@link BstParser}
+     */
+    static class Command {
+
+        final int type;
+        // The affected slots, e.g. the declared variables
+        final int[] slots;
+        final Object operand;
+
+        Command(int type, int[] slots, Object operand) {
+            this.type = type;
+            this.slots = slots;
+            this.operand = operand;
+        }
+    }
+
+    private static class ProgramFile {
+
+        private final Path path;
+        private final long lastModified;
+
+        ProgramFile(Path path, long lastModified) {
+            this.path = path;
+            this.lastModified = lastModified;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if ((o == null) || (getClass() != o.getClass())) {
+                return false;
+            }
+            ProgramFile that = (ProgramFile) o;
+            return (lastModified == that.lastModified) && path.equals(that.path);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(path, lastModified);
+        }
+    }
+}
@@ -624,7 +624,13 @@ public class VM implements Warn {
             throw new VMException("Can only perform operation on a string text.length$");
         }
 
-        String s = (String) o1;
+        stack.push(textLength((String) o1));
+    }
+
+    /**
+     * Returns the number of text characters of the given string, see text.length$
+     */
+    static int textLength(String s) {
         char[] c = s.toCharArray();
         int result = 0;
 
@@ -691,7 +697,7 @@ public class VM implements Warn {
                 result++;
             }
         }
-        stack.push(result);
+        return result;
     }
 
     private void whileFunction(BstEntry context) {
@@ -732,9 +738,13 @@ public class VM implements Warn {
             throw new VMException("Expecting two integers and a string for substring$");
         }
 
-        Integer len = (Integer) o1;
-        Integer start = (Integer) o2;
+        stack.push(substring((String) o3, (Integer) o2, (Integer) o1));
+    }
 
+    /**
+     * Returns the substring of the given string as defined by substring$
+     */
+    static String substring(String s, int start, int len) {
         int lenI = len;
         int startI = start;
 
@@ -750,13 +760,11 @@ public class VM implements Warn {
             startI = -Integer.MIN_VALUE / 2;
         }
 
-        String s = (String) o3;
-
         if (startI < 0) {
             startI += s.length() + 1;
             startI = Math.max(1, (startI + 1) - lenI);
         }
-        stack.push(s.substring(startI - 1, Math.min((startI - 1) + lenI, s.length())));
+        return s.substring(startI - 1, Math.min((startI - 1) + lenI, s.length()));
     }
 
     private void addPeriodFunction() {
@@ -769,7 +777,13 @@ public class VM implements Warn {
             throw new VMException("Can only add a period to a string for add.period$");
         }
 
-        String s = (String) o1;
+        stack.push(addPeriod((String) o1));
+    }
+
+    /**
+     * Adds a period to the given string as defined by add.period$
+     */
+    static String addPeriod(String s) {
         Matcher m = ADD_PERIOD_PATTERN.matcher(s);
 
         if (m.find()) {
@@ -780,13 +794,13 @@ public class VM implements Warn {
             if (group2 != null) {
                 sb.append(m.group(2));
             }
-            stack.push(sb.toString());
+            return sb.toString();
         } else {
-            stack.push(s);
+            return s;
         }
     }
 
-    private static CommonTree charStream2CommonTree(CharStream bst) throws RecognitionException {
+    static CommonTree charStream2CommonTree(CharStream bst) throws RecognitionException {
         BstLexer lex = new BstLexer(bst);
         CommonTokenStream tokens = new CommonTokenStream(lex);
         BstParser parser = new BstParser(tokens);
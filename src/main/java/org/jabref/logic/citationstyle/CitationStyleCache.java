@@ -38,6 +38,7 @@ public class CitationStyleCache {
             }
         });
         bibDatabaseContext.getDatabase().registerListener(new BibDatabaseEntryListener());
+        CitationStyleGenerator.prepare(citationStyle.getSource());
     }
 
     /**
@@ -52,6 +53,7 @@ public class CitationStyleCache {
         if (!this.citationStyle.equals(citationStyle)) {
             this.citationStyle = citationStyle;
             this.citationStyleCache.invalidateAll();
+            CitationStyleGenerator.prepare(citationStyle.getSource());
         }
     }
 
@@ -6,10 +6,10 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
+import org.jabref.JabRefExecutorService;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.model.entry.BibEntry;
 
-import de.undercouch.citeproc.CSL;
 import de.undercouch.citeproc.bibtex.BibTeXConverter;
 import de.undercouch.citeproc.csl.CSLItemData;
 import de.undercouch.citeproc.output.Bibliography;
@@ -23,15 +23,34 @@ import org.jbibtex.TokenMgrException;
 
 /**
  * WARNING: the citation is generated using JavaScript which may take some time, better call it from outside the main Thread
+ * <p>
+ * The JavaScript processors are kept per style and reused, see {@link CitationStyleProcessorPool}. Hence, only the
+ * first citation of a style has to wait for the processor to start. Use {@link #prepare(String)} to start it early.
  */
 public class CitationStyleGenerator {
 
     private static final Log LOGGER = LogFactory.getLog(CitationStyleGenerator.class);
     private static final BibTeXConverter BIBTEX_CONVERTER = new BibTeXConverter();
+    private static final CitationStyleProcessorPool PROCESSORS = new CitationStyleProcessorPool();
 
     private CitationStyleGenerator() {
     }
 
+    /**
+     * Starts the processor for the given style in the background, so that the first citation can be generated
+     * without waiting for it.
+     */
+    public static void prepare(String style) {
+        JabRefExecutorService.INSTANCE.execute(() -> {
+            try {
+                PROCESSORS.prepare(style);
+            } catch (IOException | RuntimeException e) {
+                // the error is reported when the style is used
+                LOGGER.debug("Could not prepare citation style", e);
+            }
+        });
+    }
+
     /**
      * WARNING: the citation is generated using JavaScript which may take some time, better call it from outside the main Thread
      * Generates a Citation based on the given entry and style
@@ -58,7 +77,8 @@ public class CitationStyleGenerator {
 
     /**
      * WARNING: the citation is generated using JavaScript which may take some time, better call it from outside the main Thread
-     * Generates the citation for multiple entries at once. This is useful when the Citation Style has an increasing number
+     * Generates the citation for multiple entries at once. This is useful when the Citation Style has an increasing number.
+     * Can be called from several threads at once.
      */
     public static List<String> generateCitations(List<BibEntry> bibEntries, String style, CitationStyleOutputFormat outputFormat) {
         try {
@@ -66,7 +86,7 @@ public class CitationStyleGenerator {
             for (int i = 0; i < bibEntries.size(); i++) {
                 cslItemData[i] = bibEntryToCSLItemData(bibEntries.get(i));
             }
-            Bibliography bibliography = CSL.makeAdhocBibliography(style, outputFormat.getFormat(), cslItemData);
+            Bibliography bibliography = PROCESSORS.makeBibliography(style, outputFormat.getFormat(), cslItemData);
             return Arrays.asList(bibliography.getEntries());
 
         } catch (IOException | ArrayIndexOutOfBoundsException e) {
@@ -0,0 +1,165 @@
+package org.jabref.logic.citationstyle;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import de.undercouch.citeproc.CSL;
+import de.undercouch.citeproc.ItemDataProvider;
+import de.undercouch.citeproc.csl.CSLItemData;
+import de.undercouch.citeproc.output.Bibliography;
+
+/**
+ * Keeps initialized citeproc processors for reuse.
+ * <p>
+ * Creating a {@link CSL} processor starts the citeproc JavaScript engine and parses the style, which takes much
+ * longer than generating a bibliography with it. Therefore, processors are kept per style and reused for later
+ * requests. A processor can only be used by one thread at a time, so up to {@link #MAX_PROCESSORS_PER_STYLE}
+ * processors are created per style for concurrent requests. Only the processors of the most recently used styles
+ * are kept.
+ */
+class CitationStyleProcessorPool {
+
+    // Every processor holds a complete JavaScript engine, thus their number is limited
+    private static final int MAX_PROCESSORS_PER_STYLE = Math.max(1,
+            Math.min(4, Runtime.getRuntime().availableProcessors()));
+    private static final int MAX_STYLES = 4;
+    // a waiting thread checks this often whether it may create a processor itself, e.g. after one was discarded
+    private static final long WAIT_MILLISECONDS = 100;
+
+    private final Cache<String, StyleProcessors> processorsByStyle = CacheBuilder.newBuilder()
+            .maximumSize(MAX_STYLES)
+            .build();
+
+    /**
+     * Creates a processor for the given style, if there is none yet. The next request using this style then does not
+     * have to wait for the JavaScript engine to start.
+     */
+    void prepare(String style) throws IOException {
+        StyleProcessors processors = getProcessors(style);
+        if (processors.available.isEmpty() && (processors.created.get() == 0)) {
+            processors.release(processors.acquire());
+        }
+    }
+
+    /**
+     * Generates the bibliography of the given items with the given style. Blocks if all processors of the style are
+     * in use.
+     */
+    Bibliography makeBibliography(String style, String outputFormat, CSLItemData[] items) throws IOException {
+        StyleProcessors processors = getProcessors(style);
+        Processor processor = processors.acquire();
+        Bibliography bibliography;
+        try {
+            bibliography = processor.makeBibliography(outputFormat, items);
+        } catch (RuntimeException e) {
+            // The state of the engine is unknown, thus the processor is not reused
+            processors.discard();
+            throw e;
+        }
+        processors.release(processor);
+        return bibliography;
+    }
+
+    private StyleProcessors getProcessors(String style) {
+        try {
+            return processorsByStyle.get(style, () -> new StyleProcessors(style));
+        } catch (ExecutionException e) {
+            // the constructor of StyleProcessors does not throw checked exceptions
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class StyleProcessors {
+
+        private final String style;
+        private final BlockingQueue<Processor> available = new ArrayBlockingQueue<>(MAX_PROCESSORS_PER_STYLE);
+        private final AtomicInteger created = new AtomicInteger();
+
+        StyleProcessors(String style) {
+            this.style = style;
+        }
+
+        Processor acquire() throws IOException {
+            while (true) {
+                Processor processor = available.poll();
+                if (processor != null) {
+                    return processor;
+                }
+
+                if (created.incrementAndGet() <= MAX_PROCESSORS_PER_STYLE) {
+                    try {
+                        return new Processor(style);
+                    } catch (IOException | RuntimeException e) {
+                        created.decrementAndGet();
+                        throw e;
+                    }
+                }
+                created.decrementAndGet();
+
+                try {
+                    processor = available.poll(WAIT_MILLISECONDS, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("Interrupted while waiting for a citation style processor", e);
+                }
+                if (processor != null) {
+                    return processor;
+                }
+            }
+        }
+
+        void release(Processor processor) {
+            available.offer(processor);
+        }
+
+        void discard() {
+            created.decrementAndGet();
+        }
+    }
+
+    /**
+     * A {@link CSL} processor whose items are exchanged for every bibliography
+     */
+    private static class Processor implements ItemDataProvider {
+
+        private final CSL csl;
+        private final Map<String, CSLItemData> items = new HashMap<>();
+
+        Processor(String style) throws IOException {
+            csl = new CSL(this, style);
+        }
+
+        Bibliography makeBibliography(String outputFormat, CSLItemData[] itemData) {
+            items.clear();
+            String[] ids = new String[itemData.length];
+            for (int i = 0; i < itemData.length; i++) {
+                ids[i] = itemData[i].getId();
+                items.put(ids[i], itemData[i]);
+            }
+
+            // forget the items of the previous bibliography
+            csl.reset();
+            csl.setOutputFormat(outputFormat);
+            csl.registerCitationItems(ids);
+            return csl.makeBibliography();
+        }
+
+        @Override
+        public CSLItemData retrieveItem(String id) {
+            return items.get(id);
+        }
+
+        @Override
+        public String[] getIds() {
+            return items.keySet().toArray(new String[items.size()]);
+        }
+    }
+}
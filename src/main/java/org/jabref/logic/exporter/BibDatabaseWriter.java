@@ -4,15 +4,16 @@ import java.io.IOException;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -23,6 +24,7 @@ import org.jabref.logic.bibtex.comparator.CrossRefEntryComparator;
 import org.jabref.logic.bibtex.comparator.FieldComparator;
 import org.jabref.logic.bibtex.comparator.FieldComparatorStack;
 import org.jabref.logic.bibtex.comparator.IdComparator;
+import org.jabref.logic.bibtex.comparator.SortKeyCache;
 import org.jabref.model.EntryTypes;
 import org.jabref.model.FieldChange;
 import org.jabref.model.bibtexkeypattern.GlobalBibtexKeyPattern;
@@ -37,8 +39,13 @@ import org.jabref.model.entry.EntryType;
 import org.jabref.model.metadata.MetaData;
 import org.jabref.model.metadata.SaveOrderConfig;
 
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
 public abstract class BibDatabaseWriter<E extends SaveSession> {
 
+    private static final Log LOGGER = LogFactory.getLog(BibDatabaseWriter.class);
+
     private static final Pattern REFERENCE_PATTERN = Pattern.compile("(#[A-Za-z]+#)"); // Used to detect string references in strings
     private final SaveSessionFactory<E> saveSessionFactory;
 
@@ -83,12 +90,13 @@ public abstract class BibDatabaseWriter<E extends SaveSession> {
             // entries will be sorted based on their internal IDs
             comparators.add(new IdComparator());
         } else {
-            // use configured sorting strategy
-            comparators.add(new FieldComparator(saveOrder.get().sortCriteria[0]));
-            comparators.add(new FieldComparator(saveOrder.get().sortCriteria[1]));
-            comparators.add(new FieldComparator(saveOrder.get().sortCriteria[2]));
+            // use configured sorting strategy, every entry is prepared for sorting only once per field
+            SortKeyCache sortKeyCache = new SortKeyCache();
+            for (SaveOrderConfig.SortCriterion criterion : saveOrder.get().sortCriteria) {
+                comparators.add(new FieldComparator(criterion.field, criterion.descending, sortKeyCache));
+            }
 
-            comparators.add(new FieldComparator(BibEntry.KEY_FIELD));
+            comparators.add(new FieldComparator(BibEntry.KEY_FIELD, false, sortKeyCache));
         }
 
         return comparators;
@@ -116,11 +124,25 @@ public abstract class BibDatabaseWriter<E extends SaveSession> {
                 bibDatabaseContext.getMetaData());
         FieldComparatorStack<BibEntry> comparatorStack = new FieldComparatorStack<>(comparators);
 
-        List<BibEntry> sorted = new ArrayList<>();
-        sorted.addAll(entriesToSort);
+        Map<BibEntry, Integer> positions = new IdentityHashMap<>();
+        for (int i = 0; i < entriesToSort.size(); i++) {
+            positions.put(entriesToSort.get(i), i);
+        }
+
+        // Sorting the order of the last save again takes only linear time if nothing relevant changed since then
+        List<BibEntry> lastSorted = bibDatabaseContext.getLastSortedEntries();
+        List<BibEntry> sorted;
+        if ((lastSorted.size() == entriesToSort.size())
+                && (positions.size() == entriesToSort.size()) && lastSorted.stream().allMatch(positions::containsKey)) {
+            sorted = new ArrayList<>(lastSorted);
+        } else {
+            sorted = new ArrayList<>(entriesToSort);
+        }
 
-        Collections.sort(sorted, comparatorStack);
+        // Equal entries keep the order in which they were given, no matter which order the sorting starts from
+        sorted.sort(comparatorStack.thenComparingInt(positions::get));
 
+        bibDatabaseContext.setLastSortedEntries(sorted);
         return sorted;
     }
 
@@ -156,6 +178,7 @@ public abstract class BibDatabaseWriter<E extends SaveSession> {
     public E savePartOfDatabase(BibDatabaseContext bibDatabaseContext,
             List<BibEntry> entries, SavePreferences preferences) throws SaveException {
 
+        long start = System.nanoTime();
         session = saveSessionFactory.createSaveSession(preferences.getEncodingOrDefault(), preferences.getMakeBackup());
 
         Optional<String> sharedDatabaseIDOptional = bibDatabaseContext.getDatabase().getSharedDatabaseID();
@@ -215,6 +238,11 @@ public abstract class BibDatabaseWriter<E extends SaveSession> {
         } catch (IOException e) {
             throw new SaveException(e);
         }
+        if (LOGGER.isDebugEnabled()) {
+            // the writer is closed, so all bytes left in the encoder are counted, too
+            LOGGER.debug(String.format("Wrote %d entries, %d bytes in %d ms", sortedEntries.size(),
+                    session.getWriter().getBytesWritten(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)));
+        }
         return session;
     }
 
@@ -1,10 +1,8 @@
 package org.jabref.logic.exporter;
 
 import java.io.File;
-import java.io.FileNotFoundException;
 import java.io.FileReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
 import java.io.Reader;
 import java.net.URL;
 import java.nio.charset.Charset;
@@ -15,11 +13,13 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.stream.Collectors;
 
 import org.jabref.JabRefMain;
 import org.jabref.logic.layout.Layout;
+import org.jabref.logic.layout.LayoutCache;
 import org.jabref.logic.layout.LayoutFormatterPreferences;
-import org.jabref.logic.layout.LayoutHelper;
+import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 
@@ -33,6 +33,13 @@ public class ExportFormat implements IExportFormat {
 
     private static final String LAYOUT_PREFIX = "/resource/layout/";
 
+    // Exports with at least this many entries lay out the entries concurrently
+    private static final int CONCURRENT_LAYOUT_THRESHOLD = 1000;
+    private static final int CONCURRENT_LAYOUT_BATCH_SIZE = 1000;
+
+    // The parsed layout files are shared by all export formats
+    private static final LayoutCache LAYOUT_CACHE = new LayoutCache();
+
     private static final Log LOGGER = LogFactory.getLog(ExportFormat.class);
     private String displayName;
     private String consoleName;
@@ -136,18 +143,14 @@ public class ExportFormat implements IExportFormat {
     }
 
     /**
-     * This method should return a reader from which the given layout file can
-     * be read.
-     * <p>
-     * <p>
-     * Subclasses of ExportFormat are free to override and provide their own
-     * implementation.
+     * Returns the layout stored in the given layout file. The layouts are kept in {@link #LAYOUT_CACHE}, so that a
+     * layout file is only read again if it was modified.
      *
      * @param filename the filename
-     * @return a newly created reader
-     * @throws IOException if the reader could not be created
+     * @return the layout, with the formatters resolved using the layout preferences of this export format
+     * @throws IOException if the layout file does not exist or could not be read
      */
-    private Reader getReader(String filename) throws IOException {
+    private Layout getLayout(String filename) throws IOException {
         // If this is a custom export, just use the given filename:
         String dir;
         if (customExport) {
@@ -156,27 +159,22 @@ public class ExportFormat implements IExportFormat {
             dir = LAYOUT_PREFIX + (directory == null ? "" : directory + '/');
         }
 
-        // Attempt to get a Reader for the file path given, either by
+        // Attempt to get the layout for the file path given, either by
         // loading it as a resource (from within JAR), or as a normal file. If
         // unsuccessful (e.g. file not found), an IOException is thrown.
         String name = dir + filename;
-        Reader reader;
         // Try loading as a resource first. This works for files inside the JAR:
         URL reso = JabRefMain.class.getResource(name);
+        if (reso != null) {
+            return LAYOUT_CACHE.getLayout(reso, layoutPreferences);
+        }
 
-        // If that did not work, try loading as a normal file URL:
-        try {
-            if (reso == null) {
-                File f = new File(name);
-                reader = new FileReader(f);
-            } else {
-                reader = new InputStreamReader(reso.openStream());
-            }
-        } catch (FileNotFoundException ex) {
+        // If that did not work, try loading as a normal file:
+        File f = new File(name);
+        if (!f.isFile()) {
             throw new IOException("Cannot find layout file: '" + name + "'.");
         }
-
-        return reader;
+        return LAYOUT_CACHE.getLayout(f.toPath(), layoutPreferences);
     }
 
     @Override
@@ -213,9 +211,8 @@ public class ExportFormat implements IExportFormat {
             List<String> missingFormatters = new ArrayList<>(1);
 
             // Print header
-            try (Reader reader = getReader(lfFileName + ".begin.layout")) {
-                LayoutHelper layoutHelper = new LayoutHelper(reader, layoutPreferences);
-                beginLayout = layoutHelper.getLayoutFromText();
+            try {
+                beginLayout = getLayout(lfFileName + ".begin.layout");
             } catch (IOException ex) {
                 // If an exception was cast, export filter doesn't have a begin
                 // file.
@@ -236,49 +233,41 @@ public class ExportFormat implements IExportFormat {
             List<BibEntry> sorted = BibDatabaseWriter.getSortedEntries(databaseContext, entries, savePreferences);
 
             // Load default layout
-            Layout defLayout;
-            LayoutHelper layoutHelper;
-            try (Reader reader = getReader(lfFileName + ".layout")) {
-                layoutHelper = new LayoutHelper(reader,layoutPreferences);
-                defLayout = layoutHelper.getLayoutFromText();
-            }
-            if (defLayout != null) {
-                missingFormatters.addAll(defLayout.getMissingFormatters());
-                if (!missingFormatters.isEmpty()) {
-                    LOGGER.warn(missingFormatters);
-                }
+            Layout defLayout = getLayout(lfFileName + ".layout");
+            missingFormatters.addAll(defLayout.getMissingFormatters());
+            if (!missingFormatters.isEmpty()) {
+                LOGGER.warn(missingFormatters);
             }
-            Map<String, Layout> layouts = new HashMap<>();
-            Layout layout;
 
-            ExportFormats.entryNumber = 0;
+            // Get the layouts of all entry types before writing the entries
+            Map<String, Layout> layouts = new HashMap<>();
             for (BibEntry entry : sorted) {
-                ExportFormats.entryNumber++; // Increment entry counter.
-                // Get the layout
                 String type = entry.getType();
-                if (layouts.containsKey(type)) {
-                    layout = layouts.get(type);
-                } else {
-                    try (Reader reader = getReader(lfFileName + '.' + type + ".layout")) {
+                if (!layouts.containsKey(type)) {
+                    Layout layout;
+                    try {
                         // We try to get a type-specific layout for this entry.
-                        layoutHelper = new LayoutHelper(reader, layoutPreferences);
-                        layout = layoutHelper.getLayoutFromText();
-                        layouts.put(type, layout);
-                        if (layout != null) {
-                            missingFormatters.addAll(layout.getMissingFormatters());
-                        }
-
+                        layout = getLayout(lfFileName + '.' + type + ".layout");
+                        missingFormatters.addAll(layout.getMissingFormatters());
                     } catch (IOException ex) {
                         // The exception indicates that no type-specific layout
                         // exists, so we
                         // go with the default one.
                         layout = defLayout;
                     }
+                    layouts.put(type, layout);
                 }
+            }
 
-                // Write the entry
-                if (layout != null) {
-                    ps.write(layout.doLayout(entry, databaseContext.getDatabase()));
+            // Write the entries
+            if ((sorted.size() >= CONCURRENT_LAYOUT_THRESHOLD)
+                    && layouts.values().stream().allMatch(Layout::canLayOutConcurrently)) {
+                writeEntriesConcurrently(ps, sorted, layouts, databaseContext.getDatabase());
+            } else {
+                ExportFormats.entryNumber = 0;
+                for (BibEntry entry : sorted) {
+                    ExportFormats.entryNumber++; // Increment entry counter.
+                    ps.write(layouts.get(entry.getType()).doLayout(entry, databaseContext.getDatabase()));
                 }
             }
 
@@ -286,9 +275,8 @@ public class ExportFormat implements IExportFormat {
 
             // changed section - begin (arudert)
             Layout endLayout = null;
-            try (Reader reader = getReader(lfFileName + ".end.layout")) {
-                layoutHelper = new LayoutHelper(reader, layoutPreferences);
-                endLayout = layoutHelper.getLayoutFromText();
+            try {
+                endLayout = getLayout(lfFileName + ".end.layout");
             } catch (IOException ex) {
                 // If an exception was thrown, export filter doesn't have an end
                 // file.
@@ -313,6 +301,25 @@ public class ExportFormat implements IExportFormat {
 
     }
 
+    /**
+     * Lays out the entries in batches, where the entries of a batch are laid out concurrently and then written in
+     * their order. This requires layouts which allow this, see {@link Layout#canLayOutConcurrently()}.
+     */
+    private static void writeEntriesConcurrently(VerifyingWriter writer, List<BibEntry> sorted,
+            Map<String, Layout> layouts, BibDatabase database) throws IOException {
+        for (int start = 0; start < sorted.size(); start += CONCURRENT_LAYOUT_BATCH_SIZE) {
+            List<BibEntry> batch = sorted.subList(start, Math.min(start + CONCURRENT_LAYOUT_BATCH_SIZE, sorted.size()));
+            List<String> texts = batch.parallelStream()
+                    .map(entry -> layouts.get(entry.getType()).doLayout(entry, database))
+                    .collect(Collectors.toList());
+            for (String text : texts) {
+                writer.write(text);
+            }
+        }
+        // The end layout may print the number of entries
+        ExportFormats.entryNumber = sorted.size();
+    }
+
     @Override
     public void performExport(final BibDatabaseContext databaseContext, Path file, final Charset encoding,
             List<BibEntry> entries) throws Exception {
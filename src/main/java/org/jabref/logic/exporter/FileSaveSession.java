@@ -4,6 +4,7 @@ import java.io.IOException;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.nio.file.attribute.PosixFilePermission;
 import java.util.EnumSet;
 import java.util.Set;
@@ -49,7 +50,8 @@ public class FileSaveSession extends SaveSession {
 
     private static VerifyingWriter getWriterForFile(Charset encoding, Path file) throws SaveException {
         try {
-            return new VerifyingWriter(Files.newOutputStream(file), encoding);
+            return new VerifyingWriter(Files.newByteChannel(file, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE), encoding);
         } catch (IOException e) {
             throw new SaveException(e);
         }
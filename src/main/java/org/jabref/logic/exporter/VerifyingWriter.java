@@ -2,39 +2,162 @@ package org.jabref.logic.exporter;
 
 import java.io.IOException;
 import java.io.OutputStream;
-import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.Charset;
 import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.util.Objects;
 import java.util.Set;
 import java.util.TreeSet;
 
 /**
- * Writer that extends OutputStreamWriter, but also checks if the chosen
- * encoding supports all text that is written. Currently only a boolean value is
- * stored to remember whether everything has gone well or not.
+ * Writer that encodes the written text into a channel, but also checks if the chosen
+ * encoding supports all text that is written. Characters which cannot be encoded are
+ * replaced by the replacement of the encoding, like {@link java.io.OutputStreamWriter} does,
+ * and remembered.
+ * <p>
+ * The text is encoded in a single pass through a buffer and a reused encoder, which
+ * detects the characters that cannot be encoded on the fly.
  */
-public class VerifyingWriter extends OutputStreamWriter {
+public class VerifyingWriter extends Writer {
 
+    private static final int BUFFER_SIZE = 8192;
+
+    private final WritableByteChannel channel;
     private final CharsetEncoder encoder;
+    private final CharBuffer chars = CharBuffer.allocate(BUFFER_SIZE);
+    private final ByteBuffer bytes;
     private boolean couldEncodeAll = true;
     private final Set<Character> problemCharacters = new TreeSet<>();
-
+    private long bytesWritten;
+    private boolean closed;
 
     public VerifyingWriter(OutputStream out, Charset encoding) {
-        super(out, encoding);
-        encoder = encoding.newEncoder();
+        this(Channels.newChannel(out), encoding);
+    }
+
+    public VerifyingWriter(WritableByteChannel channel, Charset encoding) {
+        this.channel = Objects.requireNonNull(channel);
+        encoder = encoding.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPORT)
+                .onUnmappableCharacter(CodingErrorAction.REPORT);
+        bytes = ByteBuffer.allocate((int) Math.ceil(BUFFER_SIZE * encoder.maxBytesPerChar()));
     }
 
     @Override
-    public void write(String str) throws IOException {
-        super.write(str);
-        if (!encoder.canEncode(str)) {
-            for (int i = 0; i < str.length(); i++) {
-                if (!encoder.canEncode(str.charAt(i))) {
-                    problemCharacters.add(str.charAt(i));
+    public void write(int c) throws IOException {
+        synchronized (lock) {
+            ensureOpen();
+            if (!chars.hasRemaining()) {
+                encode(false);
+            }
+            chars.put((char) c);
+        }
+    }
+
+    @Override
+    public void write(char[] cbuf, int off, int len) throws IOException {
+        synchronized (lock) {
+            ensureOpen();
+            int written = 0;
+            while (written < len) {
+                if (!chars.hasRemaining()) {
+                    encode(false);
                 }
+                int count = Math.min(len - written, chars.remaining());
+                chars.put(cbuf, off + written, count);
+                written += count;
             }
-            couldEncodeAll = false;
+        }
+    }
+
+    @Override
+    public void write(String str, int off, int len) throws IOException {
+        synchronized (lock) {
+            ensureOpen();
+            int written = 0;
+            while (written < len) {
+                if (!chars.hasRemaining()) {
+                    encode(false);
+                }
+                int count = Math.min(len - written, chars.remaining());
+                chars.put(str, off + written, off + written + count);
+                written += count;
+            }
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        synchronized (lock) {
+            ensureOpen();
+            encode(false);
+            writeBytes();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (lock) {
+            if (closed) {
+                return;
+            }
+            try {
+                encode(true);
+                while (encoder.flush(bytes).isOverflow()) {
+                    writeBytes();
+                }
+                writeBytes();
+            } finally {
+                closed = true;
+                channel.close();
+            }
+        }
+    }
+
+    /**
+     * Encodes the buffered characters. Unless the end of the input is reached, an incomplete surrogate pair is kept
+     * for the next call.
+     */
+    private void encode(boolean endOfInput) throws IOException {
+        chars.flip();
+        while (true) {
+            CoderResult result = encoder.encode(chars, bytes, endOfInput);
+            if (result.isUnderflow()) {
+                break;
+            } else if (result.isOverflow()) {
+                writeBytes();
+            } else {
+                // malformed or unmappable characters
+                couldEncodeAll = false;
+                for (int i = 0; i < result.length(); i++) {
+                    problemCharacters.add(chars.get());
+                }
+                if (bytes.remaining() < encoder.replacement().length) {
+                    writeBytes();
+                }
+                bytes.put(encoder.replacement());
+            }
+        }
+        chars.compact();
+    }
+
+    private void writeBytes() throws IOException {
+        bytes.flip();
+        while (bytes.hasRemaining()) {
+            bytesWritten += channel.write(bytes);
+        }
+        bytes.clear();
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Writer is closed");
         }
     }
 
@@ -49,4 +172,13 @@ public class VerifyingWriter extends OutputStreamWriter {
         }
         return chars.toString();
     }
+
+    /**
+     * @return the number of bytes passed to the underlying channel so far, all bytes after the writer was closed
+     */
+    public long getBytesWritten() {
+        synchronized (lock) {
+            return bytesWritten;
+        }
+    }
 }
@@ -4,8 +4,14 @@ import java.io.IOException;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
 
+import org.jabref.JabRefExecutorService;
 import org.jabref.logic.importer.fetcher.ACS;
 import org.jabref.logic.importer.fetcher.ArXiv;
 import org.jabref.logic.importer.fetcher.DoiResolution;
@@ -18,15 +24,24 @@ import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.FieldName;
 import org.jabref.model.entry.identifier.DOI;
 
+import com.google.common.util.concurrent.RateLimiter;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
 /**
  * Utility class for trying to resolve URLs to full-text PDF for articles.
+ * <p>
+ * All finders are asked at the same time, so that slow sources do not delay the fast ones. The result of the first
+ * finder in the list which finds a PDF is used, and the finders after it are canceled as soon as it is known.
+ * As many entries might be looked up in a row, every source and every host serving the PDFs is only asked a few
+ * times per second, which is shared by all instances.
  */
 public class FulltextFetchers {
     private static final Log LOGGER = LogFactory.getLog(FulltextFetchers.class);
 
+    private static final double REQUESTS_PER_SECOND = 4.0;
+    private static final Map<String, RateLimiter> RATE_LIMITERS = new ConcurrentHashMap<>();
+
     private final List<FulltextFetcher> finders = new ArrayList<>();
 
     public FulltextFetchers(ImportFormatPreferences importFormatPreferences) {
@@ -61,17 +76,60 @@ public class FulltextFetchers {
             }
         }
 
+        List<Future<Optional<URL>>> results = new ArrayList<>(finders.size());
         for (FulltextFetcher finder : finders) {
-            try {
-                Optional<URL> result = finder.findFullText(clonedEntry);
+            // every finder gets its own copy, in case it modifies the entry
+            BibEntry finderEntry = (BibEntry) clonedEntry.clone();
+            FutureTask<Optional<URL>> result = new FutureTask<>(() -> findVerifiedPdf(finder, finderEntry));
+            JabRefExecutorService.INSTANCE.execute(result);
+            results.add(result);
+        }
 
-                if (result.isPresent() && new URLDownload(result.get().toString()).isPdf()) {
-                    return result;
+        try {
+            // wait for the finders in the order of their priority, the later ones keep on running meanwhile
+            for (Future<Optional<URL>> result : results) {
+                try {
+                    Optional<URL> pdf = result.get();
+                    if (pdf.isPresent()) {
+                        return pdf;
+                    }
+                } catch (ExecutionException e) {
+                    LOGGER.debug("Failed to find fulltext PDF", e);
                 }
-            } catch (IOException | FetcherException e) {
-                LOGGER.debug("Failed to find fulltext PDF at given URL", e);
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            results.forEach(result -> result.cancel(true));
+        }
+        return Optional.empty();
+    }
+
+    private static Optional<URL> findVerifiedPdf(FulltextFetcher finder, BibEntry entry) {
+        try {
+            // the finders mostly ask a single site, so they are limited like a host
+            if (!acquireRequest(finder.getClass().getName())) {
+                return Optional.empty();
+            }
+            Optional<URL> result = finder.findFullText(entry);
+
+            if (result.isPresent() && acquireRequest(result.get().getHost())
+                    && new URLDownload(result.get()).isPdf()) {
+                return result;
+            }
+        } catch (IOException | FetcherException e) {
+            LOGGER.debug("Failed to find fulltext PDF at given URL", e);
         }
         return Optional.empty();
     }
+
+    /**
+     * Waits until the given host may be asked again
+     *
+     * @return false if the lookup was canceled meanwhile
+     */
+    private static boolean acquireRequest(String host) {
+        RATE_LIMITERS.computeIfAbsent(host, key -> RateLimiter.create(REQUESTS_PER_SECOND)).acquire();
+        return !Thread.currentThread().isInterrupted();
+    }
 }
@@ -15,16 +15,26 @@ public class ImportFormatPreferences {
     private final BibtexKeyPatternPreferences bibtexKeyPatternPreferences;
     private final FieldContentParserPreferences fieldContentParserPreferences;
     private final boolean keywordSyncEnabled;
+    private final long parallelParsingThreshold;
 
     public ImportFormatPreferences(Set<CustomImporter> customImportList, Charset encoding, Character keywordSeparator,
             BibtexKeyPatternPreferences bibtexKeyPatternPreferences,
             FieldContentParserPreferences fieldContentParserPreferences, boolean keywordSyncEnabled) {
+        this(customImportList, encoding, keywordSeparator, bibtexKeyPatternPreferences, fieldContentParserPreferences,
+                keywordSyncEnabled, 0);
+    }
+
+    public ImportFormatPreferences(Set<CustomImporter> customImportList, Charset encoding, Character keywordSeparator,
+            BibtexKeyPatternPreferences bibtexKeyPatternPreferences,
+            FieldContentParserPreferences fieldContentParserPreferences, boolean keywordSyncEnabled,
+            long parallelParsingThreshold) {
         this.customImportList = customImportList;
         this.encoding = encoding;
         this.keywordSeparator = keywordSeparator;
         this.bibtexKeyPatternPreferences = bibtexKeyPatternPreferences;
         this.fieldContentParserPreferences = fieldContentParserPreferences;
         this.keywordSyncEnabled = keywordSyncEnabled;
+        this.parallelParsingThreshold = parallelParsingThreshold;
     }
 
     /**
@@ -51,9 +61,17 @@ public class ImportFormatPreferences {
         return fieldContentParserPreferences;
     }
 
+    /**
+     * Returns the file size (in bytes) from which on BibTeX files are parsed in parallel. A value of 0 or less disables
+     * parallel parsing.
+     */
+    public long getParallelParsingThreshold() {
+        return parallelParsingThreshold;
+    }
+
     public ImportFormatPreferences withEncoding(Charset newEncoding) {
         return new ImportFormatPreferences(customImportList, newEncoding, keywordSeparator, bibtexKeyPatternPreferences,
-                fieldContentParserPreferences, keywordSyncEnabled);
+                fieldContentParserPreferences, keywordSyncEnabled, parallelParsingThreshold);
     }
 
     /**
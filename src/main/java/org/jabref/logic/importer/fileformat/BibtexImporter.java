@@ -3,6 +3,7 @@ package org.jabref.logic.importer.fileformat;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.nio.charset.Charset;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Objects;
 import java.util.Optional;
@@ -58,11 +59,21 @@ public class BibtexImporter extends Importer {
             }
         }
 
-        if (suppliedEncoding.isPresent()) {
-            return super.importDatabase(filePath, suppliedEncoding.get());
-        } else {
-            return super.importDatabase(filePath, defaultEncoding);
+        Charset encoding = suppliedEncoding.orElse(defaultEncoding);
+        if (isParallelParsingApplicable(filePath)) {
+            try (BufferedReader reader = getReader(filePath, encoding)) {
+                ParserResult parserResult = new ParallelBibtexParser(importFormatPreferences).parse(reader);
+                parserResult.getMetaData().setEncoding(encoding);
+                parserResult.setFile(filePath.toFile());
+                return parserResult;
+            }
         }
+        return super.importDatabase(filePath, encoding);
+    }
+
+    private boolean isParallelParsingApplicable(Path filePath) throws IOException {
+        long threshold = importFormatPreferences.getParallelParsingThreshold();
+        return (threshold > 0) && (Files.size(filePath) >= threshold);
     }
 
     @Override
@@ -4,14 +4,11 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.io.PushbackReader;
 import java.io.Reader;
 import java.io.StringReader;
 import java.nio.charset.StandardCharsets;
 import java.util.Collection;
-import java.util.Deque;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -60,12 +57,21 @@ public class BibtexParser implements Parser {
 
     private static final Log LOGGER = LogFactory.getLog(BibtexParser.class);
     private static final Integer LOOKAHEAD = 64;
+    private static final int BUFFER_SIZE = 8192;
     private final FieldContentParser fieldContentParser;
-    private final Deque<Character> pureTextFromFile = new LinkedList<>();
+    private final StringBuilder pureTextFromFile = new StringBuilder();
     private final ImportFormatPreferences importFormatPreferences;
-    private PushbackReader pushbackReader;
+    // Input is read in blocks into a plain char buffer; unread characters go to a small pushback stack.
+    // This avoids the per-character locking of a PushbackReader and the boxing of a Character list.
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private final char[] pushbackBuffer = new char[LOOKAHEAD];
+    private Reader reader;
+    private int bufferPosition;
+    private int bufferLength;
+    private int pushbackCount;
     private BibDatabase database;
     private Map<String, EntryType> entryTypes;
+    private Map<String, String> meta;
     private boolean eof;
     private int line = 1;
     private ParserResult parserResult;
@@ -136,8 +142,31 @@ public class BibtexParser implements Parser {
      * @throws IOException
      */
     public ParserResult parse(Reader in) throws IOException {
+        parseWithoutMetaData(in);
+
+        // Instantiate meta data:
+        try {
+            parserResult.setMetaData(MetaDataParser.parse(meta, importFormatPreferences.getKeywordSeparator()));
+        } catch (ParseException exception) {
+            parserResult.addException(exception);
+        }
+
+        return parserResult;
+    }
+
+    /**
+     * Parses the content read from the reader, but only collects the JabRef meta data comments instead of
+     * instantiating them. The collected comments are available through {@link #getParsedMetaData()}.
+     * <p>
+     * Used by {@link ParallelBibtexParser}, which merges the meta data of all chunks before instantiating it.
+     */
+    ParserResult parseWithoutMetaData(Reader in) throws IOException {
         Objects.requireNonNull(in);
-        pushbackReader = new PushbackReader(in, BibtexParser.LOOKAHEAD);
+        reader = in;
+        bufferPosition = 0;
+        bufferLength = 0;
+        pushbackCount = 0;
+        pureTextFromFile.setLength(0);
 
         // Bibtex related contents.
         initializeParserResult();
@@ -153,9 +182,17 @@ public class BibtexParser implements Parser {
         }
     }
 
+    /**
+     * Returns the raw JabRef meta data comments (key to serialized value) found during the last parse.
+     */
+    Map<String, String> getParsedMetaData() {
+        return meta;
+    }
+
     private void initializeParserResult() {
         database = new BibDatabase();
         entryTypes = new HashMap<>(); // To store custom entry types parsed.
+        meta = new HashMap<>();
         parserResult = new ParserResult(database, new MetaData(), entryTypes);
     }
 
@@ -181,8 +218,6 @@ public class BibtexParser implements Parser {
     }
 
     private ParserResult parseFileContent() throws IOException {
-        Map<String, String> meta = new HashMap<>();
-
         while (!eof) {
             boolean found = consumeUncritically('@');
             if (!found) {
@@ -203,7 +238,7 @@ public class BibtexParser implements Parser {
             } else if ("string".equals(entryType)) {
                 parseBibtexString();
             } else if ("comment".equals(entryType)) {
-                parseJabRefComment(meta);
+                parseJabRefComment();
             } else {
                 // Not a comment, preamble, or string. Thus, it is an entry
                 parseAndAddEntry(entryType);
@@ -212,13 +247,6 @@ public class BibtexParser implements Parser {
             skipWhitespace();
         }
 
-        // Instantiate meta data:
-        try {
-            parserResult.setMetaData(MetaDataParser.parse(meta, importFormatPreferences.getKeywordSeparator()));
-        } catch (ParseException exception) {
-            parserResult.addException(exception);
-        }
-
         parseRemainingContent();
 
         return parserResult;
@@ -259,7 +287,7 @@ public class BibtexParser implements Parser {
         }
     }
 
-    private void parseJabRefComment(Map<String, String> meta) {
+    private void parseJabRefComment() {
         StringBuilder buffer = null;
         try {
             buffer = parseBracketedTextExactly();
@@ -359,12 +387,9 @@ public class BibtexParser implements Parser {
     }
 
     private String getPureTextFromFile() {
-        StringBuilder entry = new StringBuilder();
-        while (!pureTextFromFile.isEmpty()) {
-            entry.append(pureTextFromFile.pollFirst());
-        }
-
-        return entry.toString();
+        String entry = pureTextFromFile.toString();
+        pureTextFromFile.setLength(0);
+        return entry;
     }
 
     /**
@@ -375,7 +400,7 @@ public class BibtexParser implements Parser {
     private String purgeEOFCharacters(String input) {
 
         StringBuilder remainingText = new StringBuilder();
-        for (Character character : input.toCharArray()) {
+        for (char character : input.toCharArray()) {
             if (!(isEOFCharacter(character))) {
                 remainingText.append(character);
             }
@@ -467,10 +492,10 @@ public class BibtexParser implements Parser {
     }
 
     private int read() throws IOException {
-        int character = pushbackReader.read();
+        int character = readFromBuffer();
 
         if (!isEOFCharacter(character)) {
-            pureTextFromFile.offerLast((char) character);
+            pureTextFromFile.append((char) character);
         }
         if (character == '\n') {
             line++;
@@ -478,13 +503,34 @@ public class BibtexParser implements Parser {
         return character;
     }
 
+    private int readFromBuffer() throws IOException {
+        if (pushbackCount > 0) {
+            return pushbackBuffer[--pushbackCount];
+        }
+        if (bufferPosition >= bufferLength) {
+            do {
+                bufferLength = reader.read(buffer, 0, BUFFER_SIZE);
+            } while (bufferLength == 0);
+            bufferPosition = 0;
+            if (bufferLength < 0) {
+                return -1;
+            }
+        }
+        return buffer[bufferPosition++];
+    }
+
     private void unread(int character) throws IOException {
         if (character == '\n') {
             line--;
         }
-        pushbackReader.unread(character);
-        if (pureTextFromFile.getLast() == character) {
-            pureTextFromFile.pollLast();
+        if (pushbackCount >= LOOKAHEAD) {
+            throw new IOException("Pushback buffer overflow");
+        }
+        // same as PushbackReader: an unread EOF (-1) is read again as 65535, which is treated as EOF as well
+        pushbackBuffer[pushbackCount++] = (char) character;
+        int lastIndex = pureTextFromFile.length() - 1;
+        if ((lastIndex >= 0) && (pureTextFromFile.charAt(lastIndex) == character)) {
+            pureTextFromFile.setLength(lastIndex);
         }
     }
 
@@ -0,0 +1,290 @@
+package org.jabref.logic.importer.fileformat;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.Collectors;
+
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.importer.ParseException;
+import org.jabref.logic.importer.ParserResult;
+import org.jabref.logic.importer.util.MetaDataParser;
+import org.jabref.logic.l10n.Localization;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.KeyCollisionException;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibtexString;
+import org.jabref.model.entry.EntryType;
+import org.jabref.model.metadata.MetaData;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Parses a BibTeX file using all available cores.
+ * <p>
+ * The content is split into chunks at the end of top-level entries. Each chunk is parsed by its own
+ * {@link BibtexParser} and the results are merged in file order into a single {@link ParserResult}.
+ * Strings, the preamble, custom entry types and the JabRef meta data are merged as the sequential parser would
+ * have done it.
+ * <p>
+ * If any chunk reports a problem (e.g., a malformed entry), the whole content is parsed again sequentially so that
+ * the recovery behavior and the warnings are exactly the same as with {@link BibtexParser}.
+ */
+public class ParallelBibtexParser {
+
+    private static final Log LOGGER = LogFactory.getLog(ParallelBibtexParser.class);
+
+    // Splitting into smaller chunks does not pay off because of the merge overhead
+    private static final int MINIMAL_CHUNK_SIZE = 256 * 1024;
+
+    private final ImportFormatPreferences importFormatPreferences;
+    private final ForkJoinPool pool;
+
+    public ParallelBibtexParser(ImportFormatPreferences importFormatPreferences) {
+        this(importFormatPreferences, ForkJoinPool.commonPool());
+    }
+
+    public ParallelBibtexParser(ImportFormatPreferences importFormatPreferences, ForkJoinPool pool) {
+        this.importFormatPreferences = Objects.requireNonNull(importFormatPreferences);
+        this.pool = Objects.requireNonNull(pool);
+    }
+
+    /**
+     * Reads the complete content of the reader and parses it in parallel.
+     * <p>
+     * The reader will be consumed.
+     */
+    public ParserResult parse(Reader in) throws IOException {
+        Objects.requireNonNull(in);
+        StringBuilder content = new StringBuilder();
+        char[] buffer = new char[8192];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            content.append(buffer, 0, read);
+        }
+        return parse(content.toString());
+    }
+
+    public ParserResult parse(String content) throws IOException {
+        int targetChunkSize = Math.max(MINIMAL_CHUNK_SIZE, content.length() / (4 * pool.getParallelism()));
+        return parse(content, targetChunkSize);
+    }
+
+    ParserResult parse(String content, int targetChunkSize) throws IOException {
+        List<String> chunks = splitIntoChunks(content, targetChunkSize);
+        if (chunks.size() < 2) {
+            return new BibtexParser(importFormatPreferences).parse(new StringReader(content));
+        }
+
+        List<BibtexParser> parsers = new ArrayList<>(chunks.size());
+        List<ForkJoinTask<ParserResult>> tasks = new ArrayList<>(chunks.size());
+        for (String chunk : chunks) {
+            BibtexParser parser = new BibtexParser(importFormatPreferences);
+            parsers.add(parser);
+            tasks.add(pool.submit(() -> {
+                try {
+                    return parser.parseWithoutMetaData(new StringReader(chunk));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }));
+        }
+
+        List<ParserResult> results;
+        try {
+            results = tasks.stream().map(ForkJoinTask::join).collect(Collectors.toList());
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        if (!isCleanlySplit(results)) {
+            LOGGER.debug("Parallel parsing reported problems, falling back to sequential parsing");
+            return new BibtexParser(importFormatPreferences).parse(new StringReader(content));
+        }
+
+        return merge(parsers, results);
+    }
+
+    /**
+     * Chunks may only be merged if no chunk needed error recovery and no text was left over between two chunks.
+     */
+    private static boolean isCleanlySplit(List<ParserResult> results) {
+        for (int i = 0; i < results.size(); i++) {
+            ParserResult result = results.get(i);
+            if (result.hasWarnings()) {
+                return false;
+            }
+            boolean isLastChunk = i == (results.size() - 1);
+            if (!isLastChunk && !result.getDatabase().getEpilog().isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private ParserResult merge(List<BibtexParser> parsers, List<ParserResult> results) {
+        BibDatabase database = new BibDatabase();
+        Map<String, EntryType> entryTypes = new HashMap<>();
+        Map<String, String> meta = new HashMap<>();
+        ParserResult parserResult = new ParserResult(database, new MetaData(), entryTypes);
+
+        // The database ID is only written in the header of the file
+        results.get(0).getDatabase().getSharedDatabaseID().ifPresent(database::setSharedDatabaseID);
+
+        for (int i = 0; i < results.size(); i++) {
+            ParserResult result = results.get(i);
+            BibDatabase chunkDatabase = result.getDatabase();
+
+            chunkDatabase.getPreamble().ifPresent(database::setPreamble);
+
+            for (BibtexString string : chunkDatabase.getStringValues()) {
+                try {
+                    database.addString(string);
+                } catch (KeyCollisionException ex) {
+                    parserResult.addWarning(Localization.lang("Duplicate string name") + ": " + string.getName());
+                }
+            }
+
+            for (BibEntry entry : chunkDatabase.getEntries()) {
+                // the chunk database is thrown away, it must not keep listening to the entry
+                entry.unregisterListener(chunkDatabase);
+                boolean duplicateKey = database.insertEntry(entry);
+                if (duplicateKey) {
+                    parserResult.addDuplicateKey(entry.getCiteKey());
+                }
+            }
+
+            entryTypes.putAll(result.getEntryTypes());
+            meta.putAll(parsers.get(i).getParsedMetaData());
+        }
+
+        database.setEpilog(results.get(results.size() - 1).getDatabase().getEpilog());
+
+        try {
+            parserResult.setMetaData(MetaDataParser.parse(meta, importFormatPreferences.getKeywordSeparator()));
+        } catch (ParseException exception) {
+            parserResult.addException(exception);
+        }
+
+        return parserResult;
+    }
+
+    /**
+     * Splits the content into chunks of at least the given size. A chunk always ends directly after a top-level
+     * entry (including the newline following it), which is exactly the point where the sequential parser has
+     * consumed the entry. Comments in front of an entry therefore stay in the same chunk as the entry.
+     */
+    static List<String> splitIntoChunks(String content, int targetChunkSize) {
+        List<String> chunks = new ArrayList<>();
+        int chunkStart = 0;
+        int position = 0;
+        while (position < content.length()) {
+            int entryEnd = findEndOfEntry(content, position);
+            if (entryEnd < 0) {
+                break;
+            }
+            position = entryEnd;
+            if ((position - chunkStart) >= targetChunkSize) {
+                chunks.add(content.substring(chunkStart, position));
+                chunkStart = position;
+            }
+        }
+        if (chunkStart < content.length()) {
+            chunks.add(content.substring(chunkStart));
+        }
+        return chunks;
+    }
+
+    /**
+     * Finds the next top-level entry starting at the given position and returns the position directly after it.
+     * Only entries delimited by braces are considered as split points; strings, preambles, comments and entries
+     * delimited by parentheses are skipped, as their text may belong to the following entry.
+     *
+     * @return the position after the entry, or -1 if there is no further entry
+     */
+    private static int findEndOfEntry(String content, int start) {
+        int position = start;
+        while (true) {
+            int at = content.indexOf('@', position);
+            if (at < 0) {
+                return -1;
+            }
+
+            int typeEnd = at + 1;
+            while ((typeEnd < content.length()) && Character.isLetterOrDigit(content.charAt(typeEnd))) {
+                typeEnd++;
+            }
+            String type = content.substring(at + 1, typeEnd);
+            int opening = typeEnd;
+            while ((opening < content.length()) && Character.isWhitespace(content.charAt(opening))) {
+                opening++;
+            }
+            if (type.isEmpty() || (opening >= content.length()) || (content.charAt(opening) != '{')) {
+                position = at + 1;
+                continue;
+            }
+
+            int closing = findClosingBrace(content, opening);
+            if (closing < 0) {
+                return -1;
+            }
+            position = closing + 1;
+            if (isSpecialType(type)) {
+                continue;
+            }
+            return skipOneNewline(content, position);
+        }
+    }
+
+    private static boolean isSpecialType(String type) {
+        return "comment".equalsIgnoreCase(type) || "string".equalsIgnoreCase(type)
+                || "preamble".equalsIgnoreCase(type);
+    }
+
+    /**
+     * Brace matching as done by the parser for bracketed field contents: escaped braces are not counted.
+     */
+    private static int findClosingBrace(String content, int opening) {
+        int brackets = 0;
+        char lastCharacter = '\0';
+        for (int i = opening; i < content.length(); i++) {
+            char character = content.charAt(i);
+            if ((character == '{') && (lastCharacter != '\\')) {
+                brackets++;
+            } else if ((character == '}') && (lastCharacter != '\\')) {
+                brackets--;
+                if (brackets == 0) {
+                    return i;
+                }
+            }
+            lastCharacter = character;
+        }
+        return -1;
+    }
+
+    /**
+     * Mirrors the parser consuming the new line that signals the end of an entry
+     */
+    private static int skipOneNewline(String content, int start) {
+        int position = start;
+        while ((position < content.length()) && (content.charAt(position) == ' ')) {
+            position++;
+        }
+        if ((position < content.length()) && (content.charAt(position) == '\r')) {
+            position++;
+        }
+        if ((position < content.length()) && (content.charAt(position) == '\n')) {
+            position++;
+        }
+        return position;
+    }
+}
@@ -1,5 +1,6 @@
 package org.jabref.logic.integrity;
 
+import java.nio.file.Path;
 import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -17,10 +18,17 @@ public class FieldCheckers {
     private Multimap<String, ValueChecker> fieldChecker;
 
     public FieldCheckers(BibDatabaseContext databaseContext, FileDirectoryPreferences fileDirectoryPreferences) {
-        fieldChecker = getAllMap(databaseContext, fileDirectoryPreferences);
+        fieldChecker = getAllMap(databaseContext, new FileChecker(databaseContext, fileDirectoryPreferences));
     }
 
-    private static Multimap<String, ValueChecker> getAllMap(BibDatabaseContext databaseContext, FileDirectoryPreferences fileDirectoryPreferences) {
+    /**
+     * Creates the checkers for a single check of many entries, which look for linked files in the given directories
+     */
+    public FieldCheckers(BibDatabaseContext databaseContext, List<Path> fileDirectories) {
+        fieldChecker = getAllMap(databaseContext, new FileChecker(fileDirectories));
+    }
+
+    private static Multimap<String, ValueChecker> getAllMap(BibDatabaseContext databaseContext, FileChecker fileChecker) {
         ArrayListMultimap<String, ValueChecker> fieldCheckers = ArrayListMultimap.create(50, 10);
 
         for (String field : InternalBibtexFields.getJournalNameFields()) {
@@ -37,7 +45,7 @@ public class FieldCheckers {
         fieldCheckers.put(FieldName.TITLE, new TitleChecker(databaseContext));
         fieldCheckers.put(FieldName.DOI, new DOIValidityChecker());
         fieldCheckers.put(FieldName.EDITION, new EditionChecker(databaseContext));
-        fieldCheckers.put(FieldName.FILE, new FileChecker(databaseContext, fileDirectoryPreferences));
+        fieldCheckers.put(FieldName.FILE, fileChecker);
         fieldCheckers.put(FieldName.HOWPUBLISHED, new HowPublishedChecker(databaseContext));
         fieldCheckers.put(FieldName.ISBN, new ISBNChecker());
         fieldCheckers.put(FieldName.ISSN, new ISSNChecker());
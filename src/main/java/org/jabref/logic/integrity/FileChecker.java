@@ -1,12 +1,14 @@
 package org.jabref.logic.integrity;
 
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.jabref.logic.l10n.Localization;
+import org.jabref.logic.util.io.DirectoryIndex;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.FileFieldParser;
 import org.jabref.model.entry.LinkedFile;
@@ -15,13 +17,21 @@ import org.jabref.model.strings.StringUtil;
 
 public class FileChecker implements ValueChecker {
 
-    private final BibDatabaseContext context;
-    private final FileDirectoryPreferences fileDirectoryPreferences;
-
+    private final Supplier<List<Path>> fileDirectories;
 
+    /**
+     * Creates a checker which determines the file directories of the database for every check
+     */
     public FileChecker(BibDatabaseContext context, FileDirectoryPreferences fileDirectoryPreferences) {
-        this.context = context;
-        this.fileDirectoryPreferences = fileDirectoryPreferences;
+        this.fileDirectories = () -> context.getFileDirectoriesAsPaths(fileDirectoryPreferences);
+    }
+
+    /**
+     * Creates a checker which looks for files in the given, already determined directories
+     */
+    public FileChecker(List<Path> fileDirectories) {
+        Objects.requireNonNull(fileDirectories);
+        this.fileDirectories = () -> fileDirectories;
     }
 
     @Override
@@ -35,8 +45,7 @@ public class FileChecker implements ValueChecker {
                 .collect(Collectors.toList());
 
         for (LinkedFile file : linkedFiles) {
-            Optional<Path> linkedFile = file.findIn(context, fileDirectoryPreferences);
-            if ((!linkedFile.isPresent()) || !Files.exists(linkedFile.get())) {
+            if (!DirectoryIndex.findExistingFile(file, fileDirectories.get()).isPresent()) {
                 return Optional.of(Localization.lang("link should refer to a correct file path"));
             }
         }
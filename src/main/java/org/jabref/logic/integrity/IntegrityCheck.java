@@ -1,16 +1,33 @@
 package org.jabref.logic.integrity;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.jabref.logic.bibtexkeypattern.BibtexKeyPatternPreferences;
 import org.jabref.logic.journals.JournalAbbreviationRepository;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.FieldName;
+import org.jabref.model.entry.event.EntryChangedEvent;
 import org.jabref.model.metadata.FileDirectoryPreferences;
 
+import com.google.common.eventbus.Subscribe;
+
+/**
+ * Checks the entries of a database for common problems.
+ * <p>
+ * The checkers are created once per run and shared by all entries, which are checked in parallel. The messages are
+ * ordered like the entries of the database.
+ * <p>
+ * When registered as listener of the database, the check remembers which entries changed since the last run, so that
+ * {@link #checkChangedEntries()} only checks these again.
+ */
 public class IntegrityCheck {
 
     private final BibDatabaseContext bibDatabaseContext;
@@ -18,6 +35,12 @@ public class IntegrityCheck {
     private final BibtexKeyPatternPreferences bibtexKeyPatternPreferences;
     private final JournalAbbreviationRepository journalAbbreviationRepository;
 
+    // The messages of every entry found by the last run, guarded by this
+    private final Map<BibEntry, List<IntegrityMessage>> lastMessages = new IdentityHashMap<>();
+    private boolean checkedBefore;
+    private final Set<BibEntry> changedEntries = Collections.synchronizedSet(
+            Collections.newSetFromMap(new IdentityHashMap<>()));
+
     public IntegrityCheck(BibDatabaseContext bibDatabaseContext,
                           FileDirectoryPreferences fileDirectoryPreferences,
                           BibtexKeyPatternPreferences bibtexKeyPatternPreferences,
@@ -29,44 +52,96 @@ public class IntegrityCheck {
         this.journalAbbreviationRepository = Objects.requireNonNull(journalAbbreviationRepository);
     }
 
-    public List<IntegrityMessage> checkBibtexDatabase() {
-        List<IntegrityMessage> result = new ArrayList<>();
+    public synchronized List<IntegrityMessage> checkBibtexDatabase() {
+        changedEntries.clear();
+        return check(bibDatabaseContext.getDatabase().getEntries(), Collections.emptyMap());
+    }
 
-        for (BibEntry entry : bibDatabaseContext.getDatabase().getEntries()) {
-            result.addAll(checkBibtexEntry(entry));
+    /**
+     * Checks the entries which were added or changed since the last run and returns the messages of all entries, like
+     * {@link #checkBibtexDatabase()}. The messages of unchanged entries are taken from the last run. Messages which
+     * depend on other entries, e.g. about links or generated keys, are thus only updated when the entry itself changes.
+     * <p>
+     * Checks all entries if there was no run before.
+     */
+    public synchronized List<IntegrityMessage> checkChangedEntries() {
+        if (!checkedBefore) {
+            return checkBibtexDatabase();
         }
 
-        return result;
+        Map<BibEntry, List<IntegrityMessage>> unchangedMessages = new IdentityHashMap<>(lastMessages);
+        synchronized (changedEntries) {
+            unchangedMessages.keySet().removeAll(changedEntries);
+            changedEntries.clear();
+        }
+        return check(bibDatabaseContext.getDatabase().getEntries(), unchangedMessages);
     }
 
-    private List<IntegrityMessage> checkBibtexEntry(BibEntry entry) {
-        List<IntegrityMessage> result = new ArrayList<>();
+    @Subscribe
+    public void listen(EntryChangedEvent event) {
+        changedEntries.add(event.getBibEntry());
+    }
 
-        if (entry == null) {
-            return result;
-        }
+    private List<IntegrityMessage> check(List<BibEntry> entries, Map<BibEntry, List<IntegrityMessage>> knownMessages) {
+        List<Checker> checkers = createCheckers();
 
-        FieldCheckers fieldCheckers = new FieldCheckers(bibDatabaseContext, fileDirectoryPreferences);
-        for (FieldChecker checker : fieldCheckers.getAll()) {
-            result.addAll(checker.check(entry));
+        List<List<IntegrityMessage>> messages = entries.parallelStream()
+                .map(entry -> {
+                    List<IntegrityMessage> known = knownMessages.get(entry);
+                    return known == null ? checkBibtexEntry(entry, checkers) : known;
+                })
+                .collect(Collectors.toList());
+
+        lastMessages.clear();
+        List<IntegrityMessage> result = new ArrayList<>();
+        for (int i = 0; i < entries.size(); i++) {
+            lastMessages.put(entries.get(i), messages.get(i));
+            result.addAll(messages.get(i));
         }
+        checkedBefore = true;
+        return result;
+    }
+
+    /**
+     * Creates the checkers of a run, which do not keep any state and are thus used for all entries in parallel
+     */
+    private List<Checker> createCheckers() {
+        List<Checker> checkers = new ArrayList<>();
+
+        FieldCheckers fieldCheckers = new FieldCheckers(bibDatabaseContext,
+                bibDatabaseContext.getFileDirectoriesAsPaths(fileDirectoryPreferences));
+        checkers.addAll(fieldCheckers.getAll());
 
         if (!bibDatabaseContext.isBiblatexMode()) {
             // BibTeX only checkers
-            result.addAll(new ASCIICharacterChecker().check(entry));
-            result.addAll(new NoBibtexFieldChecker().check(entry));
-            result.addAll(new BibTeXEntryTypeChecker().check(entry));
-            result.addAll(new JournalInAbbreviationListChecker(FieldName.JOURNAL, journalAbbreviationRepository).check(entry));
+            checkers.add(new ASCIICharacterChecker());
+            checkers.add(new NoBibtexFieldChecker());
+            checkers.add(new BibTeXEntryTypeChecker());
+            checkers.add(new JournalInAbbreviationListChecker(FieldName.JOURNAL, journalAbbreviationRepository));
         } else {
-            result.addAll(new JournalInAbbreviationListChecker(FieldName.JOURNALTITLE, journalAbbreviationRepository).check(entry));
+            checkers.add(new JournalInAbbreviationListChecker(FieldName.JOURNALTITLE, journalAbbreviationRepository));
+        }
+
+        checkers.add(new BibtexKeyChecker());
+        checkers.add(new TypeChecker());
+        checkers.add(new BibStringChecker());
+        checkers.add(new HTMLCharacterChecker());
+        checkers.add(new EntryLinkChecker(bibDatabaseContext.getDatabase()));
+        checkers.add(new BibtexkeyDeviationChecker(bibDatabaseContext, bibtexKeyPatternPreferences));
+
+        return checkers;
+    }
+
+    private List<IntegrityMessage> checkBibtexEntry(BibEntry entry, List<Checker> checkers) {
+        List<IntegrityMessage> result = new ArrayList<>();
+
+        if (entry == null) {
+            return result;
         }
 
-        result.addAll(new BibtexKeyChecker().check(entry));
-        result.addAll(new TypeChecker().check(entry));
-        result.addAll(new BibStringChecker().check(entry));
-        result.addAll(new HTMLCharacterChecker().check(entry));
-        result.addAll(new EntryLinkChecker(bibDatabaseContext.getDatabase()).check(entry));
-        result.addAll(new BibtexkeyDeviationChecker(bibDatabaseContext, bibtexKeyPatternPreferences).check(entry));
+        for (Checker checker : checkers) {
+            result.addAll(checker.check(entry));
+        }
 
         return result;
     }
@@ -1,8 +1,12 @@
 package org.jabref.logic.journals;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -12,27 +16,89 @@ import org.apache.commons.logging.LogFactory;
 
 /**
  * A repository for all journal abbreviations, including add and find methods.
+ * <p>
+ * Lookups are answered by hash indexes over the case-folded full names and abbreviations. If a name is not found
+ * as given, it is looked up again with punctuation and spacing normalized, so that e.g. "J Appl. Phys" finds
+ * "J. Appl. Phys.".
  */
 public class JournalAbbreviationRepository {
 
     private static final Log LOGGER = LogFactory.getLog(JournalAbbreviationRepository.class);
     private final Set<Abbreviation> abbreviations = new HashSet<>(16000); // We have over 15.000 abbreviations in the built-in lists
 
+    // case-folded full name -> abbreviations
+    private final Map<String, List<Abbreviation>> fullNames = new HashMap<>(16000);
+    // case-folded ISO and MEDLINE abbreviation -> abbreviations
+    private final Map<String, List<Abbreviation>> abbreviatedNames = new HashMap<>(32000);
+    // the same indexes with normalized punctuation
+    private final Map<String, List<Abbreviation>> normalizedFullNames = new HashMap<>(16000);
+    private final Map<String, List<Abbreviation>> normalizedAbbreviatedNames = new HashMap<>(16000);
+
     public JournalAbbreviationRepository(Abbreviation... abbreviations) {
         for (Abbreviation abbreviation : abbreviations) {
             addEntry(abbreviation);
         }
     }
 
-    private static boolean isMatched(String name, Abbreviation abbreviation) {
-        return name.equalsIgnoreCase(abbreviation.getName())
-                || name.equalsIgnoreCase(abbreviation.getIsoAbbreviation())
-                || name.equalsIgnoreCase(abbreviation.getMedlineAbbreviation());
+    /**
+     * Folds the case character by character, which matches the same strings as {@link String#equalsIgnoreCase}.
+     */
+    private static String foldCase(String name) {
+        StringBuilder folded = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            folded.append(Character.toLowerCase(Character.toUpperCase(name.charAt(i))));
+        }
+        return folded.toString();
+    }
+
+    /**
+     * Folds the case and replaces every run of characters other than letters and digits by a single space.
+     */
+    private static String normalize(String name) {
+        StringBuilder normalized = new StringBuilder(name.length());
+        boolean separator = false;
+        for (int i = 0; i < name.length(); i++) {
+            char character = Character.toLowerCase(Character.toUpperCase(name.charAt(i)));
+            if (Character.isLetterOrDigit(character)) {
+                if (separator && (normalized.length() > 0)) {
+                    normalized.append(' ');
+                }
+                normalized.append(character);
+                separator = false;
+            } else {
+                separator = true;
+            }
+        }
+        return normalized.toString();
+    }
+
+    private static Optional<Abbreviation> find(Map<String, List<Abbreviation>> index, String key) {
+        List<Abbreviation> matches = index.get(key);
+        if (matches == null) {
+            return Optional.empty();
+        }
+        return Optional.of(matches.get(0));
+    }
+
+    private static void addToIndex(Map<String, List<Abbreviation>> index, String key, Abbreviation abbreviation) {
+        if (key.isEmpty()) {
+            return;
+        }
+        List<Abbreviation> matches = index.computeIfAbsent(key, k -> new ArrayList<>(1));
+        if (!matches.contains(abbreviation)) {
+            matches.add(abbreviation);
+        }
     }
 
-    private static boolean isMatchedAbbreviated(String name, Abbreviation abbreviation) {
-        return name.equalsIgnoreCase(abbreviation.getIsoAbbreviation())
-                || name.equalsIgnoreCase(abbreviation.getMedlineAbbreviation());
+    private static void removeFromIndex(Map<String, List<Abbreviation>> index, String key, Abbreviation abbreviation) {
+        List<Abbreviation> matches = index.get(key);
+        if (matches != null) {
+            // abbreviations with the same name are equal, thus compare by identity
+            matches.removeIf(match -> match == abbreviation);
+            if (matches.isEmpty()) {
+                index.remove(key);
+            }
+        }
     }
 
     public int size() {
@@ -40,34 +106,76 @@ public class JournalAbbreviationRepository {
     }
 
     public boolean isKnownName(String journalName) {
-        return abbreviations.stream().anyMatch(abbreviation -> isMatched(journalName.trim(), abbreviation));
+        return getAbbreviation(journalName).isPresent();
     }
 
     public boolean isAbbreviatedName(String journalName) {
-        return abbreviations.stream().anyMatch(abbreviation -> isMatchedAbbreviated(journalName.trim(), abbreviation));
+        String trimmed = journalName.trim();
+        String folded = foldCase(trimmed);
+        if (abbreviatedNames.containsKey(folded)) {
+            return true;
+        }
+        // only fall back to the normalized form if the name is not known as given
+        return !fullNames.containsKey(folded) && normalizedAbbreviatedNames.containsKey(normalize(trimmed));
     }
 
     /**
      * Attempts to get the abbreviated name of the journal given. May contain dots.
+     * Full names are preferred to abbreviations, and exact matches (ignoring case) to matches with normalized
+     * punctuation.
      *
      * @param journalName The journal name to abbreviate.
      * @return The abbreviated name
      */
     public Optional<Abbreviation> getAbbreviation(String journalName) {
-        return abbreviations.stream().filter(abbreviation -> isMatched(journalName.trim(), abbreviation)).findFirst();
+        String trimmed = journalName.trim();
+        String folded = foldCase(trimmed);
+        Optional<Abbreviation> abbreviation = find(fullNames, folded);
+        if (!abbreviation.isPresent()) {
+            abbreviation = find(abbreviatedNames, folded);
+        }
+        if (!abbreviation.isPresent()) {
+            String normalized = normalize(trimmed);
+            abbreviation = find(normalizedFullNames, normalized);
+            if (!abbreviation.isPresent()) {
+                abbreviation = find(normalizedAbbreviatedNames, normalized);
+            }
+        }
+        return abbreviation;
     }
 
     public void addEntry(Abbreviation abbreviation) {
         Objects.requireNonNull(abbreviation);
 
         if (abbreviations.contains(abbreviation)) {
-            Abbreviation previous = getAbbreviation(abbreviation.getName()).get();
+            Abbreviation previous = fullNames.get(foldCase(abbreviation.getName())).stream()
+                    .filter(abbreviation::equals)
+                    .findFirst().get();
             abbreviations.remove(previous);
+            removeFromIndexes(previous);
             LOGGER.info("Duplicate journal abbreviation - old one will be overwritten by new one\nOLD: "
                     + previous + "\nNEW: " + abbreviation);
         }
 
         abbreviations.add(abbreviation);
+        addToIndexes(abbreviation);
+    }
+
+    private void addToIndexes(Abbreviation abbreviation) {
+        addToIndex(fullNames, foldCase(abbreviation.getName()), abbreviation);
+        addToIndex(abbreviatedNames, foldCase(abbreviation.getIsoAbbreviation()), abbreviation);
+        addToIndex(abbreviatedNames, foldCase(abbreviation.getMedlineAbbreviation()), abbreviation);
+        addToIndex(normalizedFullNames, normalize(abbreviation.getName()), abbreviation);
+        // the MEDLINE abbreviation only differs in punctuation from the ISO one
+        addToIndex(normalizedAbbreviatedNames, normalize(abbreviation.getIsoAbbreviation()), abbreviation);
+    }
+
+    private void removeFromIndexes(Abbreviation abbreviation) {
+        removeFromIndex(fullNames, foldCase(abbreviation.getName()), abbreviation);
+        removeFromIndex(abbreviatedNames, foldCase(abbreviation.getIsoAbbreviation()), abbreviation);
+        removeFromIndex(abbreviatedNames, foldCase(abbreviation.getMedlineAbbreviation()), abbreviation);
+        removeFromIndex(normalizedFullNames, normalize(abbreviation.getName()), abbreviation);
+        removeFromIndex(normalizedAbbreviatedNames, normalize(abbreviation.getIsoAbbreviation()), abbreviation);
     }
 
     public void addEntries(Collection<Abbreviation> abbreviationsToAdd) {
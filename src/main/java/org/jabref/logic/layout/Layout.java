@@ -137,4 +137,12 @@ public class Layout {
     public List<String> getMissingFormatters() {
         return new ArrayList<>(missingFormatters);
     }
+
+    /**
+     * Returns whether entries can be laid out in any order and concurrently. This is not the case for layouts
+     * containing groups, entry numbers or formatters which are not known to be thread safe.
+     */
+    public boolean canLayOutConcurrently() {
+        return layoutEntries.stream().allMatch(LayoutEntry::canLayOutConcurrently);
+    }
 }
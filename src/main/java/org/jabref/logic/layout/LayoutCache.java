@@ -0,0 +1,97 @@
+package org.jabref.logic.layout;
+
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+/**
+ * Keeps parsed layout files for reuse, so that a layout file is read and parsed only once as long as it is not
+ * modified.
+ * <p>
+ * The cache stores the parsed text of the layouts, and the formatters are resolved whenever a {@link Layout} is
+ * requested. The formatters depend on the given {@link LayoutFormatterPreferences}, including the custom name
+ * formatters of an export filter, which may differ from one request to the next.
+ */
+public class LayoutCache {
+
+    private static final int MAX_LAYOUT_FILES = 256;
+
+    private final Cache<LayoutSource, List<StringInt>> parsedLayouts = CacheBuilder.newBuilder()
+            .maximumSize(MAX_LAYOUT_FILES)
+            .build();
+
+    /**
+     * Returns the layout stored in the given resource. Resources are assumed not to change while JabRef is running.
+     */
+    public Layout getLayout(URL resource, LayoutFormatterPreferences prefs) throws IOException {
+        Objects.requireNonNull(resource);
+        LayoutSource source = new LayoutSource(resource.toExternalForm(), 0);
+        return new Layout(getParsedEntries(source, () -> new InputStreamReader(resource.openStream()), prefs), prefs);
+    }
+
+    /**
+     * Returns the layout stored in the given file. The file is parsed again if it was modified since the last request.
+     */
+    public Layout getLayout(Path file, LayoutFormatterPreferences prefs) throws IOException {
+        Objects.requireNonNull(file);
+        LayoutSource source = new LayoutSource(file.toAbsolutePath().toString(),
+                Files.getLastModifiedTime(file).toMillis());
+        return new Layout(getParsedEntries(source, () -> new FileReader(file.toFile()), prefs), prefs);
+    }
+
+    private List<StringInt> getParsedEntries(LayoutSource source, Callable<Reader> readerSupplier,
+            LayoutFormatterPreferences prefs) throws IOException {
+        try {
+            return parsedLayouts.get(source, () -> {
+                try (Reader reader = readerSupplier.call()) {
+                    return new LayoutHelper(reader, prefs).getParsedEntries();
+                }
+            });
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            Throwables.throwIfInstanceOf(e.getCause(), IOException.class);
+            Throwables.throwIfUnchecked(e.getCause());
+            throw new IOException(e.getCause());
+        }
+    }
+
+    private static class LayoutSource {
+
+        private final String location;
+        private final long lastModified;
+
+        LayoutSource(String location, long lastModified) {
+            this.location = location;
+            this.lastModified = lastModified;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if ((o == null) || (getClass() != o.getClass())) {
+                return false;
+            }
+            LayoutSource that = (LayoutSource) o;
+            return (lastModified == that.lastModified) && location.equals(that.location);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(location, lastModified);
+        }
+    }
+}
@@ -5,9 +5,12 @@ import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
 
 import org.jabref.logic.formatter.bibtexfields.HtmlToLatexFormatter;
 import org.jabref.logic.formatter.bibtexfields.UnicodeToLatexFormatter;
@@ -87,15 +90,48 @@ import org.apache.commons.logging.LogFactory;
 class LayoutEntry {
     private static final Log LOGGER = LogFactory.getLog(LayoutEntry.class);
 
+    private static final Pattern AND_FIELDS = Pattern.compile(".*(;|(\\&+)).*");
+    private static final Pattern AND_SEPARATOR = Pattern.compile("\\s*(;|(\\&+))\\s*");
+    private static final Pattern OR_SEPARATOR = Pattern.compile("\\s*(\\|+)\\s*");
+
+    // The formatters which keep no state between two calls of format, so that one instance can be used by several
+    // threads. Number is missing as it prints the position of the entry, JournalAbbreviator as it loads the
+    // abbreviations lazily.
+    private static final Set<Class<? extends LayoutFormatter>> THREAD_SAFE_FORMATTERS = new HashSet<>(Arrays.asList(
+            HtmlToLatexFormatter.class, UnicodeToLatexFormatter.class, OOPreFormatter.class, AuthorAbbreviator.class,
+            AuthorAndToSemicolonReplacer.class, AuthorAndsCommaReplacer.class, AuthorAndsReplacer.class,
+            AuthorFirstAbbrLastCommas.class, AuthorFirstAbbrLastOxfordCommas.class, AuthorFirstFirst.class,
+            AuthorFirstFirstCommas.class, AuthorFirstLastCommas.class, AuthorFirstLastOxfordCommas.class,
+            AuthorLastFirst.class, AuthorLastFirstAbbrCommas.class, AuthorLastFirstAbbreviator.class,
+            AuthorLastFirstAbbrOxfordCommas.class, AuthorLastFirstCommas.class, AuthorLastFirstOxfordCommas.class,
+            AuthorLF_FF.class, AuthorLF_FFAbbr.class, AuthorNatBib.class, AuthorOrgSci.class, CompositeFormat.class,
+            CreateBibORDFAuthors.class, CreateDocBookAuthors.class, CreateDocBookEditors.class, CurrentDate.class,
+            DateFormatter.class, DOICheck.class, DOIStrip.class, EntryTypeFormatter.class, FirstPage.class,
+            FormatPagesForHTML.class, FormatPagesForXML.class, GetOpenOfficeType.class, HTMLChars.class,
+            HTMLParagraphs.class, Iso690FormatDate.class, Iso690NamesAuthors.class, LastPage.class,
+            LatexToUnicodeFormatter.class, NameFormatter.class, NoSpaceBetweenAbbreviations.class, Ordinal.class,
+            RemoveBrackets.class, RemoveBracketsAddComma.class, RemoveLatexCommandsFormatter.class, RemoveTilde.class,
+            RemoveWhitespace.class, RisKeywords.class, RisMonth.class, RTFChars.class, ToLowerCase.class,
+            ToUpperCase.class, XMLChars.class, Default.class, FileLink.class, RisAuthors.class, Authors.class,
+            IfPlural.class, Replace.class, WrapContent.class, WrapFileLinks.class, NotFoundFormatter.class));
+
     private List<LayoutFormatter> option;
 
     // Formatter to be run after other formatters:
     private LayoutFormatter postFormatter;
 
+    // The formatters of the option field followed by the post formatter, resolved once instead of for every entry
+    private LayoutFormatter[] formatterChain = new LayoutFormatter[0];
+
     private String text;
 
     private List<LayoutEntry> layoutEntries;
 
+    // The fields of a field block, which are split when the layout is parsed and not for every entry
+    private String[] blockFields;
+    // Whether all fields of a field block have to be present (separated by ;, & or &&) or only one (separated by |)
+    private boolean allBlockFieldsRequired;
+
     private final int type;
 
     private final List<String> invalidFormatter = new ArrayList<>();
@@ -134,6 +170,9 @@ class LayoutEntry {
 
         type = layoutType;
         text = blockEnd;
+        // split the strings along &, && or ; for AND formatter and along |, || for OR formatter
+        allBlockFieldsRequired = AND_FIELDS.matcher(text).matches();
+        blockFields = (allBlockFieldsRequired ? AND_SEPARATOR : OR_SEPARATOR).split(text);
         List<StringInt> blockEntries = null;
         for (StringInt parsedEntry : parsedEntries.subList(1, parsedEntries.size() - 1)) {
             switch (parsedEntry.i) {
@@ -179,6 +218,7 @@ class LayoutEntry {
 
     public void setPostFormatter(LayoutFormatter formatter) {
         this.postFormatter = formatter;
+        resolveFormatterChain();
     }
 
     public String doLayout(BibEntry bibtex, BibDatabase database) {
@@ -186,13 +226,7 @@ class LayoutEntry {
         case LayoutHelper.IS_LAYOUT_TEXT:
             return text;
         case LayoutHelper.IS_SIMPLE_FIELD:
-            String value = bibtex.getResolvedFieldOrAlias(text, database).orElse("");
-
-            // If a post formatter has been set, call it:
-            if (postFormatter != null) {
-                value = postFormatter.format(value);
-            }
-            return value;
+            return format(bibtex.getResolvedFieldOrAlias(text, database).orElse(""));
         case LayoutHelper.IS_FIELD_START:
         case LayoutHelper.IS_GROUP_START:
             return handleFieldOrGroupStart(bibtex, database);
@@ -230,39 +264,24 @@ class LayoutEntry {
             // changed section end - arudert
         }
 
-        if (option != null) {
-            for (LayoutFormatter anOption : option) {
-                fieldEntry = anOption.format(fieldEntry);
-            }
-        }
-
-        // If a post formatter has been set, call it:
-        if (postFormatter != null) {
-            fieldEntry = postFormatter.format(fieldEntry);
-        }
-
-        return fieldEntry;
+        return format(fieldEntry);
     }
 
     private String handleFieldOrGroupStart(BibEntry bibtex, BibDatabase database) {
         Optional<String> field;
         if (type == LayoutHelper.IS_GROUP_START) {
             field = bibtex.getResolvedFieldOrAlias(text, database);
-        } else if (text.matches(".*(;|(\\&+)).*")) {
-            // split the strings along &, && or ; for AND formatter
-            String[] parts = text.split("\\s*(;|(\\&+))\\s*");
+        } else if (allBlockFieldsRequired) {
             field = Optional.empty();
-            for (String part : parts) {
+            for (String part : blockFields) {
                 field = bibtex.getResolvedFieldOrAlias(part, database);
                 if (!field.isPresent()) {
                     break;
                 }
             }
         } else {
-            // split the strings along |, ||  for OR formatter
-            String[] parts = text.split("\\s*(\\|+)\\s*");
             field = Optional.empty();
-            for (String part : parts) {
+            for (String part : blockFields) {
                 field = bibtex.getResolvedFieldOrAlias(part, database);
                 if (field.isPresent()) {
                     break;
@@ -343,18 +362,7 @@ class LayoutEntry {
             throw new UnsupportedOperationException("field and group ends not allowed in begin or end layout");
 
         case LayoutHelper.IS_OPTION_FIELD:
-            String field = BibDatabase.getText(text, databaseContext.getDatabase());
-            if (option != null) {
-                for (LayoutFormatter anOption : option) {
-                    field = anOption.format(field);
-                }
-            }
-            // If a post formatter has been set, call it:
-            if (postFormatter != null) {
-                field = postFormatter.format(field);
-            }
-
-            return field;
+            return format(BibDatabase.getText(text, databaseContext.getDatabase()));
 
         case LayoutHelper.IS_ENCODING_NAME:
             return encoding.displayName();
@@ -390,6 +398,29 @@ class LayoutEntry {
             }
 
         }
+        resolveFormatterChain();
+    }
+
+    private void resolveFormatterChain() {
+        List<LayoutFormatter> formatters = new ArrayList<>();
+        if (option != null) {
+            formatters.addAll(option);
+        }
+        if (postFormatter != null) {
+            formatters.add(postFormatter);
+        }
+        formatterChain = formatters.toArray(new LayoutFormatter[formatters.size()]);
+    }
+
+    /**
+     * Applies the formatters of the option field and the post formatter to the given text
+     */
+    private String format(String fieldText) {
+        String result = fieldText;
+        for (LayoutFormatter formatter : formatterChain) {
+            result = formatter.format(result);
+        }
+        return result;
     }
 
     private LayoutFormatter getLayoutFormatterByName(String name) throws Exception {
@@ -597,6 +628,21 @@ class LayoutEntry {
         return invalidFormatter;
     }
 
+    /**
+     * Returns whether entries can be laid out in any order and concurrently. This requires that the output for an
+     * entry does not depend on the entries laid out before, which is not the case for groups, as they are only printed
+     * when the group changes. All formatters have to be on the list of formatters known to be thread safe.
+     */
+    public boolean canLayOutConcurrently() {
+        if (type == LayoutHelper.IS_GROUP_START) {
+            return false;
+        }
+        if (!Arrays.stream(formatterChain).allMatch(formatter -> THREAD_SAFE_FORMATTERS.contains(formatter.getClass()))) {
+            return false;
+        }
+        return (layoutEntries == null) || layoutEntries.stream().allMatch(LayoutEntry::canLayOutConcurrently);
+    }
+
     public static List<List<String>> parseMethodsCalls(String calls) {
 
         List<List<String>> result = new ArrayList<>();
@@ -4,6 +4,7 @@ import java.io.IOException;
 import java.io.PushbackReader;
 import java.io.Reader;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
@@ -44,6 +45,14 @@ public class LayoutHelper {
     }
 
     public Layout getLayoutFromText() throws IOException {
+        return new Layout(getParsedEntries(), prefs);
+    }
+
+    /**
+     * Parses the layout text without resolving its formatters. The returned entries are not modified by
+     * {@link Layout}, so they may be used to create several layouts.
+     */
+    public List<StringInt> getParsedEntries() throws IOException {
         parse();
 
         for (StringInt parsedEntry : parsedEntries) {
@@ -54,7 +63,7 @@ public class LayoutHelper {
             }
         }
 
-        return new Layout(parsedEntries, prefs);
+        return Collections.unmodifiableList(parsedEntries);
     }
 
     public static String getCurrentGroup() {
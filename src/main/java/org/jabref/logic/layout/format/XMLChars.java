@@ -15,12 +15,21 @@ public class XMLChars implements LayoutFormatter {
 
     private static final Map<String, String> ASCII_TO_XML_CHARS = new HashMap<>();
 
-    private boolean[] forceReplace;
+    // The ASCII characters which are always written as character references
+    private static final boolean[] FORCE_REPLACE = new boolean[126];
 
     static {
         ASCII_TO_XML_CHARS.put("<", "&lt;");
         ASCII_TO_XML_CHARS.put("\"", "&quot;");
         ASCII_TO_XML_CHARS.put(">", "&gt;");
+
+        for (int i = 0; i < 40; i++) {
+            FORCE_REPLACE[i] = true;
+        }
+        FORCE_REPLACE[32] = false;
+        for (int i : new int[] {44, 45, 63, 64, 94, 95, 96, 124}) {
+            FORCE_REPLACE[i] = true;
+        }
     }
 
     @Override
@@ -46,7 +55,7 @@ public class XMLChars implements LayoutFormatter {
         return s.replaceAll("&|\\\\&", "&#x0026;").replace("--", "&#x2013;");
     }
 
-    private String restFormat(String toFormat) {
+    private static String restFormat(String toFormat) {
 
         String fieldText = toFormat.replace("}", "").replace("{", "");
 
@@ -55,17 +64,6 @@ public class XMLChars implements LayoutFormatter {
         // AND: this is accepted in the abstract of bibtex files, so are forced
         // to catch those cases
 
-        if (forceReplace == null) {
-            forceReplace = new boolean[126];
-            for (int i = 0; i < 40; i++) {
-                forceReplace[i] = true;
-            }
-            forceReplace[32] = false;
-            for (int i : new int[] {44, 45, 63, 64, 94, 95, 96, 124}) {
-                forceReplace[i] = true;
-            }
-        }
-
         StringBuilder buffer = new StringBuilder(fieldText.length() * 2);
 
         for (int i = 0; i < fieldText.length(); i++) {
@@ -80,7 +78,7 @@ public class XMLChars implements LayoutFormatter {
             }
 
             // TODO: Check whether > 125 is correct here or whether it should rather be >=
-            if ((code > 125) || forceReplace[code]) {
+            if ((code > 125) || FORCE_REPLACE[code]) {
                 buffer.append("&#").append(code).append(';');
             } else {
                 buffer.append((char) code);
@@ -7,6 +7,7 @@ import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -25,6 +26,10 @@ public class ProtectedTermsLoader {
 
     private final List<ProtectedTermsList> mainList = new ArrayList<>();
 
+    // The matcher of the enabled lists and the number of terms of each enabled list it was compiled for
+    private ProtectedTermsMatcher matcher;
+    private Map<ProtectedTermsList, Integer> matcherConfiguration;
+
     static {
         INTERNAL_LISTS.put("/protectedterms/months_weekdays.terms", Localization.lang("Months and weekdays in English"));
         INTERNAL_LISTS.put("/protectedterms/countries_territories.terms",
@@ -123,6 +128,25 @@ public class ProtectedTermsLoader {
         return new ArrayList<>(result);
     }
 
+    /**
+     * Returns a matcher which protects the terms of all enabled lists. The matcher is only compiled again if lists were
+     * enabled, disabled, added, removed or got new terms.
+     */
+    public synchronized ProtectedTermsMatcher getProtectedTermsMatcher() {
+        Map<ProtectedTermsList, Integer> configuration = new IdentityHashMap<>();
+        for (ProtectedTermsList list : mainList) {
+            if (list.isEnabled()) {
+                configuration.put(list, list.getTermList().size());
+            }
+        }
+
+        if (!configuration.equals(matcherConfiguration)) {
+            matcher = new ProtectedTermsMatcher(getProtectedTerms());
+            matcherConfiguration = configuration;
+        }
+        return matcher;
+    }
+
     public void addProtectedTermsListFromFile(String fileName, boolean enabled) {
         try {
             mainList.add(readProtectedTermsListFromFile(new File(fileName), enabled));
@@ -0,0 +1,176 @@
+package org.jabref.logic.protectedterms;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+
+/**
+ * Protects the occurrences of a set of terms in a text by enclosing them in braces.
+ * <p>
+ * All terms are compiled into one Aho-Corasick automaton, so that a text is searched for all terms in a single pass.
+ * A term is only protected if it is preceded by the start of the text, a space, -, /, (, [, " or }, and if it is not
+ * followed by a letter or }. Terms which start at the same position or overlap are resolved in favor of the leftmost,
+ * then the longest term.
+ */
+public class ProtectedTermsMatcher {
+
+    private static final String CHARACTERS_BEFORE_TERM = "- /[(}\"";
+
+    // The transitions of every state, sorted by character
+    private final char[][] transitionCharacters;
+    private final int[][] transitionTargets;
+    private final int[] failure;
+    // The length of the term ending in a state, 0 if no term ends there
+    private final int[] termLength;
+    // The next state on the failure path in which a term ends, 0 if there is none
+    private final int[] outputLink;
+
+    public ProtectedTermsMatcher(Collection<String> terms) {
+        List<StringBuilder> characters = new ArrayList<>();
+        List<List<Integer>> targets = new ArrayList<>();
+        List<Integer> lengths = new ArrayList<>();
+        addState(characters, targets, lengths);
+
+        // build the trie of all terms
+        for (String term : terms) {
+            if (term.isEmpty()) {
+                continue;
+            }
+            int state = 0;
+            for (int i = 0; i < term.length(); i++) {
+                int index = characters.get(state).indexOf(String.valueOf(term.charAt(i)));
+                if (index >= 0) {
+                    state = targets.get(state).get(index);
+                } else {
+                    int newState = addState(characters, targets, lengths);
+                    characters.get(state).append(term.charAt(i));
+                    targets.get(state).add(newState);
+                    state = newState;
+                }
+            }
+            lengths.set(state, term.length());
+        }
+
+        int numberOfStates = characters.size();
+        transitionCharacters = new char[numberOfStates][];
+        transitionTargets = new int[numberOfStates][];
+        termLength = new int[numberOfStates];
+        for (int state = 0; state < numberOfStates; state++) {
+            sortTransitions(state, characters.get(state).toString().toCharArray(), targets.get(state));
+            termLength[state] = lengths.get(state);
+        }
+
+        // compute the failure and output links in breadth-first order
+        failure = new int[numberOfStates];
+        outputLink = new int[numberOfStates];
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int target : transitionTargets[0]) {
+            queue.add(target);
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.remove();
+            for (int i = 0; i < transitionCharacters[state].length; i++) {
+                int target = transitionTargets[state][i];
+                int fallback = next(failure[state], transitionCharacters[state][i]);
+                failure[target] = fallback;
+                outputLink[target] = termLength[fallback] > 0 ? fallback : outputLink[fallback];
+                queue.add(target);
+            }
+        }
+    }
+
+    private static int addState(List<StringBuilder> characters, List<List<Integer>> targets, List<Integer> lengths) {
+        characters.add(new StringBuilder());
+        targets.add(new ArrayList<>());
+        lengths.add(0);
+        return characters.size() - 1;
+    }
+
+    private void sortTransitions(int state, char[] characters, List<Integer> targets) {
+        Integer[] order = new Integer[characters.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (first, second) -> Character.compare(characters[first], characters[second]));
+
+        transitionCharacters[state] = new char[characters.length];
+        transitionTargets[state] = new int[characters.length];
+        for (int i = 0; i < order.length; i++) {
+            transitionCharacters[state][i] = characters[order[i]];
+            transitionTargets[state][i] = targets.get(order[i]);
+        }
+    }
+
+    /**
+     * Returns the state reached from the given state with the given character, following failure links if needed
+     */
+    private int next(int state, char character) {
+        int current = state;
+        while (true) {
+            int index = Arrays.binarySearch(transitionCharacters[current], character);
+            if (index >= 0) {
+                return transitionTargets[current][index];
+            }
+            if (current == 0) {
+                return 0;
+            }
+            current = failure[current];
+        }
+    }
+
+    /**
+     * Encloses all occurrences of the terms in the given text in braces
+     */
+    public String protect(String text) {
+        int length = text.length();
+        // the length of the longest term which may be protected at every position, null while there is none
+        int[] longestTerm = null;
+
+        int state = 0;
+        for (int i = 0; i < length; i++) {
+            state = next(state, text.charAt(i));
+            int end = i + 1;
+            for (int match = termLength[state] > 0 ? state : outputLink[state]; match > 0; match = outputLink[match]) {
+                int start = end - termLength[match];
+                if (mayStartAt(text, start) && mayEndAt(text, end)) {
+                    if (longestTerm == null) {
+                        longestTerm = new int[length];
+                    }
+                    longestTerm[start] = Math.max(longestTerm[start], termLength[match]);
+                }
+            }
+        }
+        if (longestTerm == null) {
+            return text;
+        }
+
+        StringBuilder result = new StringBuilder(length + 16);
+        int position = 0;
+        while (position < length) {
+            int termEnd = position + longestTerm[position];
+            if (termEnd > position) {
+                result.append('{').append(text, position, termEnd).append('}');
+                position = termEnd;
+            } else {
+                result.append(text.charAt(position));
+                position++;
+            }
+        }
+        return result.toString();
+    }
+
+    private static boolean mayStartAt(String text, int start) {
+        return (start == 0) || (CHARACTERS_BEFORE_TERM.indexOf(text.charAt(start - 1)) >= 0);
+    }
+
+    private static boolean mayEndAt(String text, int end) {
+        if (end == text.length()) {
+            return true;
+        }
+        char next = text.charAt(end);
+        return !(((next >= 'a') && (next <= 'z')) || ((next >= 'A') && (next <= 'Z')) || (next == '}'));
+    }
+}
@@ -3,6 +3,8 @@ package org.jabref.logic.search;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.jabref.model.database.BibDatabase;
@@ -21,10 +23,21 @@ public class DatabaseSearcher {
     private final SearchQuery query;
 
     private final BibDatabase database;
+    private final Optional<SearchIndex> searchIndex;
 
     public DatabaseSearcher(SearchQuery query, BibDatabase database) {
         this.query = Objects.requireNonNull(query);
         this.database = Objects.requireNonNull(database);
+        this.searchIndex = Optional.empty();
+    }
+
+    /**
+     * @param searchIndex the index of the given database, used to avoid checking every entry against the query
+     */
+    public DatabaseSearcher(SearchQuery query, BibDatabase database, SearchIndex searchIndex) {
+        this.query = Objects.requireNonNull(query);
+        this.database = Objects.requireNonNull(database);
+        this.searchIndex = Optional.of(searchIndex);
     }
 
     public List<BibEntry> getMatches() {
@@ -35,7 +48,11 @@ public class DatabaseSearcher {
             return Collections.emptyList();
         }
 
-        List<BibEntry> matchEntries = database.getEntries().stream().filter(query::isMatch).collect(Collectors.toList());
+        Optional<Set<BibEntry>> candidates = searchIndex.flatMap(index -> index.getCandidates(query));
+        List<BibEntry> matchEntries = database.getEntries().stream()
+                .filter(entry -> candidates.map(set -> set.contains(entry)).orElse(true))
+                .filter(query::isMatch)
+                .collect(Collectors.toList());
         return BibDatabases.purgeEmptyEntries(matchEntries);
     }
 
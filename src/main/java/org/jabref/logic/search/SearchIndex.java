@@ -0,0 +1,377 @@
+package org.jabref.logic.search;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.event.EntryAddedEvent;
+import org.jabref.model.database.event.EntryRemovedEvent;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.search.rules.ContainBasedSearchRule;
+import org.jabref.model.search.rules.GrammarBasedSearchRule;
+import org.jabref.model.search.rules.GrammarBasedSearchRule.ComparisonOperator;
+import org.jabref.model.search.rules.SearchRule;
+import org.jabref.model.search.rules.SentenceAnalyzer;
+import org.jabref.search.SearchBaseVisitor;
+import org.jabref.search.SearchParser;
+
+import com.google.common.eventbus.Subscribe;
+
+/**
+ * Inverted index over the LaTeX-free field contents of all entries of a {@link BibDatabase}.
+ * <p>
+ * The field contents are case-folded and split into tokens consisting of letters and digits. For every token, the
+ * index stores the entries containing it, grouped by field. The tokens themselves are indexed by the trigrams they
+ * contain, so that the tokens containing a part of a query word are found without scanning all tokens. The index is used to narrow down the entries which can
+ * match a contain-based or grammar-based {@link SearchQuery}; the query itself still decides whether an entry
+ * matches. Regular expression queries cannot be answered by the index and are always evaluated on all entries.
+ * <p>
+ * The index is built lazily on the first request and is afterwards kept up to date by listening to the changes of
+ * the database.
+ */
+public class SearchIndex {
+
+    private static final int TRIGRAM_LENGTH = 3;
+
+    private final BibDatabase database;
+
+    // token -> field -> entries having the token in the field
+    private final Map<String, Map<String, Set<BibEntry>>> postings = new HashMap<>();
+    // trigram -> tokens containing the trigram, tokens shorter than a trigram are left out
+    private final Map<String, Set<String>> tokensByTrigram = new HashMap<>();
+    // entry -> field -> indexed tokens, required to remove outdated postings
+    // BibEntry implements value equality and is mutable, thus entries are compared by identity
+    private final Map<BibEntry, Map<String, Set<String>>> indexedTokens = new IdentityHashMap<>();
+    private boolean built;
+
+    public SearchIndex(BibDatabase database) {
+        this.database = Objects.requireNonNull(database);
+        this.database.registerListener(this);
+    }
+
+    /**
+     * Stops listening to the database and frees the index.
+     */
+    public synchronized void close() {
+        database.unregisterListener(this);
+        postings.clear();
+        tokensByTrigram.clear();
+        indexedTokens.clear();
+        built = false;
+    }
+
+    /**
+     * Returns a superset of the entries matching the given query, or an empty optional if the query cannot be
+     * answered by the index and all entries have to be checked. The returned set compares entries by identity.
+     */
+    public synchronized Optional<Set<BibEntry>> getCandidates(SearchQuery query) {
+        Objects.requireNonNull(query);
+        SearchRule rule = query.getRule();
+        if (rule instanceof ContainBasedSearchRule) {
+            return getCandidatesContainingAllWords(query.getQuery());
+        } else if ((rule instanceof GrammarBasedSearchRule) && !((GrammarBasedSearchRule) rule).isRegExpSearch()) {
+            GrammarBasedSearchRule grammarRule = (GrammarBasedSearchRule) rule;
+            if (grammarRule.getTree() == null) {
+                return Optional.empty();
+            }
+            return new CandidatesVisitor(grammarRule.isCaseSensitiveSearch()).visit(grammarRule.getTree());
+        } else {
+            return Optional.empty();
+        }
+    }
+
+    @Subscribe
+    public synchronized void listen(EntryAddedEvent event) {
+        if (built) {
+            addEntry(event.getBibEntry());
+        }
+    }
+
+    @Subscribe
+    public synchronized void listen(EntryRemovedEvent event) {
+        if (built) {
+            removeEntry(event.getBibEntry());
+        }
+    }
+
+    @Subscribe
+    public synchronized void listen(FieldChangedEvent event) {
+        BibEntry entry = event.getBibEntry();
+        if (built && indexedTokens.containsKey(entry)) {
+            String field = event.getFieldName();
+            removeField(entry, field);
+            entry.getLatexFreeField(field).ifPresent(content -> addField(entry, field, content));
+        }
+    }
+
+    private void build() {
+        if (!built) {
+            for (BibEntry entry : database.getEntries()) {
+                addEntry(entry);
+            }
+            built = true;
+        }
+    }
+
+    private void addEntry(BibEntry entry) {
+        removeEntry(entry);
+        indexedTokens.put(entry, new HashMap<>());
+        for (String field : entry.getFieldNames()) {
+            entry.getLatexFreeField(field).ifPresent(content -> addField(entry, field, content));
+        }
+    }
+
+    private void removeEntry(BibEntry entry) {
+        Map<String, Set<String>> fields = indexedTokens.get(entry);
+        if (fields != null) {
+            for (String field : new ArrayList<>(fields.keySet())) {
+                removeField(entry, field);
+            }
+            indexedTokens.remove(entry);
+        }
+    }
+
+    private void addField(BibEntry entry, String field, String content) {
+        Set<String> tokens = tokenize(content);
+        if (tokens.isEmpty()) {
+            return;
+        }
+        indexedTokens.get(entry).put(field, tokens);
+        for (String token : tokens) {
+            Map<String, Set<BibEntry>> fields = postings.get(token);
+            if (fields == null) {
+                fields = new HashMap<>();
+                postings.put(token, fields);
+                for (String trigram : getTrigrams(token)) {
+                    tokensByTrigram.computeIfAbsent(trigram, key -> new HashSet<>()).add(token);
+                }
+            }
+            fields.computeIfAbsent(field, key -> newEntrySet()).add(entry);
+        }
+    }
+
+    private void removeField(BibEntry entry, String field) {
+        Set<String> tokens = indexedTokens.get(entry).remove(field);
+        if (tokens == null) {
+            return;
+        }
+        for (String token : tokens) {
+            Map<String, Set<BibEntry>> fields = postings.get(token);
+            Set<BibEntry> entries = fields.get(field);
+            entries.remove(entry);
+            if (entries.isEmpty()) {
+                fields.remove(field);
+                if (fields.isEmpty()) {
+                    postings.remove(token);
+                    for (String trigram : getTrigrams(token)) {
+                        Set<String> trigramTokens = tokensByTrigram.get(trigram);
+                        trigramTokens.remove(token);
+                        if (trigramTokens.isEmpty()) {
+                            tokensByTrigram.remove(trigram);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Mirrors {@link ContainBasedSearchRule}: every word has to be contained in at least one field.
+     */
+    private Optional<Set<BibEntry>> getCandidatesContainingAllWords(String query) {
+        Optional<Set<BibEntry>> candidates = Optional.empty();
+        for (String word : new SentenceAnalyzer(query).getWords()) {
+            candidates = intersect(candidates, getCandidatesContaining(word, field -> true));
+        }
+        return candidates;
+    }
+
+    /**
+     * Returns the entries which may contain the given text in one of the fields accepted by the filter.
+     * <p>
+     * Each run of letters and digits in the text is part of a single token of any field content containing the
+     * text. Thus, it suffices to look for tokens containing the runs of the text. Runs shorter than a trigram occur
+     * in too many tokens to narrow down the entries, so text without a longer run is not looked up.
+     */
+    private Optional<Set<BibEntry>> getCandidatesContaining(String text, Predicate<String> fieldFilter) {
+        build();
+        Optional<Set<BibEntry>> candidates = Optional.empty();
+        for (String run : tokenize(text)) {
+            if (run.length() < TRIGRAM_LENGTH) {
+                continue;
+            }
+            Set<BibEntry> entries = newEntrySet();
+            for (String token : getTokensContaining(run)) {
+                postings.get(token).forEach((field, fieldEntries) -> {
+                    if (fieldFilter.test(field)) {
+                        entries.addAll(fieldEntries);
+                    }
+                });
+            }
+            candidates = intersect(candidates, Optional.of(entries));
+        }
+        return candidates;
+    }
+
+    /**
+     * Returns the indexed tokens containing the given run, which is at least as long as a trigram. Only the tokens
+     * sharing the least common trigram of the run have to be checked.
+     */
+    private Set<String> getTokensContaining(String run) {
+        List<Set<String>> trigramTokens = new ArrayList<>();
+        for (String trigram : getTrigrams(run)) {
+            Set<String> tokens = tokensByTrigram.get(trigram);
+            if (tokens == null) {
+                return Collections.emptySet();
+            }
+            trigramTokens.add(tokens);
+        }
+
+        Set<String> result = new HashSet<>();
+        for (String token : Collections.min(trigramTokens, Comparator.comparingInt(Set::size))) {
+            if (token.contains(run)) {
+                result.add(token);
+            }
+        }
+        return result;
+    }
+
+    private static Set<String> getTrigrams(String token) {
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; (i + TRIGRAM_LENGTH) <= token.length(); i++) {
+            trigrams.add(token.substring(i, i + TRIGRAM_LENGTH));
+        }
+        return trigrams;
+    }
+
+    /**
+     * Case-folds the text character by character and returns its runs of letters and digits. Folding each character
+     * independently guarantees that every occurrence of a text (in any case) is still an occurrence after folding.
+     */
+    static Set<String> tokenize(String text) {
+        Set<String> tokens = new HashSet<>();
+        StringBuilder token = new StringBuilder();
+        for (int i = 0; i < text.length(); i++) {
+            char character = Character.toLowerCase(Character.toUpperCase(text.charAt(i)));
+            if (Character.isLetterOrDigit(character)) {
+                token.append(character);
+            } else if (token.length() > 0) {
+                tokens.add(token.toString());
+                token.setLength(0);
+            }
+        }
+        if (token.length() > 0) {
+            tokens.add(token.toString());
+        }
+        return tokens;
+    }
+
+    private static Set<BibEntry> newEntrySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    /**
+     * An empty optional stands for all entries.
+     */
+    private static Optional<Set<BibEntry>> intersect(Optional<Set<BibEntry>> first, Optional<Set<BibEntry>> second) {
+        if (!first.isPresent()) {
+            return second;
+        } else if (!second.isPresent()) {
+            return first;
+        }
+        Set<BibEntry> result = newEntrySet();
+        result.addAll(first.get());
+        result.retainAll(second.get());
+        return Optional.of(result);
+    }
+
+    private static Optional<Set<BibEntry>> union(Optional<Set<BibEntry>> first, Optional<Set<BibEntry>> second) {
+        if (!first.isPresent() || !second.isPresent()) {
+            return Optional.empty();
+        }
+        Set<BibEntry> result = newEntrySet();
+        result.addAll(first.get());
+        result.addAll(second.get());
+        return Optional.of(result);
+    }
+
+    /**
+     * Computes the candidates for the parse tree of a (non regular expression) grammar-based search. Mirrors the
+     * evaluation in {@link GrammarBasedSearchRule}, but only prunes for comparisons which require a field to contain
+     * the given value.
+     */
+    private class CandidatesVisitor extends SearchBaseVisitor<Optional<Set<BibEntry>>> {
+
+        private final boolean caseSensitive;
+
+        CandidatesVisitor(boolean caseSensitive) {
+            this.caseSensitive = caseSensitive;
+        }
+
+        @Override
+        public Optional<Set<BibEntry>> visitStart(SearchParser.StartContext ctx) {
+            return visit(ctx.expression());
+        }
+
+        @Override
+        public Optional<Set<BibEntry>> visitComparison(SearchParser.ComparisonContext context) {
+            String right = context.right.getText();
+            if (right.startsWith("\"") && right.endsWith("\"")) {
+                right = right.substring(1, right.length() - 1);
+            }
+
+            if (context.left == null) {
+                return getCandidatesContainingAllWords(right);
+            }
+
+            String field = context.left.getText();
+            ComparisonOperator operator = ComparisonOperator.build(context.operator.getText());
+            if ((operator == ComparisonOperator.DOES_NOT_CONTAIN) || matchesField(field, BibEntry.TYPE_HEADER)
+                    || matchesField(field, "anykeyword")) {
+                return Optional.empty();
+            }
+            if (matchesField(field, "anyfield")) {
+                return getCandidatesContaining(right, key -> true);
+            }
+            return getCandidatesContaining(right, key -> matchesField(field, key));
+        }
+
+        private boolean matchesField(String field, String key) {
+            if (caseSensitive) {
+                return field.equals(key);
+            } else {
+                return field.equalsIgnoreCase(key);
+            }
+        }
+
+        @Override
+        public Optional<Set<BibEntry>> visitUnaryExpression(SearchParser.UnaryExpressionContext ctx) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<Set<BibEntry>> visitParenExpression(SearchParser.ParenExpressionContext ctx) {
+            return visit(ctx.expression());
+        }
+
+        @Override
+        public Optional<Set<BibEntry>> visitBinaryExpression(SearchParser.BinaryExpressionContext ctx) {
+            if ("AND".equalsIgnoreCase(ctx.operator.getText())) {
+                return intersect(visit(ctx.left), visit(ctx.right));
+            } else {
+                return union(visit(ctx.left), visit(ctx.right));
+            }
+        }
+    }
+}
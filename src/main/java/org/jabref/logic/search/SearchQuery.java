@@ -40,6 +40,10 @@ public class SearchQuery implements SearchMatcher {
         return rule.applyRule(getQuery(), entry);
     }
 
+    SearchRule getRule() {
+        return rule;
+    }
+
     public boolean isValid() {
         return rule.validateSearchStrings(getQuery());
     }
@@ -42,6 +42,17 @@ public class BracketedPattern {
     private static final int CHARS_OF_FIRST = 5;
     private static final Pattern REGEX_PATTERN = Pattern.compile(".*\\(\\{([A-Z]+)\\}\\).*");
 
+    // Field markers with numbers, compiled once as they are matched for every entry a key is generated for
+    private static final Pattern AUTH_INI_N = Pattern.compile("authIni[\\d]+");
+    private static final Pattern AUTH_N_OF_M = Pattern.compile("auth[\\d]+_[\\d]+");
+    private static final Pattern AUTH_N = Pattern.compile("auth\\d+");
+    private static final Pattern AUTHORS_N = Pattern.compile("authors\\d+");
+    private static final Pattern EDTR_INI_N = Pattern.compile("edtrIni[\\d]+");
+    private static final Pattern EDTR_N_OF_M = Pattern.compile("edtr[\\d]+_[\\d]+");
+    private static final Pattern EDTR_N = Pattern.compile("edtr\\d+");
+    private static final Pattern KEYWORD_N = Pattern.compile("keyword\\d+");
+    private static final Pattern KEYWORDS_N = Pattern.compile("keywords\\d*");
+
     private final String pattern;
 
     public BracketedPattern() {
@@ -178,7 +189,7 @@ public class BracketedPattern {
                     return lastAuthorForenameInitials(authString);
                 } else if ("authorIni".equals(val)) {
                     return oneAuthorPlusIni(authString);
-                } else if (val.matches("authIni[\\d]+")) {
+                } else if (AUTH_INI_N.matcher(val).matches()) {
                     int num = Integer.parseInt(val.substring(7));
                     return authIniN(authString, num);
                 } else if ("auth.auth.ea".equals(val)) {
@@ -189,11 +200,11 @@ public class BracketedPattern {
                     return authEtal(authString, "", "EtAl");
                 } else if ("authshort".equals(val)) {
                     return authshort(authString);
-                } else if (val.matches("auth[\\d]+_[\\d]+")) {
+                } else if (AUTH_N_OF_M.matcher(val).matches()) {
                     String[] nums = val.substring(4).split("_");
                     return authNofMth(authString, Integer.parseInt(nums[0]),
                             Integer.parseInt(nums[1]));
-                } else if (val.matches("auth\\d+")) {
+                } else if (AUTH_N.matcher(val).matches()) {
                     // authN. First N chars of the first author's last
                     // name.
 
@@ -203,7 +214,7 @@ public class BracketedPattern {
                         num = fa.length();
                     }
                     return fa.substring(0, num);
-                } else if (val.matches("authors\\d+")) {
+                } else if (AUTHORS_N.matcher(val).matches()) {
                     return nAuthors(authString, Integer.parseInt(val.substring(7)));
                 } else {
                     // This "auth" business was a dead end, so just
@@ -226,10 +237,10 @@ public class BracketedPattern {
                     return lastAuthorForenameInitials(entry.getResolvedFieldOrAlias(FieldName.EDITOR, database).orElse(""));
                 } else if ("editorIni".equals(val)) {
                     return oneAuthorPlusIni(entry.getResolvedFieldOrAlias(FieldName.EDITOR, database).orElse(""));
-                } else if (val.matches("edtrIni[\\d]+")) {
+                } else if (EDTR_INI_N.matcher(val).matches()) {
                     int num = Integer.parseInt(val.substring(7));
                     return authIniN(entry.getResolvedFieldOrAlias(FieldName.EDITOR, database).orElse(""), num);
-                } else if (val.matches("edtr[\\d]+_[\\d]+")) {
+                } else if (EDTR_N_OF_M.matcher(val).matches()) {
                     String[] nums = val.substring(4).split("_");
                     return authNofMth(entry.getResolvedFieldOrAlias(FieldName.EDITOR, database).orElse(""),
                             Integer.parseInt(nums[0]),
@@ -241,7 +252,7 @@ public class BracketedPattern {
                 }
                 // authN. First N chars of the first author's last
                 // name.
-                else if (val.matches("edtr\\d+")) {
+                else if (EDTR_N.matcher(val).matches()) {
                     String fa = firstAuthor(entry.getResolvedFieldOrAlias(FieldName.EDITOR, database).orElse(""));
                     int num = Integer.parseInt(val.substring(4));
                     if (num > fa.length()) {
@@ -288,7 +299,7 @@ public class BracketedPattern {
                 }
             } else if ("entrytype".equals(val)) {
                 return entry.getResolvedFieldOrAlias(BibEntry.TYPE_HEADER, database).orElse("");
-            } else if (val.matches("keyword\\d+")) {
+            } else if (KEYWORD_N.matcher(val).matches()) {
                 // according to LabelPattern.php, it returns keyword number n
                 int num = Integer.parseInt(val.substring(7));
                 KeywordList separatedKeywords = entry.getResolvedKeywords(keywordDelimiter, database);
@@ -299,7 +310,7 @@ public class BracketedPattern {
                     // num counts from 1 to n, but index in arrayList count from 0 to n-1
                     return separatedKeywords.get(num - 1).toString();
                 }
-            } else if (val.matches("keywords\\d*")) {
+            } else if (KEYWORDS_N.matcher(val).matches()) {
                 // return all keywords, not separated
                 int num;
                 if (val.length() > 8) {
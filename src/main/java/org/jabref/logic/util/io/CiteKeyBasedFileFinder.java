@@ -1,9 +1,6 @@
 package org.jabref.logic.util.io;
 
-import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -12,19 +9,12 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.function.BiPredicate;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.util.FileHelper;
 
-import org.apache.commons.logging.Log;
-import org.apache.commons.logging.LogFactory;
-
 class CiteKeyBasedFileFinder implements FileFinder {
 
-    private static final Log LOGGER = LogFactory.getLog(CiteKeyBasedFileFinder.class);
     private final boolean exactKeyOnly;
 
     CiteKeyBasedFileFinder(boolean exactKeyOnly) {
@@ -35,44 +25,44 @@ class CiteKeyBasedFileFinder implements FileFinder {
     public Map<BibEntry, List<Path>> findAssociatedFiles(List<BibEntry> entries, List<Path> directories, List<String> extensions) {
         Objects.requireNonNull(directories);
         Objects.requireNonNull(entries);
+        Objects.requireNonNull(extensions, "Extensions must not be null!");
 
         Map<BibEntry, List<Path>> result = new HashMap<>();
 
-        // First scan directories
-        Set<Path> filesWithExtension = findFilesByExtension(directories, extensions);
-
         // Initialize Result-Set
         for (BibEntry entry : entries) {
             result.put(entry, new ArrayList<>());
         }
 
-        // Now look for keys
-        nextFile:
-        for (Path file : filesWithExtension) {
-            String name = file.getFileName().toString();
-            int dot = name.lastIndexOf('.');
-            // First, look for exact matches:
+        // Every file belongs to the first entry whose key is its name without extension. If there is none and
+        // non-exact matches are allowed, it belongs to the first entry whose key is a prefix of its name.
+        Map<Path, BibEntry> exactMatches = new HashMap<>();
+        Map<Path, BibEntry> prefixMatches = new HashMap<>();
+        for (Path directory : directories) {
+            DirectoryIndex index = DirectoryIndex.forDirectory(directory);
             for (BibEntry entry : entries) {
-                Optional<String> citeKey = entry.getCiteKeyOptional();
-                if ((citeKey.isPresent()) && !citeKey.get().isEmpty() && (dot > 0)
-                        && name.substring(0, dot).equals(citeKey.get())) {
-                    result.get(entry).add(file);
-                    continue nextFile;
+                Optional<String> citeKey = entry.getCiteKeyOptional().filter(key -> !key.isEmpty());
+                if (!citeKey.isPresent()) {
+                    continue;
                 }
-            }
-            // If we get here, we did not find any exact matches. If non-exact
-            // matches are allowed, try to find one:
-            if (!exactKeyOnly) {
-                for (BibEntry entry : entries) {
-                    Optional<String> citeKey = entry.getCiteKeyOptional();
-                    if ((citeKey.isPresent()) && !citeKey.get().isEmpty() && name.startsWith(citeKey.get())) {
-                        result.get(entry).add(file);
-                        continue nextFile;
+                for (Path file : index.getFilesStartingWith(citeKey.get())) {
+                    if (!hasExtension(file, extensions)) {
+                        continue;
+                    }
+                    Path resolvedFile = directory.resolve(file);
+                    String name = file.getFileName().toString();
+                    if (name.lastIndexOf('.') == citeKey.get().length()) {
+                        exactMatches.putIfAbsent(resolvedFile, entry);
+                    } else if (!exactKeyOnly) {
+                        prefixMatches.putIfAbsent(resolvedFile, entry);
                     }
                 }
             }
         }
 
+        prefixMatches.keySet().removeAll(exactMatches.keySet());
+        exactMatches.forEach((file, entry) -> result.get(entry).add(file));
+        prefixMatches.forEach((file, entry) -> result.get(entry).add(file));
         return result;
     }
 
@@ -82,20 +72,18 @@ class CiteKeyBasedFileFinder implements FileFinder {
     public Set<Path> findFilesByExtension(List<Path> directories, List<String> extensions) {
         Objects.requireNonNull(extensions, "Extensions must not be null!");
 
-        BiPredicate<Path, BasicFileAttributes> isFileWithCorrectExtension = (path, attributes) ->
-                !Files.isDirectory(path)
-                        && extensions.contains(FileHelper.getFileExtension(path).orElse(""));
-
         Set<Path> result = new HashSet<>();
         for (Path directory : directories) {
-            if (Files.exists(directory)) {
-                try (Stream<Path> files = Files.find(directory, Integer.MAX_VALUE, isFileWithCorrectExtension)) {
-                    result.addAll(files.collect(Collectors.toSet()));
-                } catch (IOException e) {
-                    LOGGER.error("Problem in finding files", e);
+            for (Path file : DirectoryIndex.forDirectory(directory).getFilesStartingWith("")) {
+                if (hasExtension(file, extensions)) {
+                    result.add(directory.resolve(file));
                 }
             }
         }
         return result;
     }
+
+    private static boolean hasExtension(Path file, List<String> extensions) {
+        return extensions.contains(FileHelper.getFileExtension(file.getFileName().toString()).orElse(""));
+    }
 }
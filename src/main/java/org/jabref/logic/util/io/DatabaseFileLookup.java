@@ -63,7 +63,7 @@ public class DatabaseFileLookup {
 
         return entry.getFiles().stream()
                 .filter(file -> !file.isOnlineLink()) // Do not query external file links (huge performance leak)
-                .map(file -> file.findIn(possibleFilePaths))
+                .map(file -> DirectoryIndex.findExistingFile(file, possibleFilePaths))
                 .filter(Optional::isPresent)
                 .map(Optional::get)
                 .collect(Collectors.toList());
@@ -0,0 +1,345 @@
+package org.jabref.logic.util.io;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.jabref.model.entry.LinkedFile;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Index of all files and directories below a file directory, which answers the questions of the file finders without
+ * listing every directory again, which is slow for large directories and network shares.
+ * <p>
+ * The index of a directory is shared by all users, see {@link #forDirectory(Path)}. It is built once by walking the
+ * subdirectories in parallel. Every time it is used, the modification times of the indexed directories are checked,
+ * and the directories which changed since they were listed are listed again. So the index is as current as the file
+ * system, also on network shares, which do not report their changes.
+ * <p>
+ * All paths are relative to the indexed directory.
+ */
+public class DirectoryIndex {
+
+    private static final Log LOGGER = LogFactory.getLog(DirectoryIndex.class);
+
+    private static final Path ROOT = Paths.get("");
+
+    // Some file systems store the modification time in steps of two seconds, so a directory which was modified within
+    // this time before it was listed might change again without changing its modification time
+    private static final long MODIFICATION_TIME_RESOLUTION = TimeUnit.SECONDS.toMillis(2);
+
+    // The indexes of the directories which were used recently, by their absolute and normalized path
+    private static final Cache<Path, DirectoryIndex> INDEXES = CacheBuilder.newBuilder()
+            .maximumSize(16)
+            .expireAfterAccess(10, TimeUnit.MINUTES)
+            .build();
+
+    private final Path directory;
+    private final Set<Path> files = ConcurrentHashMap.newKeySet();
+    // The files and directories directly in every directory, the keys are all directories
+    private final Map<Path, Set<Path>> children = new ConcurrentHashMap<>();
+    // The files by their name, sorted so that the names starting with the same text are next to each other
+    private final ConcurrentNavigableMap<String, Set<Path>> filesByName = new ConcurrentSkipListMap<>();
+    // When every directory was listed, including the directories which could not be read
+    private final Map<Path, Listing> listings = new ConcurrentHashMap<>();
+
+    DirectoryIndex(Path directory) {
+        this.directory = directory.toAbsolutePath().normalize();
+    }
+
+    /**
+     * Returns the index of the given directory, which is built the first time it is used and brought up to date
+     * every time it is used again. Directories which do not exist have an empty index.
+     */
+    public static DirectoryIndex forDirectory(Path directory) {
+        Path normalizedDirectory = directory.toAbsolutePath().normalize();
+        if (!Files.isDirectory(normalizedDirectory)) {
+            INDEXES.invalidate(normalizedDirectory);
+            return new DirectoryIndex(normalizedDirectory);
+        }
+
+        DirectoryIndex index = INDEXES.asMap().computeIfAbsent(normalizedDirectory, DirectoryIndex::new);
+        index.update();
+        return index;
+    }
+
+    /**
+     * Finds the given file like {@link LinkedFile#findIn(List)}, but only returns it if it exists. The directories
+     * whose index contains the file are asked first, so that the file system is only searched for files which are not
+     * indexed. No index is built or updated, as this is not worth it for single files.
+     */
+    public static Optional<Path> findExistingFile(LinkedFile file, List<Path> directories) {
+        Path link = Paths.get(file.getLink());
+        if (!link.isAbsolute() && !file.getLink().isEmpty()) {
+            Path normalizedLink = link.normalize();
+            for (Path directory : directories) {
+                DirectoryIndex index = INDEXES.getIfPresent(directory.toAbsolutePath().normalize());
+                Path resolvedFile = directory.resolve(link);
+                if ((index != null) && index.containsFile(normalizedLink) && Files.exists(resolvedFile)) {
+                    return Optional.of(resolvedFile);
+                }
+            }
+        }
+
+        // absolute links, files in directories which are not indexed, or files created after the last update
+        return file.findIn(directories).filter(Files::exists);
+    }
+
+    /**
+     * Builds the index if it is empty, otherwise lists the directories again which changed since they were listed
+     */
+    synchronized void update() {
+        if (!listings.containsKey(ROOT)) {
+            list(ROOT);
+            LOGGER.debug("Indexed " + files.size() + " files in " + directory);
+            return;
+        }
+
+        List<Path> changedDirectories = listings.entrySet().parallelStream()
+                .filter(listing -> !listing.getValue().isUpToDate(directory.resolve(listing.getKey())))
+                .map(Map.Entry::getKey)
+                .sorted()
+                .collect(Collectors.toList());
+        for (Path changedDirectory : changedDirectories) {
+            // directories below a deleted directory are removed with it
+            if (listings.containsKey(changedDirectory)) {
+                list(changedDirectory);
+            }
+        }
+    }
+
+    private void list(Path relativeDirectory) {
+        Path dir = directory.resolve(relativeDirectory);
+        if (!Files.isDirectory(dir, LinkOption.NOFOLLOW_LINKS)) {
+            remove(relativeDirectory);
+            return;
+        }
+
+        // the modification time is read first, so that changes while listing are found by the next update
+        Listing listing = Listing.of(dir, System.currentTimeMillis());
+        Set<Path> removedChildren = new HashSet<>(children.getOrDefault(relativeDirectory, Collections.emptySet()));
+        List<Path> newDirectories = new ArrayList<>();
+        try (Stream<Path> paths = Files.list(dir)) {
+            children.putIfAbsent(relativeDirectory, ConcurrentHashMap.newKeySet());
+            paths.forEach(path -> {
+                Path relativePath = directory.relativize(path);
+                boolean isDirectory = Files.isDirectory(path, LinkOption.NOFOLLOW_LINKS);
+                boolean indexed = isDirectory ? children.containsKey(relativePath) : files.contains(relativePath);
+                if (removedChildren.remove(relativePath) && indexed) {
+                    return;
+                }
+
+                remove(relativePath);
+                if (isDirectory) {
+                    newDirectories.add(path);
+                } else if (!Files.isDirectory(path)) {
+                    addFile(path);
+                }
+            });
+        } catch (IOException | UncheckedIOException e) {
+            LOGGER.warn("Could not index " + dir, e);
+            listing = Listing.failed();
+        }
+        removedChildren.forEach(this::remove);
+        listings.put(relativeDirectory, listing);
+        newDirectories.parallelStream().forEach(this::addTree);
+    }
+
+    private void addTree(Path start) {
+        long listedAt = System.currentTimeMillis();
+        try {
+            Files.walkFileTree(start, new SimpleFileVisitor<Path>() {
+
+                @Override
+                public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+                    Path relativeDirectory = directory.relativize(dir);
+                    children.putIfAbsent(relativeDirectory, ConcurrentHashMap.newKeySet());
+                    addChild(relativeDirectory);
+                    listings.put(relativeDirectory, new Listing(attrs.lastModifiedTime(), listedAt));
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                    // links to directories are not followed, like when searching the file system
+                    if (!attrs.isDirectory() && !(attrs.isSymbolicLink() && Files.isDirectory(file))) {
+                        addFile(file);
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed(Path file, IOException exc) {
+                    LOGGER.debug("Could not index " + file, exc);
+                    // try again with the next update
+                    listings.put(directory.relativize(file), Listing.failed());
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            LOGGER.warn("Could not index " + start, e);
+        }
+    }
+
+    private void addFile(Path file) {
+        Path relativeFile = directory.relativize(file);
+        files.add(relativeFile);
+        filesByName.computeIfAbsent(relativeFile.getFileName().toString(), name -> ConcurrentHashMap.newKeySet())
+                .add(relativeFile);
+        addChild(relativeFile);
+    }
+
+    private void addChild(Path relativePath) {
+        Path parent = Optional.ofNullable(relativePath.getParent()).orElse(ROOT);
+        children.computeIfAbsent(parent, key -> ConcurrentHashMap.newKeySet()).add(relativePath);
+    }
+
+    private void remove(Path relativePath) {
+        listings.remove(relativePath);
+        Set<Path> removedChildren = children.remove(relativePath);
+        if (removedChildren != null) {
+            removedChildren.forEach(this::remove);
+        } else if (files.remove(relativePath)) {
+            filesByName.computeIfPresent(relativePath.getFileName().toString(), (name, paths) -> {
+                paths.remove(relativePath);
+                return paths.isEmpty() ? null : paths;
+            });
+        }
+        Path parent = Optional.ofNullable(relativePath.getParent()).orElse(ROOT);
+        children.getOrDefault(parent, Collections.emptySet()).remove(relativePath);
+    }
+
+    /**
+     * @return the absolute and normalized path of the indexed directory
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Returns the given path relative to the indexed directory, if it is inside of it
+     */
+    public Optional<Path> relativize(Path path) {
+        Path normalizedPath = path.toAbsolutePath().normalize();
+        if (normalizedPath.startsWith(directory)) {
+            return Optional.of(directory.relativize(normalizedPath));
+        }
+        return Optional.empty();
+    }
+
+    public boolean containsFile(Path relativePath) {
+        return files.contains(relativePath);
+    }
+
+    /**
+     * Returns all files whose name starts with the given prefix
+     */
+    public List<Path> getFilesStartingWith(String prefix) {
+        Objects.requireNonNull(prefix);
+        return filesByName.subMap(prefix, true, prefix + Character.MAX_VALUE, true).values().stream()
+                .flatMap(Set::stream)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the files and directories directly in the given directory, resolved against it
+     */
+    public List<Path> getChildren(Path dir) {
+        return relativize(dir)
+                .map(relativeDirectory -> children.getOrDefault(relativeDirectory, Collections.emptySet()).stream()
+                        .map(child -> dir.resolve(child.getFileName()))
+                        .sorted()
+                        .collect(Collectors.toList()))
+                .orElse(Collections.emptyList());
+    }
+
+    /**
+     * Returns the directories in the given directory, resolved against it and sorted by their path
+     *
+     * @param recursive whether the directories in these directories are returned, too
+     */
+    public List<Path> getSubdirectories(Path dir, boolean recursive) {
+        List<Path> result = new ArrayList<>();
+        relativize(dir).ifPresent(relativeDirectory -> addSubdirectories(dir, relativeDirectory, recursive, result));
+        Collections.sort(result);
+        return result;
+    }
+
+    private void addSubdirectories(Path dir, Path relativeDirectory, boolean recursive, List<Path> result) {
+        for (Path child : children.getOrDefault(relativeDirectory, Collections.emptySet())) {
+            if (children.containsKey(child)) {
+                Path subdirectory = dir.resolve(child.getFileName());
+                result.add(subdirectory);
+                if (recursive) {
+                    addSubdirectories(subdirectory, child, true, result);
+                }
+            }
+        }
+    }
+
+    /**
+     * The modification time of a directory when it was listed
+     */
+    private static class Listing {
+
+        // null if the directory could not be read
+        private final FileTime lastModified;
+        private final long listedAt;
+
+        Listing(FileTime lastModified, long listedAt) {
+            this.lastModified = lastModified;
+            this.listedAt = listedAt;
+        }
+
+        static Listing of(Path dir, long listedAt) {
+            try {
+                return new Listing(Files.getLastModifiedTime(dir, LinkOption.NOFOLLOW_LINKS), listedAt);
+            } catch (IOException e) {
+                return failed();
+            }
+        }
+
+        static Listing failed() {
+            return new Listing(null, 0);
+        }
+
+        /**
+         * Returns whether the given directory did not change since it was listed
+         */
+        boolean isUpToDate(Path dir) {
+            if ((lastModified == null) || ((listedAt - lastModified.toMillis()) <= MODIFICATION_TIME_RESOLUTION)) {
+                return false;
+            }
+            try {
+                return lastModified.equals(Files.getLastModifiedTime(dir, LinkOption.NOFOLLOW_LINKS));
+            } catch (IOException e) {
+                return false;
+            }
+        }
+    }
+}
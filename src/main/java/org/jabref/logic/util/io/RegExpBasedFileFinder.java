@@ -1,17 +1,19 @@
 package org.jabref.logic.util.io;
 
-import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.jabref.logic.util.BracketedPattern;
 import org.jabref.model.database.BibDatabase;
@@ -67,8 +69,12 @@ class RegExpBasedFileFinder implements FileFinder {
     @Override
     public Map<BibEntry, List<Path>> findAssociatedFiles(List<BibEntry> entries, List<Path> directories, List<String> extensions) {
         Map<BibEntry, List<Path>> res = new HashMap<>();
+        // the subdirectories and files are looked up in the indexes, which are brought up to date once for all entries
+        List<DirectoryIndex> indexes = directories.stream()
+                .map(DirectoryIndex::forDirectory)
+                .collect(Collectors.toList());
         for (BibEntry entry : entries) {
-            res.put(entry, findFiles(entry, extensions, directories));
+            res.put(entry, findFiles(entry, extensions, directories, indexes));
         }
         return res;
     }
@@ -81,9 +87,10 @@ class RegExpBasedFileFinder implements FileFinder {
      * @param directories The root directories to search.
      * @return A list of files paths matching the given criteria.
      */
-    private List<Path> findFiles(BibEntry entry, List<String> extensions, List<Path> directories) {
+    private List<Path> findFiles(BibEntry entry, List<String> extensions, List<Path> directories,
+                                 List<DirectoryIndex> indexes) {
         String extensionRegExp = '(' + String.join("|", extensions) + ')';
-        return findFile(entry, directories, extensionRegExp);
+        return findFile(entry, directories, extensionRegExp, indexes);
     }
 
     /**
@@ -115,14 +122,17 @@ class RegExpBasedFileFinder implements FileFinder {
      *            returned relative to these directories if relative is set to
      *            true. These directories will not be expanded or anything. Use
      *            the file attribute for this.
+     * @param indexes
+     *            The indexes of the directories, which are used instead of the file system.
      *
      * @return Will return the first file found to match the given criteria or
      *         null if none was found.
      */
-    private List<Path> findFile(BibEntry entry, List<Path> dirs, String extensionRegExp) {
+    private List<Path> findFile(BibEntry entry, List<Path> dirs, String extensionRegExp,
+                                List<DirectoryIndex> indexes) {
         List<Path> res = new ArrayList<>();
         for (Path directory : dirs) {
-            res.addAll(findFile(entry, directory, regExp, extensionRegExp));
+            res.addAll(findFile(entry, directory, regExp, extensionRegExp, indexes));
         }
         return res;
     }
@@ -131,7 +141,8 @@ class RegExpBasedFileFinder implements FileFinder {
      * The actual work-horse. Will find absolute filepaths starting from the
      * given directory using the given regular expression string for search.
      */
-    private List<Path> findFile(BibEntry entry, Path directory, String file, String extensionRegExp) {
+    private List<Path> findFile(BibEntry entry, Path directory, String file, String extensionRegExp,
+                                List<DirectoryIndex> indexes) {
         List<Path> res = new ArrayList<>();
 
         String fileName = file;
@@ -174,30 +185,18 @@ class RegExpBasedFileFinder implements FileFinder {
                 continue;
             }
             if ("*".equals(dirToProcess)) { // Do for all direct subdirs
-                File[] subDirs = actualDirectory.toFile().listFiles();
-                if (subDirs != null) {
-                    String restOfFileString = StringUtil.join(fileParts, "/", i + 1, fileParts.length);
-                    for (File subDir : subDirs) {
-                        if (subDir.isDirectory()) {
-                            res.addAll(findFile(entry, subDir.toPath(), restOfFileString, extensionRegExp));
-                        }
-                    }
+                String restOfFileString = StringUtil.join(fileParts, "/", i + 1, fileParts.length);
+                for (Path subDir : getSubdirectories(actualDirectory, false, indexes)) {
+                    res.addAll(findFile(entry, subDir, restOfFileString, extensionRegExp, indexes));
                 }
             }
             // Do for all direct and indirect subdirs
             if ("**".equals(dirToProcess)) {
                 String restOfFileString = StringUtil.join(fileParts, "/", i + 1, fileParts.length);
 
-                try {
-                    Path finalActualDirectory = actualDirectory;
-                    Files.walk(actualDirectory).forEach(subElement -> {
-                        // We only want to transverse directory (and not the current one; this is already done below)
-                        if (!finalActualDirectory.equals(subElement) && Files.isDirectory(subElement)) {
-                            res.addAll(findFile(entry, subElement, restOfFileString, extensionRegExp));
-                        }
-                    });
-                } catch (IOException e) {
-                    LOGGER.debug(e);
+                // We only want to transverse directory (and not the current one; this is already done below)
+                for (Path subElement : getSubdirectories(actualDirectory, true, indexes)) {
+                    res.addAll(findFile(entry, subElement, restOfFileString, extensionRegExp, indexes));
                 }
             } // End process directory information
         }
@@ -207,14 +206,53 @@ class RegExpBasedFileFinder implements FileFinder {
         String filenameToLookFor = expandBrackets(filePart, entry, null, keywordDelimiter).replaceAll(EXT_MARKER, extensionRegExp);
         final Pattern toMatch = Pattern.compile('^' + filenameToLookFor.replaceAll("\\\\\\\\", "\\\\") + '$',
                 Pattern.CASE_INSENSITIVE);
-        try {
-            List<Path> matches = Files.find(actualDirectory, 1,
-                    (path, attributes) -> toMatch.matcher(path.getFileName().toString()).matches())
+        for (Path child : getChildren(actualDirectory, indexes)) {
+            if (toMatch.matcher(child.getFileName().toString()).matches()) {
+                res.add(child);
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Returns the directories in the given directory. The index of a file directory is used if it contains the
+     * directory, otherwise the file system is searched.
+     */
+    private static List<Path> getSubdirectories(Path directory, boolean recursive, List<DirectoryIndex> indexes) {
+        Optional<DirectoryIndex> index = findIndexContaining(directory, indexes);
+        if (index.isPresent()) {
+            return index.get().getSubdirectories(directory, recursive);
+        }
+
+        try (Stream<Path> subElements = recursive ? Files.walk(directory) : Files.list(directory)) {
+            return subElements.filter(subElement -> !directory.equals(subElement) && Files.isDirectory(subElement))
                     .collect(Collectors.toList());
-            res.addAll(matches);
         } catch (IOException e) {
             LOGGER.debug(e);
+            return Collections.emptyList();
         }
-        return res;
+    }
+
+    /**
+     * Returns the files and directories in the given directory, like {@link #getSubdirectories(Path, boolean, List)}
+     */
+    private static List<Path> getChildren(Path directory, List<DirectoryIndex> indexes) {
+        Optional<DirectoryIndex> index = findIndexContaining(directory, indexes);
+        if (index.isPresent()) {
+            return index.get().getChildren(directory);
+        }
+
+        try (Stream<Path> children = Files.list(directory)) {
+            return children.collect(Collectors.toList());
+        } catch (IOException e) {
+            LOGGER.debug(e);
+            return Collections.emptyList();
+        }
+    }
+
+    private static Optional<DirectoryIndex> findIndexContaining(Path directory, List<DirectoryIndex> indexes) {
+        return indexes.stream()
+                .filter(index -> index.relativize(directory).isPresent())
+                .findFirst();
     }
 }
@@ -7,7 +7,9 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -54,9 +56,22 @@ public class BibDatabase {
      */
     private final DuplicationChecker duplicationChecker = new DuplicationChecker();
     /**
-     * contains all entry.getID() of the current database
+     * contains all entries of the current database by their id (entry.getID())
      */
-    private final Set<String> internalIDs = new HashSet<>();
+    private final Map<String, BibEntry> entriesById = new HashMap<>();
+    /**
+     * contains all entries having a cite key by their key, in the order they appear in the database
+     */
+    private final Map<String, List<BibEntry>> entriesByKey = new HashMap<>();
+    /**
+     * insertion number of each entry; BibEntry implements value equality, thus entries are compared by identity
+     */
+    private final Map<BibEntry, Long> insertionOrder = new IdentityHashMap<>();
+    private long insertionCounter;
+    /**
+     * guards the id and key index; it is also updated from field changes, which must not wait for the database
+     */
+    private final Object indexLock = new Object();
     private final EventBus eventBus = new EventBus();
     private String preamble;
     // All file contents below the last entry in the file
@@ -110,7 +125,9 @@ public class BibDatabase {
      * Returns whether an entry with the given ID exists (-> entry_type + hashcode).
      */
     public boolean containsEntryWithId(String id) {
-        return internalIDs.contains(id);
+        synchronized (indexLock) {
+            return entriesById.containsKey(id);
+        }
     }
 
     public ObservableList<BibEntry> getEntries() {
@@ -135,13 +152,14 @@ public class BibDatabase {
     /**
      * Returns the entry with the given bibtex key.
      */
-    public synchronized Optional<BibEntry> getEntryByKey(String key) {
-        for (BibEntry entry : entries) {
-            if (key.equals(entry.getCiteKeyOptional().orElse(null))) {
-                return Optional.of(entry);
+    public Optional<BibEntry> getEntryByKey(String key) {
+        synchronized (indexLock) {
+            List<BibEntry> entriesWithKey = entriesByKey.get(key);
+            if (entriesWithKey == null) {
+                return Optional.empty();
             }
+            return Optional.of(entriesWithKey.get(0));
         }
-        return Optional.empty();
     }
 
     /**
@@ -151,17 +169,10 @@ public class BibDatabase {
      * @param key
      * @return list of entries that contains the given key
      */
-    public synchronized List<BibEntry> getEntriesByKey(String key) {
-        List<BibEntry> result = new ArrayList<>();
-
-        for (BibEntry entry : entries) {
-            entry.getCiteKeyOptional().ifPresent(entryKey -> {
-                if (key.equals(entryKey)) {
-                    result.add(entry);
-                }
-            });
+    public List<BibEntry> getEntriesByKey(String key) {
+        synchronized (indexLock) {
+            return new ArrayList<>(entriesByKey.getOrDefault(key, Collections.emptyList()));
         }
-        return result;
     }
 
     /**
@@ -170,8 +181,10 @@ public class BibDatabase {
      * @param id
      * @return The entry that has the given id
      */
-    public synchronized Optional<BibEntry> getEntryById(String id) {
-        return entries.stream().filter(entry -> entry.getId().equals(id)).findFirst();
+    public Optional<BibEntry> getEntryById(String id) {
+        synchronized (indexLock) {
+            return Optional.ofNullable(entriesById.get(id));
+        }
     }
 
     /**
@@ -216,7 +229,12 @@ public class BibDatabase {
                 throw new KeyCollisionException("ID is already in use, please choose another");
             }
 
-            internalIDs.add(id);
+            synchronized (indexLock) {
+                entriesById.put(id, entry);
+                insertionOrder.put(entry, insertionCounter++);
+                entry.getCiteKeyOptional()
+                        .ifPresent(key -> entriesByKey.computeIfAbsent(key, k -> new ArrayList<>(1)).add(entry));
+            }
             entry.registerListener(this);
 
             eventBus.post(new EntryAddedEvent(entry, eventSource));
@@ -246,11 +264,73 @@ public class BibDatabase {
 
         boolean anyRemoved = entries.removeIf(entry -> entry.getId().equals(toBeDeleted.getId()));
         if (anyRemoved) {
-            internalIDs.remove(toBeDeleted.getId());
+            removeFromIndex(toBeDeleted.getId());
             eventBus.post(new EntryRemovedEvent(toBeDeleted, eventSource));
         }
     }
 
+    /**
+     * Removes the given entries.
+     * The entries are removed based on their id {@link BibEntry#id}
+     *
+     * @param toBeDeleted Entries to delete
+     * @param eventSource Source the events are sent from
+     */
+    public synchronized void removeEntries(List<BibEntry> toBeDeleted, EntryEventSource eventSource) {
+        Objects.requireNonNull(toBeDeleted);
+        if (toBeDeleted.isEmpty()) {
+            return;
+        }
+
+        Set<String> idsToBeDeleted = toBeDeleted.stream().map(BibEntry::getId).collect(Collectors.toSet());
+        entries.removeIf(entry -> idsToBeDeleted.contains(entry.getId()));
+        for (BibEntry entry : toBeDeleted) {
+            if (removeFromIndex(entry.getId())) {
+                eventBus.post(new EntryRemovedEvent(entry, eventSource));
+            }
+        }
+    }
+
+    /**
+     * Removes the entry with the given id from the id and key index.
+     *
+     * @return true if the entry was indexed
+     */
+    private boolean removeFromIndex(String id) {
+        synchronized (indexLock) {
+            BibEntry entry = entriesById.remove(id);
+            if (entry == null) {
+                return false;
+            }
+            insertionOrder.remove(entry);
+            entry.getCiteKeyOptional().ifPresent(key -> removeFromKeyIndex(entry, key));
+            return true;
+        }
+    }
+
+    private void removeFromKeyIndex(BibEntry entry, String key) {
+        List<BibEntry> entriesWithKey = entriesByKey.get(key);
+        if (entriesWithKey != null) {
+            // BibEntry implements value equality, thus an equal copy must not be removed instead
+            entriesWithKey.removeIf(other -> other == entry);
+            if (entriesWithKey.isEmpty()) {
+                entriesByKey.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Adds an entry already contained in the database to the key index, keeping the order of the database
+     */
+    private void addToKeyIndex(BibEntry entry, String key) {
+        List<BibEntry> entriesWithKey = entriesByKey.computeIfAbsent(key, k -> new ArrayList<>(1));
+        entriesWithKey.add(entry);
+        if (entriesWithKey.size() > 1) {
+            // entries are only appended and removed, thus the insertion order is the order of the database
+            entriesWithKey.sort(Comparator.comparingLong(insertionOrder::get));
+        }
+    }
+
     /**
      * Returns the database's preamble.
      * If the preamble text consists only of whitespace, then also an empty optional is returned.
@@ -577,9 +657,34 @@ public class BibDatabase {
 
     @Subscribe
     private void relayEntryChangeEvent(FieldChangedEvent event) {
+        updateIndex(event);
         eventBus.post(event);
     }
 
+    /**
+     * Keeps the id and key index in sync with changes of entries of this database. Removed entries still send their
+     * events to this database, therefore only events of contained entries are considered.
+     */
+    private void updateIndex(FieldChangedEvent event) {
+        BibEntry entry = event.getBibEntry();
+        synchronized (indexLock) {
+            if (BibEntry.ID_FIELD.equals(event.getFieldName())) {
+                // the event is sent before the id of the entry is changed
+                if (entriesById.get(event.getOldValue()) == entry) {
+                    entriesById.remove(event.getOldValue());
+                    entriesById.put(event.getNewValue(), entry);
+                }
+            } else if (BibEntry.KEY_FIELD.equals(event.getFieldName()) && (entriesById.get(entry.getId()) == entry)) {
+                if (event.getOldValue() != null) {
+                    removeFromKeyIndex(entry, event.getOldValue());
+                }
+                if (event.getNewValue() != null) {
+                    addToKeyIndex(entry, event.getNewValue());
+                }
+            }
+        }
+    }
+
     public Optional<BibEntry> getReferencedEntry(BibEntry entry) {
         return entry.getField(FieldName.CROSSREF).flatMap(this::getEntryByKey);
     }
@@ -5,6 +5,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -15,6 +16,7 @@ import org.jabref.model.bibtexkeypattern.GlobalBibtexKeyPattern;
 import org.jabref.model.database.event.CoarseChangeFilter;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.FieldName;
+import org.jabref.model.groups.GroupMembershipIndex;
 import org.jabref.model.metadata.FileDirectoryPreferences;
 import org.jabref.model.metadata.MetaData;
 import org.jabref.shared.DBMSSynchronizer;
@@ -35,6 +37,9 @@ public class BibDatabaseContext {
     private DBMSSynchronizer dbmsSynchronizer;
     private CoarseChangeFilter dbmsListener;
     private DatabaseLocation location;
+    private GroupMembershipIndex groupMembershipIndex;
+    // The entries in the order in which they were last saved or exported, a good start for sorting them again
+    private volatile List<BibEntry> lastSortedEntries = Collections.emptyList();
 
     public BibDatabaseContext() {
         this(new Defaults());
@@ -136,6 +141,28 @@ public class BibDatabaseContext {
         return database;
     }
 
+    /**
+     * Returns the cache of the group memberships of the entries of the database. It is created on first use.
+     */
+    public synchronized GroupMembershipIndex getGroupMembershipIndex() {
+        if (groupMembershipIndex == null) {
+            groupMembershipIndex = new GroupMembershipIndex(database);
+        }
+        return groupMembershipIndex;
+    }
+
+    /**
+     * Returns the entries in the order in which they were last saved or exported, or an empty list if they were not
+     * saved yet
+     */
+    public List<BibEntry> getLastSortedEntries() {
+        return lastSortedEntries;
+    }
+
+    public void setLastSortedEntries(List<BibEntry> lastSortedEntries) {
+        this.lastSortedEntries = Collections.unmodifiableList(new ArrayList<>(lastSortedEntries));
+    }
+
     public MetaData getMetaData() {
         return metaData;
     }
@@ -266,6 +293,7 @@ public class BibDatabaseContext {
 
     public void convertToSharedDatabase(Character keywordSeparator, GlobalBibtexKeyPattern globalCiteKeyPattern) {
         this.dbmsSynchronizer = new DBMSSynchronizer(this, keywordSeparator, globalCiteKeyPattern);
+        this.dbmsSynchronizer.setSynchronizationDelay(DBMSSynchronizer.DEFAULT_SYNCHRONIZATION_DELAY);
         this.dbmsListener = new CoarseChangeFilter(this);
         dbmsListener.registerListener(dbmsSynchronizer);
 
@@ -8,9 +8,12 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
-import java.util.WeakHashMap;
 import java.util.stream.Collectors;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+
 /**
  * This is an immutable class representing information of either <CODE>author</CODE>
  * or <CODE>editor</CODE> field in bibtex record.
@@ -120,7 +123,13 @@ import java.util.stream.Collectors;
  */
 public class AuthorList {
 
-    private static final WeakHashMap<String, AuthorList> AUTHOR_CACHE = new WeakHashMap<>();
+    // Number of parsed author strings which are kept, enough for the names of a large library
+    private static final int AUTHOR_CACHE_SIZE = 100_000;
+    // Parsed author lists by the string passed to parse, the least recently used lists are evicted first
+    private static final Cache<String, AuthorList> AUTHOR_CACHE = CacheBuilder.newBuilder()
+            .maximumSize(AUTHOR_CACHE_SIZE)
+            .recordStats()
+            .build();
     // Avoid partition where these values are contained
     private final static Collection<String> AVOID_TERMS_IN_LOWER_CASE = Arrays.asList("jr", "sr", "jnr", "snr", "von", "zu", "van", "der");
     private final List<Author> authors;
@@ -157,7 +166,8 @@ public class AuthorList {
     /**
      * Retrieve an AuthorList for the given string of authors or editors.
      * <p>
-     * This function tries to cache the parsed AuthorLists by the string passed in.
+     * This function caches the parsed AuthorLists by the string passed in. It may be called from several threads at
+     * once.
      *
      * @param authors The string of authors or editors in bibtex format to parse.
      * @return An AuthorList object representing the given authors.
@@ -165,6 +175,23 @@ public class AuthorList {
     public static AuthorList parse(String authors) {
         Objects.requireNonNull(authors);
 
+        AuthorList authorList = AUTHOR_CACHE.getIfPresent(authors);
+        if (authorList == null) {
+            // Parsing the same string twice in parallel is harmless, so there is no need to block other threads
+            authorList = parseUncached(authors);
+            AUTHOR_CACHE.put(authors, authorList);
+        }
+        return authorList;
+    }
+
+    /**
+     * Returns the hit and miss counts of the cache of {@link #parse(String)}
+     */
+    public static CacheStats getCacheStatistics() {
+        return AUTHOR_CACHE.stats();
+    }
+
+    private static AuthorList parseUncached(String authors) {
         // Handle case names in order lastname, firstname and separated by ","
         // E.g., Ali Babar, M., Dingsøyr, T., Lago, P., van der Vliet, H.
         final boolean authorsContainAND = authors.toUpperCase(Locale.ENGLISH).contains(" AND ");
@@ -209,13 +236,8 @@ public class AuthorList {
             }
         }
 
-        AuthorList authorList = AUTHOR_CACHE.get(authors);
-        if (authorList == null) {
-            AuthorListParser parser = new AuthorListParser();
-            authorList = parser.parse(authors);
-            AUTHOR_CACHE.put(authors, authorList);
-        }
-        return authorList;
+        AuthorListParser parser = new AuthorListParser();
+        return parser.parse(authors);
     }
 
     /**
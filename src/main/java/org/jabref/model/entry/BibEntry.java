@@ -47,17 +47,25 @@ public class BibEntry implements Cloneable {
     private static final Pattern REMOVE_TRAILING_WHITESPACE = Pattern.compile("\\s+$");
     private final SharedBibEntryData sharedBibEntryData;
     /**
-     * Map to store the words in every field
+     * Map to store the words in every field. Created on first use.
      */
-    private final Map<String, Set<String>> fieldsAsWords = new HashMap<>();
+    private volatile Map<String, Set<String>> fieldsAsWords;
     /**
-     * Cache that stores latex free versions of fields.
+     * Cache that stores latex free versions of fields. Created on first use.
      */
-    private final Map<String, String> latexFreeFields = new ConcurrentHashMap<>();
-    private final EventBus eventBus = new EventBus();
+    private volatile Map<String, String> latexFreeFields;
+    /**
+     * Created when the first listener registers. Until then, there is nobody to notify.
+     */
+    private volatile EventBus eventBus;
     private String id;
     private String type;
-    private ObservableMap<String, String> fields = FXCollections.observableMap(new ConcurrentHashMap<>());
+    private CompactFieldMap fields = new CompactFieldMap();
+    /**
+     * Observable view on {@link #fields}, created when the first binding is requested.
+     * As soon as it exists, all changes have to go through it to notify its listeners.
+     */
+    private volatile ObservableMap<String, String> observableFields;
     // Search and grouping status is stored in boolean fields for quick reference:
     private boolean searchHit;
     private boolean groupHit;
@@ -174,7 +182,7 @@ public class BibEntry implements Cloneable {
 
         String oldId = this.id;
 
-        eventBus.post(new FieldChangedEvent(this, BibEntry.ID_FIELD, id, oldId));
+        postEvent(new FieldChangedEvent(this, BibEntry.ID_FIELD, id, oldId));
         this.id = id;
         changed = true;
     }
@@ -244,7 +252,7 @@ public class BibEntry implements Cloneable {
         // sets off a change in database sorting etc.
         this.type = newType.toLowerCase(Locale.ENGLISH);
         changed = true;
-        eventBus.post(new FieldChangedEvent(this, TYPE_HEADER, newType, oldType, eventSource));
+        postEvent(new FieldChangedEvent(this, TYPE_HEADER, newType, oldType, eventSource));
     }
 
     /**
@@ -419,14 +427,14 @@ public class BibEntry implements Cloneable {
 
         changed = true;
 
-        fields.put(fieldName, value.intern());
+        getModifiableFields().put(fieldName, value.intern());
         invalidateFieldCache(fieldName);
 
         FieldChange change = new FieldChange(this, fieldName, oldValue, value);
         if (isNewField) {
-            eventBus.post(new FieldAddedOrRemovedEvent(change, eventSource));
+            postEvent(new FieldAddedOrRemovedEvent(change, eventSource));
         } else {
-            eventBus.post(new FieldChangedEvent(change, eventSource));
+            postEvent(new FieldChangedEvent(change, eventSource));
         }
         return Optional.of(change);
     }
@@ -479,11 +487,11 @@ public class BibEntry implements Cloneable {
 
         changed = true;
 
-        fields.remove(fieldName);
+        getModifiableFields().remove(fieldName);
         invalidateFieldCache(fieldName);
 
         FieldChange change = new FieldChange(this, fieldName, oldValue.get(), null);
-        eventBus.post(new FieldAddedOrRemovedEvent(change, eventSource));
+        postEvent(new FieldAddedOrRemovedEvent(change, eventSource));
         return Optional.of(change);
     }
 
@@ -536,7 +544,7 @@ public class BibEntry implements Cloneable {
     @Override
     public Object clone() {
         BibEntry clone = new BibEntry(type);
-        clone.fields = FXCollections.observableMap(new ConcurrentHashMap<>(fields));
+        clone.fields = new CompactFieldMap(fields);
         return clone;
     }
 
@@ -692,8 +700,12 @@ public class BibEntry implements Cloneable {
         return fields.values();
     }
 
+    /**
+     * Returns a read-only view on the fields of this entry. Use {@link #setField(String, String)} and
+     * {@link #clearField(String)} to change them.
+     */
     public Map<String, String> getFieldMap() {
-        return fields;
+        return Collections.unmodifiableMap(fields);
     }
 
     public SharedBibEntryData getSharedBibEntryData() {
@@ -720,12 +732,17 @@ public class BibEntry implements Cloneable {
     }
 
     public void registerListener(Object object) {
-        this.eventBus.register(object);
+        getEventBus().register(object);
     }
 
     public void unregisterListener(Object object) {
+        EventBus bus = eventBus;
+        if (bus == null) {
+            // nothing has been registered yet
+            return;
+        }
         try {
-            this.eventBus.unregister(object);
+            bus.unregister(object);
         } catch (IllegalArgumentException e) {
             // occurs if the event source has not been registered, should not prevent shutdown
             LOGGER.debug(e);
@@ -755,7 +772,8 @@ public class BibEntry implements Cloneable {
 
     public Set<String> getFieldAsWords(String field) {
         String fieldName = toLowerCase(field);
-        Set<String> storedList = fieldsAsWords.get(fieldName);
+        Map<String, Set<String>> wordsCache = getFieldsAsWords();
+        Set<String> storedList = wordsCache.get(fieldName);
         if (storedList != null) {
             return storedList;
         } else {
@@ -764,7 +782,7 @@ public class BibEntry implements Cloneable {
                 return Collections.emptySet();
             } else {
                 HashSet<String> words = new HashSet<>(StringUtil.getStringAsWords(fieldValue));
-                fieldsAsWords.put(fieldName, words);
+                wordsCache.put(fieldName, words);
                 return words;
             }
         }
@@ -775,23 +793,93 @@ public class BibEntry implements Cloneable {
     }
 
     private void invalidateFieldCache(String fieldName) {
-        latexFreeFields.remove(fieldName);
-        fieldsAsWords.remove(fieldName);
+        Map<String, String> latexFreeCache = latexFreeFields;
+        if (latexFreeCache != null) {
+            latexFreeCache.remove(fieldName);
+        }
+        Map<String, Set<String>> wordsCache = fieldsAsWords;
+        if (wordsCache != null) {
+            wordsCache.remove(fieldName);
+        }
+    }
+
+    private Map<String, Set<String>> getFieldsAsWords() {
+        if (fieldsAsWords == null) {
+            synchronized (this) {
+                if (fieldsAsWords == null) {
+                    fieldsAsWords = new HashMap<>();
+                }
+            }
+        }
+        return fieldsAsWords;
+    }
+
+    private Map<String, String> getLatexFreeFields() {
+        if (latexFreeFields == null) {
+            synchronized (this) {
+                if (latexFreeFields == null) {
+                    latexFreeFields = new ConcurrentHashMap<>();
+                }
+            }
+        }
+        return latexFreeFields;
+    }
+
+    private EventBus getEventBus() {
+        if (eventBus == null) {
+            synchronized (this) {
+                if (eventBus == null) {
+                    eventBus = new EventBus();
+                }
+            }
+        }
+        return eventBus;
+    }
+
+    private void postEvent(Object event) {
+        EventBus bus = eventBus;
+        if (bus != null) {
+            bus.post(event);
+        }
+    }
+
+    /**
+     * Returns the map to apply changes of fields to. Changes are applied to the observable view if there is one, so
+     * that bindings get notified.
+     */
+    private Map<String, String> getModifiableFields() {
+        ObservableMap<String, String> observableView = observableFields;
+        if (observableView == null) {
+            return fields;
+        }
+        return observableView;
+    }
+
+    private ObservableMap<String, String> getObservableFields() {
+        if (observableFields == null) {
+            synchronized (this) {
+                if (observableFields == null) {
+                    observableFields = FXCollections.observableMap(fields);
+                }
+            }
+        }
+        return observableFields;
     }
 
     public Optional<String> getLatexFreeField(String name) {
+        Map<String, String> latexFreeCache = getLatexFreeFields();
         if (!hasField(name)) {
             return Optional.empty();
-        } else if (latexFreeFields.containsKey(name)) {
-            return Optional.ofNullable(latexFreeFields.get(toLowerCase(name)));
+        } else if (latexFreeCache.containsKey(name)) {
+            return Optional.ofNullable(latexFreeCache.get(toLowerCase(name)));
         } else if (KEY_FIELD.equals(name)) {
             // the key field should not be converted
             Optional<String> citeKey = getCiteKeyOptional();
-            latexFreeFields.put(name, citeKey.get());
+            latexFreeCache.put(name, citeKey.get());
             return citeKey;
         } else {
             String latexFreeField = LatexToUnicodeAdapter.format(getField(name).get()).intern();
-            latexFreeFields.put(name, latexFreeField);
+            latexFreeCache.put(name, latexFreeField);
             return Optional.of(latexFreeField);
         }
     }
@@ -834,7 +922,7 @@ public class BibEntry implements Cloneable {
     }
 
     public ObjectBinding<String> getFieldBinding(String fieldName) {
-        return Bindings.valueAt(fields, fieldName);
+        return Bindings.valueAt(getObservableFields(), fieldName);
     }
 
     public Optional<FieldChange> addFile(LinkedFile file) {
@@ -0,0 +1,166 @@
+package org.jabref.model.entry;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Memory-efficient map holding the fields of a {@link BibEntry}.
+ * <p>
+ * Names and values are stored alternating in a single flat array. As an entry only has a few fields, a linear scan
+ * is as fast as hashing, but needs a fraction of the memory of a hash map. The field names are interned, thus all
+ * entries share the same name instances.
+ * <p>
+ * Every modification replaces the array (copy on write). Reads do not lock and always see a consistent state, which
+ * keeps the thread-safety guarantees of the previously used concurrent hash map.
+ */
+final class CompactFieldMap extends AbstractMap<String, String> {
+
+    private static final String[] EMPTY = new String[0];
+
+    private volatile String[] namesAndValues = EMPTY;
+
+    CompactFieldMap() {
+    }
+
+    CompactFieldMap(Map<String, String> fields) {
+        putAll(fields);
+    }
+
+    private static int indexOf(String[] data, Object name) {
+        for (int i = 0; i < data.length; i += 2) {
+            if (data[i].equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int size() {
+        return namesAndValues.length / 2;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return namesAndValues.length == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object name) {
+        return indexOf(namesAndValues, name) >= 0;
+    }
+
+    @Override
+    public String get(Object name) {
+        String[] data = namesAndValues;
+        int index = indexOf(data, name);
+        if (index < 0) {
+            return null;
+        }
+        return data[index + 1];
+    }
+
+    @Override
+    public synchronized String put(String name, String value) {
+        Objects.requireNonNull(name);
+        Objects.requireNonNull(value);
+
+        String[] data = namesAndValues;
+        int index = indexOf(data, name);
+        String[] newData;
+        String oldValue = null;
+        if (index < 0) {
+            newData = Arrays.copyOf(data, data.length + 2);
+            newData[data.length] = name.intern();
+            newData[data.length + 1] = value;
+        } else {
+            oldValue = data[index + 1];
+            newData = data.clone();
+            newData[index + 1] = value;
+        }
+        namesAndValues = newData;
+        return oldValue;
+    }
+
+    @Override
+    public synchronized String remove(Object name) {
+        String[] data = namesAndValues;
+        int index = indexOf(data, name);
+        if (index < 0) {
+            return null;
+        }
+
+        String oldValue = data[index + 1];
+        String[] newData = new String[data.length - 2];
+        System.arraycopy(data, 0, newData, 0, index);
+        System.arraycopy(data, index + 2, newData, index, data.length - index - 2);
+        namesAndValues = newData;
+        return oldValue;
+    }
+
+    @Override
+    public synchronized void clear() {
+        namesAndValues = EMPTY;
+    }
+
+    @Override
+    public Set<Entry<String, String>> entrySet() {
+        return new AbstractSet<Entry<String, String>>() {
+
+            @Override
+            public Iterator<Entry<String, String>> iterator() {
+                return new SnapshotIterator(namesAndValues);
+            }
+
+            @Override
+            public int size() {
+                return CompactFieldMap.this.size();
+            }
+        };
+    }
+
+    /**
+     * Iterates over the fields present when the iteration started, like the iterators of concurrent collections
+     */
+    private class SnapshotIterator implements Iterator<Entry<String, String>> {
+
+        private final String[] data;
+        private int index;
+        private String lastName;
+
+        SnapshotIterator(String[] data) {
+            this.data = data;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < data.length;
+        }
+
+        @Override
+        public Entry<String, String> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            lastName = data[index];
+            Entry<String, String> entry = new SimpleImmutableEntry<>(data[index], data[index + 1]);
+            index += 2;
+            return entry;
+        }
+
+        @Override
+        public void remove() {
+            if (lastName == null) {
+                throw new IllegalStateException();
+            }
+            CompactFieldMap.this.remove(lastName);
+            lastName = null;
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package org.jabref.model.groups;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.event.EntryAddedEvent;
+import org.jabref.model.database.event.EntryRemovedEvent;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.FieldChangedEvent;
+
+import com.google.common.collect.MapMaker;
+import com.google.common.eventbus.Subscribe;
+
+/**
+ * Caches which entries of a {@link BibDatabase} are contained in which groups.
+ * <p>
+ * Every entry of the database gets an ordinal, and for every group a bit set of the ordinals of the contained entries
+ * is stored. The bit set of a group is computed when it is requested for the first time. Afterwards, it is kept up
+ * to date by listening to the changes of the database: when a field of an entry changes, only the groups depending
+ * on this field are evaluated again, and only for this entry.
+ * <p>
+ * The hierarchical context of a {@link GroupTreeNode} (see {@link GroupTreeNode#getSearchMatcher()}) is resolved by
+ * combining the bit sets of the involved groups, so that changes of the group tree need no update of the index.
+ */
+public class GroupMembershipIndex {
+
+    private final BibDatabase database;
+
+    // BibEntry implements value equality and is mutable, thus entries are compared by identity
+    private final Map<BibEntry, Integer> ordinals = new IdentityHashMap<>();
+    private final List<BibEntry> entriesByOrdinal = new ArrayList<>();
+    // ordinals of removed entries, which are reused for new entries
+    private final BitSet freeOrdinals = new BitSet();
+    // weak keys, so that groups which are no longer used are dropped; the keys are compared by identity
+    private final Map<AbstractGroup, BitSet> memberships = new MapMaker().weakKeys().makeMap();
+    private boolean built;
+
+    public GroupMembershipIndex(BibDatabase database) {
+        this.database = Objects.requireNonNull(database);
+        this.database.registerListener(this);
+    }
+
+    /**
+     * Returns whether the entries contained in the given group depend on the given field.
+     */
+    private static boolean dependsOnField(AbstractGroup group, String fieldName) {
+        if ((group instanceof AllEntriesGroup) || (group instanceof AutomaticGroup)) {
+            return false;
+        } else if (group instanceof KeywordGroup) {
+            return fieldName.equalsIgnoreCase(((KeywordGroup) group).getSearchField());
+        } else {
+            // e.g. search groups may refer to any field
+            return true;
+        }
+    }
+
+    /**
+     * Returns the number of entries of the database which are matched by the given node, taking the hierarchical
+     * information into account.
+     */
+    public synchronized int getNumberOfMatches(GroupTreeNode node) {
+        return getMatches(node, node.getGroup().getHierarchicalContext()).cardinality();
+    }
+
+    /**
+     * Returns the entries of the database which are matched by the given node, taking the hierarchical information
+     * into account. The entries are returned in no particular order.
+     */
+    public synchronized List<BibEntry> getMatchingEntries(GroupTreeNode node) {
+        BitSet matches = getMatches(node, node.getGroup().getHierarchicalContext());
+        List<BibEntry> entries = new ArrayList<>(matches.cardinality());
+        matches.stream().forEach(ordinal -> entries.add(entriesByOrdinal.get(ordinal)));
+        return entries;
+    }
+
+    /**
+     * Returns the nodes of the tree starting at the given node which match at least one of the given entries. The
+     * nodes are returned in the same order as {@link GroupTreeNode#getMatchingGroups(List)} does.
+     */
+    public synchronized List<GroupTreeNode> getMatchingGroups(GroupTreeNode node, List<BibEntry> entries) {
+        build();
+        BitSet entryOrdinals = new BitSet();
+        List<BibEntry> unknownEntries = new ArrayList<>();
+        for (BibEntry entry : entries) {
+            Integer ordinal = ordinals.get(entry);
+            if (ordinal == null) {
+                unknownEntries.add(entry);
+            } else {
+                entryOrdinals.set(ordinal);
+            }
+        }
+
+        List<GroupTreeNode> groups = new ArrayList<>();
+        addMatchingGroups(node, entryOrdinals, unknownEntries, groups);
+        return groups;
+    }
+
+    private void addMatchingGroups(GroupTreeNode node, BitSet entryOrdinals, List<BibEntry> unknownEntries,
+            List<GroupTreeNode> groups) {
+        if (getMatches(node, node.getGroup().getHierarchicalContext()).intersects(entryOrdinals)
+                || unknownEntries.stream().anyMatch(node::matches)) {
+            groups.add(node);
+        }
+        for (GroupTreeNode child : node.getChildren()) {
+            addMatchingGroups(child, entryOrdinals, unknownEntries, groups);
+        }
+    }
+
+    /**
+     * Stops listening to the database and frees the index.
+     */
+    public synchronized void close() {
+        database.unregisterListener(this);
+        ordinals.clear();
+        entriesByOrdinal.clear();
+        freeOrdinals.clear();
+        memberships.clear();
+        built = false;
+    }
+
+    @Subscribe
+    public synchronized void listen(EntryAddedEvent event) {
+        if (built) {
+            addEntry(event.getBibEntry());
+        }
+    }
+
+    @Subscribe
+    public synchronized void listen(EntryRemovedEvent event) {
+        if (built) {
+            removeEntry(event.getBibEntry());
+        }
+    }
+
+    @Subscribe
+    public synchronized void listen(FieldChangedEvent event) {
+        Integer ordinal = ordinals.get(event.getBibEntry());
+        if (ordinal == null) {
+            return;
+        }
+        memberships.forEach((group, members) -> {
+            if (dependsOnField(group, event.getFieldName())) {
+                members.set(ordinal, group.contains(event.getBibEntry()));
+            }
+        });
+    }
+
+    /**
+     * Mirrors {@link GroupTreeNode#getSearchMatcher()}: the own group is united with the children for including
+     * groups and intersected with the parent for refining groups.
+     */
+    private BitSet getMatches(GroupTreeNode node, GroupHierarchyType originalContext) {
+        BitSet matches = (BitSet) getMembers(node.getGroup()).clone();
+        GroupHierarchyType context = node.getGroup().getHierarchicalContext();
+        if ((context == GroupHierarchyType.INCLUDING) && (originalContext != GroupHierarchyType.REFINING)) {
+            for (GroupTreeNode child : node.getChildren()) {
+                matches.or(getMatches(child, originalContext));
+            }
+        } else if ((context == GroupHierarchyType.REFINING) && !node.isRoot()
+                && (originalContext != GroupHierarchyType.INCLUDING)) {
+            //noinspection OptionalGetWithoutIsPresent
+            matches.and(getMatches(node.getParent().get(), originalContext));
+        }
+        return matches;
+    }
+
+    private BitSet getMembers(AbstractGroup group) {
+        build();
+        BitSet members = memberships.get(group);
+        if (members == null) {
+            members = new BitSet(entriesByOrdinal.size());
+            for (int ordinal = 0; ordinal < entriesByOrdinal.size(); ordinal++) {
+                BibEntry entry = entriesByOrdinal.get(ordinal);
+                if ((entry != null) && group.contains(entry)) {
+                    members.set(ordinal);
+                }
+            }
+            memberships.put(group, members);
+        }
+        return members;
+    }
+
+    private void build() {
+        if (!built) {
+            for (BibEntry entry : database.getEntries()) {
+                addEntry(entry);
+            }
+            built = true;
+        }
+    }
+
+    private void addEntry(BibEntry entry) {
+        if (ordinals.containsKey(entry)) {
+            return;
+        }
+
+        int ordinal = freeOrdinals.nextSetBit(0);
+        if (ordinal < 0) {
+            ordinal = entriesByOrdinal.size();
+            entriesByOrdinal.add(entry);
+        } else {
+            freeOrdinals.clear(ordinal);
+            entriesByOrdinal.set(ordinal, entry);
+        }
+        ordinals.put(entry, ordinal);
+
+        for (Map.Entry<AbstractGroup, BitSet> membership : memberships.entrySet()) {
+            membership.getValue().set(ordinal, membership.getKey().contains(entry));
+        }
+    }
+
+    private void removeEntry(BibEntry entry) {
+        Integer ordinal = ordinals.remove(entry);
+        if (ordinal == null) {
+            return;
+        }
+
+        entriesByOrdinal.set(ordinal, null);
+        freeOrdinals.set(ordinal);
+        for (BitSet members : memberships.values()) {
+            members.clear(ordinal);
+        }
+    }
+}
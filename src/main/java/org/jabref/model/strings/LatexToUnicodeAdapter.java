@@ -5,9 +5,18 @@ import java.util.Objects;
 import java.util.regex.Pattern;
 
 import com.github.tomtung.latex2unicode.LaTeX2Unicode;
+import com.google.common.base.Throwables;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 
 /**
  * Adapter class for the latex2unicode lib. This is an alternative to our LatexToUnicode class
+ * <p>
+ * Most field values contain no LaTeX at all and are returned as they are without calling the library. The
+ * conversions of all other values are cached, as the same values are converted again and again for all entries.
  */
 public class LatexToUnicodeAdapter {
 
@@ -17,11 +26,77 @@ public class LatexToUnicodeAdapter {
 
     private static Pattern underscorePlaceholderMatcher = Pattern.compile(replacementChar);
 
+    // The characters which may occur in text without LaTeX, as long as they are not doubled like in -- or ''
+    private static final String PLAIN_PUNCTUATION = " .,;:!?()[]/+=*@'-<>|";
+
+    // Limits the number of characters of all cached values and their conversions
+    private static final long CACHE_SIZE = 4_000_000;
+
+    private static final LoadingCache<String, String> CONVERSIONS = CacheBuilder.newBuilder()
+            .maximumWeight(CACHE_SIZE)
+            .weigher((String input, String output) -> input.length() + output.length())
+            .recordStats()
+            .build(CacheLoader.from(LatexToUnicodeAdapter::convert));
+
     public static String format(String inField) {
         Objects.requireNonNull(inField);
 
+        if (isPlainText(inField)) {
+            return inField;
+        }
+
+        try {
+            return CONVERSIONS.getUnchecked(inField);
+        } catch (UncheckedExecutionException e) {
+            Throwables.throwIfUnchecked(e.getCause());
+            throw e;
+        }
+    }
+
+    private static String convert(String inField) {
         String toFormat = underscoreMatcher.matcher(inField).replaceAll(replacementChar);
         toFormat = Normalizer.normalize(LaTeX2Unicode.convert(toFormat), Normalizer.Form.NFC);
         return underscorePlaceholderMatcher.matcher(toFormat).replaceAll("_");
     }
+
+    /**
+     * Checks whether the given text is not changed by the conversion. This is the case if it only consists of letters,
+     * digits and punctuation without a meaning in LaTeX, separated by single spaces, and is normalized already.
+     */
+    static boolean isPlainText(String text) {
+        int length = text.length();
+        if ((length > 0) && ((text.charAt(0) == ' ') || (text.charAt(length - 1) == ' '))) {
+            return false;
+        }
+
+        boolean ascii = true;
+        char previous = 0;
+        for (int i = 0; i < length; i++) {
+            char current = text.charAt(i);
+            if (current < 128) {
+                if (!isAsciiLetterOrDigit(current)
+                        && ((PLAIN_PUNCTUATION.indexOf(current) < 0) || (current == previous))) {
+                    return false;
+                }
+            } else if (Character.isLetterOrDigit(current)) {
+                ascii = false;
+            } else {
+                return false;
+            }
+            previous = current;
+        }
+        return ascii || Normalizer.isNormalized(text, Normalizer.Form.NFC);
+    }
+
+    private static boolean isAsciiLetterOrDigit(char character) {
+        return ((character >= 'a') && (character <= 'z')) || ((character >= 'A') && (character <= 'Z'))
+                || ((character >= '0') && (character <= '9'));
+    }
+
+    /**
+     * @return the number of conversions which were found in the cache and which were not, for text which is not plain
+     */
+    public static CacheStats getCacheStats() {
+        return CONVERSIONS.stats();
+    }
 }
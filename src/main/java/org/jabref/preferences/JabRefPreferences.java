@@ -315,6 +315,8 @@ public class JabRefPreferences implements PreferencesService {
     public static final String PUSH_TO_APPLICATION = "pushToApplication";
     public static final String SHOW_RECOMMENDATIONS = "showRecommendations";
     public static final String VALIDATE_IN_ENTRY_EDITOR = "validateInEntryEditor";
+    // Size of a .bib file (in bytes) from which on it is parsed in parallel, 0 disables parallel parsing
+    public static final String PARALLEL_PARSING_THRESHOLD = "parallelParsingThreshold";
     // Dropped file handler
     public static final String DROPPEDFILEHANDLER_RENAME = "DroppedFileHandler_RenameFile";
     public static final String DROPPEDFILEHANDLER_MOVE = "DroppedFileHandler_MoveFile";
@@ -584,6 +586,7 @@ public class JabRefPreferences implements PreferencesService {
 
         defaults.put(SHOW_RECOMMENDATIONS, Boolean.TRUE);
         defaults.put(VALIDATE_IN_ENTRY_EDITOR, Boolean.FALSE);
+        defaults.put(PARALLEL_PARSING_THRESHOLD, 20 * 1024 * 1024);
         defaults.put(EDITOR_EMACS_KEYBINDINGS, Boolean.FALSE);
         defaults.put(EDITOR_EMACS_KEYBINDINGS_REBIND_CA, Boolean.TRUE);
         defaults.put(EDITOR_EMACS_KEYBINDINGS_REBIND_CF, Boolean.TRUE);
@@ -1406,7 +1409,7 @@ public class JabRefPreferences implements PreferencesService {
     public ImportFormatPreferences getImportFormatPreferences() {
         return new ImportFormatPreferences(customImports, getDefaultEncoding(), getKeywordDelimiter(),
                 getBibtexKeyPatternPreferences(), getFieldContentParserPreferences(),
-                isKeywordSyncEnabled());
+                isKeywordSyncEnabled(), getInt(PARALLEL_PARSING_THRESHOLD));
     }
 
     public BibtexKeyPatternPreferences getBibtexKeyPatternPreferences() {
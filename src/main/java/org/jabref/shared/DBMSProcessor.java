@@ -6,6 +6,8 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -29,13 +31,18 @@ public abstract class DBMSProcessor {
 
     public static final String PROCESSOR_ID = UUID.randomUUID().toString();
 
+    // Oracle does not accept more than 1000 expressions in an IN list
+    protected static final int MAX_IN_CLAUSE_SIZE = 1000;
 
     protected static final Log LOGGER = LogFactory.getLog(DBMSProcessor.class);
 
+    private static final int DEFAULT_FETCH_SIZE = 1000;
+
     protected final Connection connection;
 
     protected DBMSConnectionProperties connectionProperties;
 
+    private int fetchSize = DEFAULT_FETCH_SIZE;
 
     protected DBMSProcessor(DBMSConnection dbmsConnection) {
         this.connection = dbmsConnection.getConnection();
@@ -131,11 +138,29 @@ public abstract class DBMSProcessor {
      * @param bibEntry {@link BibEntry} to be inserted
      */
     public void insertEntry(BibEntry bibEntry) {
-        if (!checkForBibEntryExistence(bibEntry)) {
-            insertIntoEntryTable(bibEntry);
-            insertIntoFieldTable(bibEntry);
+        insertEntries(Collections.singletonList(bibEntry));
+    }
+
+    /**
+     * Inserts the given bibEntries into shared database. Entries which are already present are skipped.
+     * The existence check is done with one query for all entries and the fields are sent as one batch.
+     *
+     * @param bibEntries {@link BibEntry} instances to be inserted
+     */
+    public void insertEntries(List<BibEntry> bibEntries) {
+        Set<Integer> existingSharedIDs = getExistingSharedIDs(bibEntries);
+
+        List<BibEntry> newEntries = new ArrayList<>();
+        for (BibEntry bibEntry : bibEntries) {
+            if (!existingSharedIDs.contains(bibEntry.getSharedBibEntryData().getSharedID())) {
+                newEntries.add(bibEntry);
+            }
         }
 
+        for (BibEntry bibEntry : newEntries) {
+            insertIntoEntryTable(bibEntry);
+        }
+        insertIntoFieldTable(newEntries);
     }
 
     /**
@@ -170,65 +195,71 @@ public abstract class DBMSProcessor {
     }
 
     /**
-     * Checks whether the given bibEntry already exists on shared database.
-     * @param bibEntry {@link BibEntry} to be checked
-     * @return <code>true</code> if existent, else <code>false</code>
+     * Determines which of the given bibEntries already exist on shared database.
+     *
+     * @param bibEntries {@link BibEntry} instances to be checked
+     * @return the shared IDs of all existing entries
      */
-    private boolean checkForBibEntryExistence(BibEntry bibEntry) {
-        try {
-            // Check if already exists
+    private Set<Integer> getExistingSharedIDs(List<BibEntry> bibEntries) {
+        List<Integer> sharedIDs = new ArrayList<>();
+        for (BibEntry bibEntry : bibEntries) {
             int sharedID = bibEntry.getSharedBibEntryData().getSharedID();
             if (sharedID != -1) {
-                StringBuilder selectQuery = new StringBuilder()
-                        .append("SELECT * FROM ")
-                        .append(escape("ENTRY"))
-                        .append(" WHERE ")
-                        .append(escape("SHARED_ID"))
-                        .append(" = ?");
-
-                try (PreparedStatement preparedSelectStatement = connection.prepareStatement(selectQuery.toString())) {
-                    preparedSelectStatement.setInt(1, sharedID);
-                    try (ResultSet resultSet = preparedSelectStatement.executeQuery()) {
-                        if (resultSet.next()) {
-                            return true;
-                        }
+                sharedIDs.add(sharedID);
+            }
+        }
+
+        Set<Integer> existingSharedIDs = new HashSet<>();
+        for (int start = 0; start < sharedIDs.size(); start += MAX_IN_CLAUSE_SIZE) {
+            List<Integer> batch = sharedIDs.subList(start, Math.min(sharedIDs.size(), start + MAX_IN_CLAUSE_SIZE));
+            StringBuilder selectQuery = new StringBuilder()
+                    .append("SELECT ")
+                    .append(escape("SHARED_ID"))
+                    .append(" FROM ")
+                    .append(escape("ENTRY"))
+                    .append(" WHERE ")
+                    .append(escape("SHARED_ID"))
+                    .append(" IN (")
+                    .append(String.join(", ", Collections.nCopies(batch.size(), "?")))
+                    .append(")");
+
+            try (PreparedStatement preparedSelectStatement = connection.prepareStatement(selectQuery.toString())) {
+                for (int i = 0; i < batch.size(); i++) {
+                    preparedSelectStatement.setInt(i + 1, batch.get(i));
+                }
+                try (ResultSet resultSet = preparedSelectStatement.executeQuery()) {
+                    while (resultSet.next()) {
+                        existingSharedIDs.add(resultSet.getInt(1));
                     }
                 }
+            } catch (SQLException e) {
+                LOGGER.error("SQL Error: ", e);
             }
-        } catch (SQLException e) {
-            LOGGER.error("SQL Error: ", e);
         }
-        return false;
+        return existingSharedIDs;
     }
 
     /**
-     * Inserts the given bibEntry into FIELD table.
+     * Inserts the fields of the given bibEntries into FIELD table using one batch.
      *
-     * @param bibEntry {@link BibEntry} to be inserted
+     * @param bibEntries {@link BibEntry} instances to be inserted
      */
-    private void insertIntoFieldTable(BibEntry bibEntry) {
-        try {
-            // Inserting into FIELD table
-            for (String fieldName : bibEntry.getFieldNames()) {
-                StringBuilder insertFieldQuery = new StringBuilder()
-                    .append("INSERT INTO ")
-                    .append(escape("FIELD"))
-                    .append("(")
-                    .append(escape("ENTRY_SHARED_ID"))
-                    .append(", ")
-                    .append(escape("NAME"))
-                    .append(", ")
-                    .append(escape("VALUE"))
-                    .append(") VALUES(?, ?, ?)");
+    private void insertIntoFieldTable(List<BibEntry> bibEntries) {
+        if (bibEntries.isEmpty()) {
+            return;
+        }
 
-                try (PreparedStatement preparedFieldStatement = connection.prepareStatement(insertFieldQuery.toString())) {
+        try (PreparedStatement preparedFieldStatement = connection.prepareStatement(getInsertFieldQuery())) {
+            for (BibEntry bibEntry : bibEntries) {
+                for (String fieldName : bibEntry.getFieldNames()) {
                     // columnIndex starts with 1
                     preparedFieldStatement.setInt(1, bibEntry.getSharedBibEntryData().getSharedID());
                     preparedFieldStatement.setString(2, fieldName);
                     preparedFieldStatement.setString(3, bibEntry.getField(fieldName).get());
-                    preparedFieldStatement.executeUpdate();
+                    preparedFieldStatement.addBatch();
                 }
             }
+            preparedFieldStatement.executeBatch();
         } catch (SQLException e) {
             LOGGER.error("SQL Error: ", e);
         }
@@ -241,153 +272,169 @@ public abstract class DBMSProcessor {
      * @throws SQLException
      */
     public void updateEntry(BibEntry localBibEntry) throws OfflineLockException, SQLException {
-        connection.setAutoCommit(false); // disable auto commit due to transaction
+        List<OfflineLockException> refusedUpdates = updateEntries(Collections.singletonList(localBibEntry));
+        if (!refusedUpdates.isEmpty()) {
+            throw refusedUpdates.get(0);
+        }
+    }
 
-        try {
-            Optional<BibEntry> sharedEntryOptional = getSharedEntry(localBibEntry.getSharedBibEntryData().getSharedID());
+    /**
+     * Updates the given {@link BibEntry} instances on shared database within one transaction.
+     * <p>
+     * The versions of all entries are checked with one query. Only fields which differ from the shared state are
+     * written; the resulting deletes, updates and inserts are sent as JDBC batches.
+     * Entries whose local version is outdated are not written (optimistic offline lock).
+     *
+     * @param localBibEntries {@link BibEntry} instances affected by changes
+     * @return one {@link OfflineLockException} for each entry which was refused due to an outdated version
+     */
+    public List<OfflineLockException> updateEntries(List<BibEntry> localBibEntries) throws SQLException {
+        List<OfflineLockException> refusedUpdates = new ArrayList<>();
 
-            if (!sharedEntryOptional.isPresent()) {
-                return;
-            }
+        List<Integer> sharedIDs = new ArrayList<>(localBibEntries.size());
+        for (BibEntry localBibEntry : localBibEntries) {
+            sharedIDs.add(localBibEntry.getSharedBibEntryData().getSharedID());
+        }
+        Map<Integer, BibEntry> sharedBibEntries = new HashMap<>();
+        for (BibEntry sharedBibEntry : getSharedEntries(sharedIDs)) {
+            sharedBibEntries.put(sharedBibEntry.getSharedBibEntryData().getSharedID(), sharedBibEntry);
+        }
 
-            BibEntry sharedBibEntry = sharedEntryOptional.get();
+        connection.setAutoCommit(false); // disable auto commit due to transaction
 
-            // remove shared fields which do not exist locally
-            removeSharedFieldsByDifference(localBibEntry, sharedBibEntry);
+        try (PreparedStatement preparedDeleteFieldStatement = connection.prepareStatement(getDeleteFieldQuery());
+             PreparedStatement preparedUpdateFieldStatement = connection.prepareStatement(getUpdateFieldQuery());
+             PreparedStatement preparedInsertFieldStatement = connection.prepareStatement(getInsertFieldQuery());
+             PreparedStatement preparedUpdateEntryTypeStatement = connection.prepareStatement(getUpdateEntryTypeQuery())) {
 
-            // update only if local version is higher or the entries are equal
-            if ((localBibEntry.getSharedBibEntryData().getVersion() >= sharedBibEntry.getSharedBibEntryData()
-                    .getVersion()) || localBibEntry.equals(sharedBibEntry)) {
+            for (BibEntry localBibEntry : localBibEntries) {
+                int sharedID = localBibEntry.getSharedBibEntryData().getSharedID();
+                BibEntry sharedBibEntry = sharedBibEntries.get(sharedID);
+                if (sharedBibEntry == null) {
+                    continue;
+                }
 
-                insertOrUpdateFields(localBibEntry);
+                // update only if local version is higher or the entries are equal
+                if ((localBibEntry.getSharedBibEntryData().getVersion() >= sharedBibEntry.getSharedBibEntryData()
+                        .getVersion()) || localBibEntry.equals(sharedBibEntry)) {
 
-                // updating entry type
-                StringBuilder updateEntryTypeQuery = new StringBuilder()
-                    .append("UPDATE ")
-                    .append(escape("ENTRY"))
-                    .append(" SET ")
-                    .append(escape("TYPE"))
-                    .append(" = ?, ")
-                    .append(escape("VERSION"))
-                    .append(" = ")
-                    .append(escape("VERSION"))
-                    .append(" + 1 WHERE ")
-                    .append(escape("SHARED_ID"))
-                    .append(" = ?");
+                    addFieldChangesToBatch(localBibEntry, sharedBibEntry, preparedDeleteFieldStatement,
+                            preparedUpdateFieldStatement, preparedInsertFieldStatement);
 
-                try (PreparedStatement preparedUpdateEntryTypeStatement = connection.prepareStatement(updateEntryTypeQuery.toString())) {
                     preparedUpdateEntryTypeStatement.setString(1, localBibEntry.getType());
-                    preparedUpdateEntryTypeStatement.setInt(2, localBibEntry.getSharedBibEntryData().getSharedID());
-                    preparedUpdateEntryTypeStatement.executeUpdate();
+                    preparedUpdateEntryTypeStatement.setInt(2, sharedID);
+                    preparedUpdateEntryTypeStatement.addBatch();
+                } else {
+                    refusedUpdates.add(new OfflineLockException(localBibEntry, sharedBibEntry));
                 }
+            }
 
-                connection.commit(); // apply all changes in current transaction
+            preparedDeleteFieldStatement.executeBatch();
+            preparedUpdateFieldStatement.executeBatch();
+            preparedInsertFieldStatement.executeBatch();
+            preparedUpdateEntryTypeStatement.executeBatch();
 
-            } else {
-                throw new OfflineLockException(localBibEntry, sharedBibEntry);
-            }
+            connection.commit(); // apply all changes in current transaction
         } catch (SQLException e) {
             LOGGER.error("SQL Error: ", e);
             connection.rollback(); // undo changes made in current transaction
         } finally {
             connection.setAutoCommit(true); // enable auto commit mode again
         }
+
+        return refusedUpdates;
     }
 
     /**
-     * Helping method. Removes shared fields which do not exist locally
+     * Helping method. Adds the differences between the local and the shared fields to the given batches:
+     * shared fields which do not exist locally are deleted, changed fields are updated and new fields are inserted.
      */
-    private void removeSharedFieldsByDifference(BibEntry localBibEntry, BibEntry sharedBibEntry) throws SQLException {
+    private void addFieldChangesToBatch(BibEntry localBibEntry, BibEntry sharedBibEntry,
+            PreparedStatement preparedDeleteFieldStatement, PreparedStatement preparedUpdateFieldStatement,
+            PreparedStatement preparedInsertFieldStatement) throws SQLException {
+        int sharedID = localBibEntry.getSharedBibEntryData().getSharedID();
+
         Set<String> nullFields = new HashSet<>(sharedBibEntry.getFieldNames());
         nullFields.removeAll(localBibEntry.getFieldNames());
         for (String nullField : nullFields) {
-            StringBuilder deleteFieldQuery = new StringBuilder()
+            preparedDeleteFieldStatement.setString(1, nullField);
+            preparedDeleteFieldStatement.setInt(2, sharedID);
+            preparedDeleteFieldStatement.addBatch();
+        }
+
+        for (String fieldName : localBibEntry.getFieldNames()) {
+            // null values are accepted by PreparedStatement!
+            String value = localBibEntry.getField(fieldName).orElse(null);
+            Optional<String> sharedValue = sharedBibEntry.getField(fieldName);
+
+            if (!sharedBibEntry.hasField(fieldName)) {
+                preparedInsertFieldStatement.setInt(1, sharedID);
+                preparedInsertFieldStatement.setString(2, fieldName);
+                preparedInsertFieldStatement.setString(3, value);
+                preparedInsertFieldStatement.addBatch();
+            } else if (!sharedValue.equals(Optional.ofNullable(value))) {
+                preparedUpdateFieldStatement.setString(1, value);
+                preparedUpdateFieldStatement.setString(2, fieldName);
+                preparedUpdateFieldStatement.setInt(3, sharedID);
+                preparedUpdateFieldStatement.addBatch();
+            }
+        }
+    }
+
+    private String getInsertFieldQuery() {
+        return new StringBuilder()
+                .append("INSERT INTO ")
+                .append(escape("FIELD"))
+                .append("(")
+                .append(escape("ENTRY_SHARED_ID"))
+                .append(", ")
+                .append(escape("NAME"))
+                .append(", ")
+                .append(escape("VALUE"))
+                .append(") VALUES(?, ?, ?)")
+                .toString();
+    }
+
+    private String getUpdateFieldQuery() {
+        return new StringBuilder()
+                .append("UPDATE ")
+                .append(escape("FIELD"))
+                .append(" SET ")
+                .append(escape("VALUE"))
+                .append(" = ? WHERE ")
+                .append(escape("NAME"))
+                .append(" = ? AND ")
+                .append(escape("ENTRY_SHARED_ID"))
+                .append(" = ?")
+                .toString();
+    }
+
+    private String getDeleteFieldQuery() {
+        return new StringBuilder()
                 .append("DELETE FROM ")
                 .append(escape("FIELD"))
                 .append(" WHERE ")
                 .append(escape("NAME"))
                 .append(" = ? AND ")
                 .append(escape("ENTRY_SHARED_ID"))
-                .append(" = ?");
-
-            try (PreparedStatement preparedDeleteFieldStatement = connection
-                    .prepareStatement(deleteFieldQuery.toString())) {
-                preparedDeleteFieldStatement.setString(1, nullField);
-                preparedDeleteFieldStatement.setInt(2, localBibEntry.getSharedBibEntryData().getSharedID());
-                preparedDeleteFieldStatement.executeUpdate();
-            }
-        }
+                .append(" = ?")
+                .toString();
     }
 
-    /**
-     * Helping method. Inserts a key-value pair into FIELD table for every field if not existing. Otherwise only an update is performed.
-     */
-    private void insertOrUpdateFields(BibEntry localBibEntry) throws SQLException {
-        for (String fieldName : localBibEntry.getFieldNames()) {
-            // avoiding to use deprecated BibEntry.getField() method. null values are accepted by PreparedStatement!
-            Optional<String> valueOptional = localBibEntry.getField(fieldName);
-            String value = null;
-            if (valueOptional.isPresent()) {
-                value = valueOptional.get();
-            }
-
-            StringBuilder selectFieldQuery = new StringBuilder()
-                    .append("SELECT * FROM ")
-                    .append(escape("FIELD"))
-                    .append(" WHERE ")
-                    .append(escape("NAME"))
-                    .append(" = ? AND ")
-                    .append(escape("ENTRY_SHARED_ID"))
-                    .append(" = ?");
-
-            try (PreparedStatement preparedSelectFieldStatement = connection
-                    .prepareStatement(selectFieldQuery.toString())) {
-                preparedSelectFieldStatement.setString(1, fieldName);
-                preparedSelectFieldStatement.setInt(2, localBibEntry.getSharedBibEntryData().getSharedID());
-
-                try (ResultSet selectFieldResultSet = preparedSelectFieldStatement.executeQuery()) {
-                    if (selectFieldResultSet.next()) { // check if field already exists
-                        StringBuilder updateFieldQuery = new StringBuilder()
-                                .append("UPDATE ")
-                                .append(escape("FIELD"))
-                                .append(" SET ")
-                                .append(escape("VALUE"))
-                                .append(" = ? WHERE ")
-                                .append(escape("NAME"))
-                                .append(" = ? AND ")
-                                .append(escape("ENTRY_SHARED_ID"))
-                                .append(" = ?");
-
-                        try (PreparedStatement preparedUpdateFieldStatement = connection
-                                .prepareStatement(updateFieldQuery.toString())) {
-                            preparedUpdateFieldStatement.setString(1, value);
-                            preparedUpdateFieldStatement.setString(2, fieldName);
-                            preparedUpdateFieldStatement.setInt(3, localBibEntry.getSharedBibEntryData().getSharedID());
-                            preparedUpdateFieldStatement.executeUpdate();
-                        }
-                    } else {
-                        StringBuilder insertFieldQuery = new StringBuilder()
-                                .append("INSERT INTO ")
-                                .append(escape("FIELD"))
-                                .append("(")
-                                .append(escape("ENTRY_SHARED_ID"))
-                                .append(", ")
-                                .append(escape("NAME"))
-                                .append(", ")
-                                .append(escape("VALUE"))
-                                .append(") VALUES(?, ?, ?)");
-
-                        try (PreparedStatement preparedFieldStatement = connection
-                                .prepareStatement(insertFieldQuery.toString())) {
-                            preparedFieldStatement.setInt(1, localBibEntry.getSharedBibEntryData().getSharedID());
-                            preparedFieldStatement.setString(2, fieldName);
-                            preparedFieldStatement.setString(3, value);
-                            preparedFieldStatement.executeUpdate();
-                        }
-                    }
-                }
-            }
-        }
+    private String getUpdateEntryTypeQuery() {
+        return new StringBuilder()
+                .append("UPDATE ")
+                .append(escape("ENTRY"))
+                .append(" SET ")
+                .append(escape("TYPE"))
+                .append(" = ?, ")
+                .append(escape("VERSION"))
+                .append(" = ")
+                .append(escape("VERSION"))
+                .append(" + 1 WHERE ")
+                .append(escape("SHARED_ID"))
+                .append(" = ?")
+                .toString();
     }
 
     /**
@@ -417,7 +464,7 @@ public abstract class DBMSProcessor {
      * @return instance of {@link BibEntry}
      */
     public Optional<BibEntry> getSharedEntry(int sharedID) {
-        List<BibEntry> sharedEntries = getSharedEntryList(sharedID);
+        List<BibEntry> sharedEntries = getSharedEntryList(Collections.singletonList(sharedID));
         if (!sharedEntries.isEmpty()) {
             return Optional.of(sharedEntries.get(0));
         }
@@ -425,55 +472,103 @@ public abstract class DBMSProcessor {
     }
 
     public List<BibEntry> getSharedEntries() {
-        return getSharedEntryList(0);
+        return getSharedEntryList(Collections.emptyList());
     }
 
     /**
-     * @param sharedID Entry ID. If 0, all entries are going to be fetched.
+     * Fetches all entries with the given shared IDs. The entries are fetched in batches of
+     * {@link #MAX_IN_CLAUSE_SIZE} IDs, each using a single query.
+     *
+     * @param sharedIDs Entry IDs
+     * @return List of {@link BibEntry} instances ordered by their shared ID
+     */
+    public List<BibEntry> getSharedEntries(Collection<Integer> sharedIDs) {
+        List<Integer> sortedSharedIDs = new ArrayList<>(sharedIDs);
+        Collections.sort(sortedSharedIDs);
+
+        List<BibEntry> sharedEntries = new ArrayList<>(sortedSharedIDs.size());
+        for (int start = 0; start < sortedSharedIDs.size(); start += MAX_IN_CLAUSE_SIZE) {
+            int end = Math.min(sortedSharedIDs.size(), start + MAX_IN_CLAUSE_SIZE);
+            sharedEntries.addAll(getSharedEntryList(sortedSharedIDs.subList(start, end)));
+        }
+        return sharedEntries;
+    }
+
+    /**
+     * Sets the number of rows which should be fetched from the DBMS at once while loading entries.
+     * This is only a hint for the JDBC driver.
+     */
+    public void setFetchSize(int fetchSize) {
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * Fetches entries together with their fields using one joined query. The rows are ordered by the shared ID,
+     * so every entry is built completely before the rows of the next entry are read.
+     *
+     * @param sharedIDs Entry IDs. If empty, all entries are going to be fetched.
      * @return List of {@link BibEntry} instances
      */
-    private List<BibEntry> getSharedEntryList(int sharedID) {
+    private List<BibEntry> getSharedEntryList(List<Integer> sharedIDs) {
         List<BibEntry> sharedEntries = new ArrayList<>();
 
-        StringBuilder selectEntryQuery = new StringBuilder();
-        selectEntryQuery.append("SELECT * FROM ");
-        selectEntryQuery.append(escape("ENTRY"));
+        StringBuilder selectEntryQuery = new StringBuilder()
+                .append("SELECT E.")
+                .append(escape("SHARED_ID"))
+                .append(", E.")
+                .append(escape("TYPE"))
+                .append(", E.")
+                .append(escape("VERSION"))
+                .append(", F.")
+                .append(escape("NAME"))
+                .append(", F.")
+                .append(escape("VALUE"))
+                .append(" FROM ")
+                .append(escape("ENTRY"))
+                .append(" E LEFT OUTER JOIN ")
+                .append(escape("FIELD"))
+                .append(" F ON E.")
+                .append(escape("SHARED_ID"))
+                .append(" = F.")
+                .append(escape("ENTRY_SHARED_ID"));
 
-        if (sharedID != 0) {
-            selectEntryQuery.append(" WHERE ");
-            selectEntryQuery.append(escape("SHARED_ID"));
-            selectEntryQuery.append(" = ");
-            selectEntryQuery.append(sharedID);
+        if (!sharedIDs.isEmpty()) {
+            selectEntryQuery.append(" WHERE E.")
+                    .append(escape("SHARED_ID"))
+                    .append(" IN (")
+                    .append(String.join(", ", Collections.nCopies(sharedIDs.size(), "?")))
+                    .append(")");
         }
 
-        selectEntryQuery.append(" ORDER BY ");
+        selectEntryQuery.append(" ORDER BY E.");
         selectEntryQuery.append(escape("SHARED_ID"));
 
-        try (ResultSet selectEntryResultSet = connection.createStatement().executeQuery(selectEntryQuery.toString())) {
-            while (selectEntryResultSet.next()) {
-                BibEntry bibEntry = new BibEntry();
-                // setting the base attributes once
-                bibEntry.getSharedBibEntryData().setSharedID(selectEntryResultSet.getInt("SHARED_ID"));
-                bibEntry.setType(selectEntryResultSet.getString("TYPE"));
-                bibEntry.getSharedBibEntryData().setVersion(selectEntryResultSet.getInt("VERSION"));
-
-                StringBuilder selectFieldQuery = new StringBuilder()
-                    .append("SELECT * FROM ")
-                    .append(escape("FIELD"))
-                    .append(" WHERE ")
-                    .append(escape("ENTRY_SHARED_ID"))
-                    .append(" = ?");
+        try (PreparedStatement preparedSelectStatement = connection.prepareStatement(selectEntryQuery.toString())) {
+            for (int i = 0; i < sharedIDs.size(); i++) {
+                preparedSelectStatement.setInt(i + 1, sharedIDs.get(i));
+            }
+            preparedSelectStatement.setFetchSize(fetchSize);
+
+            try (ResultSet selectEntryResultSet = preparedSelectStatement.executeQuery()) {
+                BibEntry bibEntry = null;
+                while (selectEntryResultSet.next()) {
+                    int sharedID = selectEntryResultSet.getInt(1);
+                    if ((bibEntry == null) || (bibEntry.getSharedBibEntryData().getSharedID() != sharedID)) {
+                        bibEntry = new BibEntry();
+                        // setting the base attributes once
+                        bibEntry.getSharedBibEntryData().setSharedID(sharedID);
+                        bibEntry.setType(selectEntryResultSet.getString(2));
+                        bibEntry.getSharedBibEntryData().setVersion(selectEntryResultSet.getInt(3));
+                        sharedEntries.add(bibEntry);
+                    }
 
-                try (PreparedStatement preparedSelectFieldStatement = connection.prepareStatement(selectFieldQuery.toString())) {
-                    preparedSelectFieldStatement.setInt(1, selectEntryResultSet.getInt("SHARED_ID"));
-                    try (ResultSet selectFieldResultSet = preparedSelectFieldStatement.executeQuery()) {
-                        while (selectFieldResultSet.next()) {
-                            bibEntry.setField(selectFieldResultSet.getString("NAME"),
-                                    Optional.ofNullable(selectFieldResultSet.getString("VALUE")), EntryEventSource.SHARED);
-                        }
+                    // entries without any field result in one row with NAME being null
+                    String fieldName = selectEntryResultSet.getString(4);
+                    if (fieldName != null) {
+                        bibEntry.setField(fieldName, Optional.ofNullable(selectEntryResultSet.getString(5)),
+                                EntryEventSource.SHARED);
                     }
                 }
-                sharedEntries.add(bibEntry);
             }
         } catch (SQLException e) {
             LOGGER.error("SQL Error", e);
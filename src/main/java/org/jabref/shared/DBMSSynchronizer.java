@@ -2,12 +2,17 @@ package org.jabref.shared;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.Set;
+import java.util.TimerTask;
+import java.util.concurrent.Executor;
 
+import org.jabref.JabRefExecutorService;
 import org.jabref.logic.exporter.BibDatabaseWriter;
 import org.jabref.logic.exporter.MetaDataSerializer;
 import org.jabref.logic.importer.ParseException;
@@ -24,6 +29,7 @@ import org.jabref.model.entry.event.FieldChangedEvent;
 import org.jabref.model.metadata.MetaData;
 import org.jabref.model.metadata.event.MetaDataChangedEvent;
 import org.jabref.shared.event.ConnectionLostEvent;
+import org.jabref.shared.event.LocalDatabaseSynchronizedEvent;
 import org.jabref.shared.event.SharedEntryNotPresentEvent;
 import org.jabref.shared.event.UpdateRefusedEvent;
 import org.jabref.shared.exception.DatabaseNotSupportedException;
@@ -41,6 +47,11 @@ import org.apache.commons.logging.LogFactory;
  */
 public class DBMSSynchronizer {
 
+    /**
+     * Default time window (in milliseconds) in which local field changes are collected before being pushed
+     */
+    public static final long DEFAULT_SYNCHRONIZATION_DELAY = 200;
+
     private static final Log LOGGER = LogFactory.getLog(DBMSSynchronizer.class);
 
     private DBMSProcessor dbmsProcessor;
@@ -53,6 +64,11 @@ public class DBMSSynchronizer {
     private Connection currentConnection;
     private final Character keywordSeparator;
     private GlobalBibtexKeyPattern globalCiteKeyPattern;
+    // entries changed locally which still have to be pushed, identified by their internal id
+    private final Map<String, BibEntry> pendingSharedEntries = new LinkedHashMap<>();
+    private long synchronizationDelay;
+    private TimerTask synchronizationTask;
+    private Executor synchronizationExecutor = JabRefExecutorService.INSTANCE;
 
     public DBMSSynchronizer(BibDatabaseContext bibDatabaseContext, Character keywordSeparator,
             GlobalBibtexKeyPattern globalCiteKeyPattern) {
@@ -90,6 +106,10 @@ public class DBMSSynchronizer {
         // While synchronizing the local database (see synchronizeLocalDatabase() below), some EntryEvents may be posted.
         // In this case DBSynchronizer should not try to update the bibEntry entry again (but it would not harm).
         if (isPresentLocalBibEntry(event.getBibEntry()) && isEventSourceAccepted(event) && checkCurrentConnection()) {
+            if (synchronizationDelay > 0) {
+                schedulePendingSharedEntry(event.getBibEntry());
+                return;
+            }
             synchronizeLocalMetaData();
             BibEntry bibEntry = event.getBibEntry();
             synchronizeSharedEntry(bibEntry);
@@ -97,6 +117,44 @@ public class DBMSSynchronizer {
         }
     }
 
+    /**
+     * Collects the changed entry. All entries collected within the synchronization delay are pushed together.
+     */
+    private synchronized void schedulePendingSharedEntry(BibEntry bibEntry) {
+        boolean isSynchronizationScheduled = !pendingSharedEntries.isEmpty();
+        pendingSharedEntries.put(bibEntry.getId(), bibEntry);
+        if (!isSynchronizationScheduled) {
+            synchronizationTask = new TimerTask() {
+
+                @Override
+                public void run() {
+                    // the timer thread only hands the entries over, so that they are pushed where other changes are
+                    synchronizationExecutor.execute(DBMSSynchronizer.this::synchronizePendingSharedEntries);
+                }
+            };
+            JabRefExecutorService.INSTANCE.submit(synchronizationTask, synchronizationDelay);
+        }
+    }
+
+    /**
+     * Pushes all locally changed entries which have been collected so far in one batch and pulls the changes
+     * of the shared database afterwards.
+     */
+    public void synchronizePendingSharedEntries() {
+        List<BibEntry> bibEntries;
+        synchronized (this) {
+            bibEntries = new ArrayList<>(pendingSharedEntries.values());
+            pendingSharedEntries.clear();
+        }
+        if (bibEntries.isEmpty() || !checkCurrentConnection()) {
+            return;
+        }
+
+        synchronizeLocalMetaData();
+        synchronizeSharedEntries(bibEntries);
+        synchronizeLocalDatabase(); // Pull changes for the case that there were some
+    }
+
     /**
      * Listening method. Deletes the given {@link BibEntry} from shared database.
      *
@@ -162,53 +220,68 @@ public class DBMSSynchronizer {
     /**
      * Synchronizes the local database with shared one.
      * Possible update types are removal, update or insert of a {@link BibEntry}.
+     * <p>
+     * The difference is computed in linear time using an index of the local entries by their shared ID.
+     * All new or outdated entries are then fetched in one batch.
      */
     public void synchronizeLocalDatabase() {
         if (!checkCurrentConnection()) {
             return;
         }
 
-        List<BibEntry> localEntries = bibDatabase.getEntries();
+        long startTime = System.currentTimeMillis();
+
         Map<Integer, Integer> idVersionMap = dbmsProcessor.getSharedIDVersionMapping();
 
         // remove old entries locally
-        removeNotSharedEntries(localEntries, idVersionMap.keySet());
+        int removedEntryCount = removeNotSharedEntries(bibDatabase.getEntries(), idVersionMap.keySet());
+
+        Map<Integer, BibEntry> localEntriesBySharedID = new HashMap<>();
+        for (BibEntry localEntry : bibDatabase.getEntries()) {
+            localEntriesBySharedID.put(localEntry.getSharedBibEntryData().getSharedID(), localEntry);
+        }
 
-        // compare versions and update local entry if needed
+        // compare versions and collect entries which are new or have to be updated
+        List<Integer> sharedIDsToFetch = new ArrayList<>();
         for (Map.Entry<Integer, Integer> idVersionEntry : idVersionMap.entrySet()) {
-            boolean match = false;
-            for (BibEntry localEntry : localEntries) {
-                if (idVersionEntry.getKey() == localEntry.getSharedBibEntryData().getSharedID()) {
-                    match = true;
-                    if (idVersionEntry.getValue() > localEntry.getSharedBibEntryData().getVersion()) {
-                        Optional<BibEntry> sharedEntry = dbmsProcessor.getSharedEntry(idVersionEntry.getKey());
-                        if (sharedEntry.isPresent()) {
-                            // update fields
-                            localEntry.setType(sharedEntry.get().getType(), EntryEventSource.SHARED);
-                            localEntry.getSharedBibEntryData()
-                                    .setVersion(sharedEntry.get().getSharedBibEntryData().getVersion());
-                            for (String field : sharedEntry.get().getFieldNames()) {
-                                localEntry.setField(field, sharedEntry.get().getField(field), EntryEventSource.SHARED);
-                            }
-
-                            Set<String> redundantLocalEntryFields = localEntry.getFieldNames();
-                            redundantLocalEntryFields.removeAll(sharedEntry.get().getFieldNames());
-
-                            // remove not existing fields
-                            for (String redundantField : redundantLocalEntryFields) {
-                                localEntry.clearField(redundantField, EntryEventSource.SHARED);
-                            }
-                        }
-                    }
-                }
+            BibEntry localEntry = localEntriesBySharedID.get(idVersionEntry.getKey());
+            if ((localEntry == null) || (idVersionEntry.getValue() > localEntry.getSharedBibEntryData().getVersion())) {
+                sharedIDsToFetch.add(idVersionEntry.getKey());
             }
-            if (!match) {
-                Optional<BibEntry> bibEntry = dbmsProcessor.getSharedEntry(idVersionEntry.getKey());
-                if (bibEntry.isPresent()) {
-                    bibDatabase.insertEntry(bibEntry.get(), EntryEventSource.SHARED);
-                }
+        }
+
+        int insertedEntryCount = 0;
+        int updatedEntryCount = 0;
+        for (BibEntry sharedEntry : dbmsProcessor.getSharedEntries(sharedIDsToFetch)) {
+            BibEntry localEntry = localEntriesBySharedID.get(sharedEntry.getSharedBibEntryData().getSharedID());
+            if (localEntry == null) {
+                bibDatabase.insertEntry(sharedEntry, EntryEventSource.SHARED);
+                insertedEntryCount++;
+            } else {
+                updateLocalEntry(localEntry, sharedEntry);
+                updatedEntryCount++;
             }
         }
+
+        eventBus.post(new LocalDatabaseSynchronizedEvent(bibDatabaseContext, System.currentTimeMillis() - startTime,
+                idVersionMap.size(), insertedEntryCount, updatedEntryCount, removedEntryCount));
+    }
+
+    private void updateLocalEntry(BibEntry localEntry, BibEntry sharedEntry) {
+        // update fields
+        localEntry.setType(sharedEntry.getType(), EntryEventSource.SHARED);
+        localEntry.getSharedBibEntryData().setVersion(sharedEntry.getSharedBibEntryData().getVersion());
+        for (String field : sharedEntry.getFieldNames()) {
+            localEntry.setField(field, sharedEntry.getField(field), EntryEventSource.SHARED);
+        }
+
+        Set<String> redundantLocalEntryFields = localEntry.getFieldNames();
+        redundantLocalEntryFields.removeAll(sharedEntry.getFieldNames());
+
+        // remove not existing fields
+        for (String redundantField : redundantLocalEntryFields) {
+            localEntry.clearField(redundantField, EntryEventSource.SHARED);
+        }
     }
 
     /**
@@ -216,23 +289,21 @@ public class DBMSSynchronizer {
      *
      * @param localEntries List of {@link BibEntry} the entries should be removed from
      * @param sharedIDs Set of all IDs which are present on shared database
+     * @return the number of removed entries
      */
-    private void removeNotSharedEntries(List<BibEntry> localEntries, Set<Integer> sharedIDs) {
-        for (int i = 0; i < localEntries.size(); i++) {
-            BibEntry localEntry = localEntries.get(i);
-            boolean match = false;
-            for (int sharedID : sharedIDs) {
-                if (localEntry.getSharedBibEntryData().getSharedID() == sharedID) {
-                    match = true;
-                    break;
-                }
-            }
-            if (!match) {
-                eventBus.post(new SharedEntryNotPresentEvent(localEntry));
-                bibDatabase.removeEntry(localEntry, EntryEventSource.SHARED); // Should not reach the listeners above.
-                i--; // due to index shift on localEntries
+    private int removeNotSharedEntries(List<BibEntry> localEntries, Set<Integer> sharedIDs) {
+        List<BibEntry> notSharedEntries = new ArrayList<>();
+        for (BibEntry localEntry : localEntries) {
+            if (!sharedIDs.contains(localEntry.getSharedBibEntryData().getSharedID())) {
+                notSharedEntries.add(localEntry);
             }
         }
+
+        for (BibEntry notSharedEntry : notSharedEntries) {
+            eventBus.post(new SharedEntryNotPresentEvent(notSharedEntry));
+        }
+        bibDatabase.removeEntries(notSharedEntries, EntryEventSource.SHARED); // Should not reach the listeners above.
+        return notSharedEntries.size();
     }
 
     /**
@@ -252,6 +323,25 @@ public class DBMSSynchronizer {
         }
     }
 
+    /**
+     * Synchronizes the given shared {@link BibEntry} instances with the local ones in one transaction.
+     */
+    public void synchronizeSharedEntries(List<BibEntry> bibEntries) {
+        if (!checkCurrentConnection()) {
+            return;
+        }
+        try {
+            for (BibEntry bibEntry : bibEntries) {
+                BibDatabaseWriter.applySaveActions(bibEntry, metaData); // perform possibly existing save actions
+            }
+            for (OfflineLockException exception : dbmsProcessor.updateEntries(bibEntries)) {
+                eventBus.post(new UpdateRefusedEvent(bibDatabaseContext, exception.getLocalBibEntry(), exception.getSharedBibEntry()));
+            }
+        } catch (SQLException e) {
+            LOGGER.error("SQL Error: ", e);
+        }
+    }
+
     /**
      * Synchronizes all meta data locally.
      */
@@ -359,6 +449,13 @@ public class DBMSSynchronizer {
     }
 
     public void closeSharedDatabase() {
+        synchronizePendingSharedEntries();
+        synchronized (this) {
+            if (synchronizationTask != null) {
+                synchronizationTask.cancel();
+                synchronizationTask = null;
+            }
+        }
         try {
             dbmsProcessor.stopNotificationListener();
             currentConnection.close();
@@ -383,6 +480,22 @@ public class DBMSSynchronizer {
         return dbmsProcessor;
     }
 
+    /**
+     * Sets the time window (in milliseconds) in which local field changes are collected and then pushed to the
+     * shared database in one batch. A value of 0 pushes every change immediately.
+     */
+    public void setSynchronizationDelay(long synchronizationDelay) {
+        this.synchronizationDelay = synchronizationDelay;
+    }
+
+    /**
+     * Sets the executor which pushes the collected changes after the synchronization delay. As the local entries are
+     * updated with the changes pulled afterwards, the GUI runs it on the event dispatch thread.
+     */
+    public void setSynchronizationExecutor(Executor synchronizationExecutor) {
+        this.synchronizationExecutor = Objects.requireNonNull(synchronizationExecutor);
+    }
+
     public void setMetaData(MetaData metaData) {
         this.metaData = metaData;
     }
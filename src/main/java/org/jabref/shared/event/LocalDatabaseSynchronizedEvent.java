@@ -0,0 +1,59 @@
+package org.jabref.shared.event;
+
+import org.jabref.model.database.BibDatabaseContext;
+
+/**
+ * A new {@link LocalDatabaseSynchronizedEvent} is fired, when the local database has been synchronized with the
+ * shared one. It carries the duration and the number of affected entries, e.g. for logging or profiling purposes.
+ */
+public class LocalDatabaseSynchronizedEvent {
+
+    private final BibDatabaseContext bibDatabaseContext;
+    private final long durationInMillis;
+    private final int sharedEntryCount;
+    private final int insertedEntryCount;
+    private final int updatedEntryCount;
+    private final int removedEntryCount;
+
+    /**
+     * @param bibDatabaseContext Affected {@link BibDatabaseContext}
+     * @param durationInMillis Time needed for the synchronization
+     * @param sharedEntryCount Number of entries present on the shared database
+     * @param insertedEntryCount Number of entries inserted locally
+     * @param updatedEntryCount Number of entries updated locally
+     * @param removedEntryCount Number of entries removed locally
+     */
+    public LocalDatabaseSynchronizedEvent(BibDatabaseContext bibDatabaseContext, long durationInMillis,
+            int sharedEntryCount, int insertedEntryCount, int updatedEntryCount, int removedEntryCount) {
+        this.bibDatabaseContext = bibDatabaseContext;
+        this.durationInMillis = durationInMillis;
+        this.sharedEntryCount = sharedEntryCount;
+        this.insertedEntryCount = insertedEntryCount;
+        this.updatedEntryCount = updatedEntryCount;
+        this.removedEntryCount = removedEntryCount;
+    }
+
+    public BibDatabaseContext getBibDatabaseContext() {
+        return this.bibDatabaseContext;
+    }
+
+    public long getDurationInMillis() {
+        return durationInMillis;
+    }
+
+    public int getSharedEntryCount() {
+        return sharedEntryCount;
+    }
+
+    public int getInsertedEntryCount() {
+        return insertedEntryCount;
+    }
+
+    public int getUpdatedEntryCount() {
+        return updatedEntryCount;
+    }
+
+    public int getRemovedEntryCount() {
+        return removedEntryCount;
+    }
+}
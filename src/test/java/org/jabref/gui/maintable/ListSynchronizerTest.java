@@ -0,0 +1,127 @@
+package org.jabref.gui.maintable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.jabref.model.database.event.EntryAddedEvent;
+import org.jabref.model.database.event.EntryRemovedEvent;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.EntryChangedEvent;
+
+import ca.odell.glazedlists.BasicEventList;
+import ca.odell.glazedlists.EventList;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class ListSynchronizerTest {
+
+    private EventList<BibEntry> list;
+    private ListSynchronizer synchronizer;
+    private BibEntry first;
+    private BibEntry second;
+
+    @Before
+    public void setUp() {
+        first = new BibEntry().withField("title", "Same title");
+        second = new BibEntry().withField("title", "Same title");
+        list = new BasicEventList<>();
+        list.addAll(Arrays.asList(first, second));
+        synchronizer = new ListSynchronizer(list);
+    }
+
+    @Test
+    public void removeRemovesIdenticalEntryAndNotEqualOne() {
+        synchronizer.listen(new EntryRemovedEvent(second));
+
+        assertEquals(1, list.size());
+        assertSame(first, list.get(0));
+    }
+
+    @Test
+    public void changeReplacesIdenticalEntry() {
+        List<BibEntry> updated = new ArrayList<>();
+        list.addListEventListener(listChanges -> {
+            while (listChanges.next()) {
+                updated.add(listChanges.getSourceList().get(listChanges.getIndex()));
+            }
+        });
+
+        synchronizer.listen(new EntryChangedEvent(second));
+
+        assertEquals(1, updated.size());
+        assertSame(second, updated.get(0));
+    }
+
+    @Test
+    public void positionsStayCorrectAfterManyAdditionsAndRemovals() {
+        List<BibEntry> added = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            BibEntry entry = new BibEntry().withField("title", "Title " + i);
+            added.add(entry);
+            synchronizer.listen(new EntryAddedEvent(entry));
+        }
+        for (int i = 0; i < 100; i += 2) {
+            synchronizer.listen(new EntryRemovedEvent(added.get(i)));
+        }
+        synchronizer.listen(new EntryRemovedEvent(first));
+
+        List<BibEntry> expected = new ArrayList<>();
+        expected.add(second);
+        for (int i = 1; i < 100; i += 2) {
+            expected.add(added.get(i));
+        }
+        assertEquals(expected.size(), list.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertSame(expected.get(i), list.get(i));
+        }
+    }
+
+    @Test
+    public void batchAppliesChangesAfterAction() {
+        BibEntry third = new BibEntry().withField("title", "Third");
+
+        synchronizer.runBatched(() -> {
+            synchronizer.listen(new EntryAddedEvent(third));
+            synchronizer.listen(new EntryRemovedEvent(first));
+            assertEquals(2, list.size());
+            assertSame(first, list.get(0));
+        });
+
+        assertEquals(2, list.size());
+        assertSame(second, list.get(0));
+        assertSame(third, list.get(1));
+    }
+
+    @Test
+    public void batchUpdatesChangedEntryOnlyOnce() {
+        List<Integer> updatedIndexes = new ArrayList<>();
+        list.addListEventListener(listChanges -> {
+            while (listChanges.next()) {
+                updatedIndexes.add(listChanges.getIndex());
+            }
+        });
+
+        synchronizer.runBatched(() -> {
+            synchronizer.listen(new EntryChangedEvent(second));
+            synchronizer.listen(new EntryChangedEvent(second));
+        });
+
+        assertEquals(Collections.singletonList(1), updatedIndexes);
+    }
+
+    @Test
+    public void changeOfRemovedEntryInBatchIsIgnored() {
+        synchronizer.runBatched(() -> {
+            synchronizer.listen(new EntryRemovedEvent(first));
+            synchronizer.listen(new EntryChangedEvent(first));
+        });
+
+        assertEquals(1, list.size());
+        assertSame(second, list.get(0));
+    }
+}
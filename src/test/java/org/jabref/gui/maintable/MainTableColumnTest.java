@@ -0,0 +1,62 @@
+package org.jabref.gui.maintable;
+
+import java.util.Collections;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class MainTableColumnTest {
+
+    private MainTableRenderStatistics statistics;
+    private MainTableColumn column;
+    private BibEntry entry;
+
+    @Before
+    public void setUp() {
+        statistics = new MainTableRenderStatistics();
+        column = new MainTableColumn("title", Collections.singletonList("title"), new BibDatabase(), statistics);
+        entry = new BibEntry().withField("title", "Na\\\"{i}ve");
+    }
+
+    @Test
+    public void columnValueIsConvertedToUnicode() {
+        assertEquals("Naïve", column.getColumnValue(entry));
+    }
+
+    @Test
+    public void repeatedColumnValueIsTakenFromCache() {
+        column.getColumnValue(entry);
+        column.getColumnValue(entry);
+
+        assertEquals(0.5, statistics.getCacheHitRate(), 0.0);
+    }
+
+    @Test
+    public void changedFieldIsFormattedAgain() {
+        column.getColumnValue(entry);
+
+        entry.setField("title", "Na\\\"{i}f");
+
+        assertEquals("Naïf", column.getColumnValue(entry));
+    }
+
+    @Test
+    public void invalidatedEntryIsFormattedAgain() {
+        column.getColumnValue(entry);
+        column.invalidate(entry, "title");
+        column.getColumnValue(entry);
+
+        assertEquals(0.0, statistics.getCacheHitRate(), 0.0);
+    }
+
+    @Test
+    public void missingFieldHasNoValue() {
+        assertNull(column.getColumnValue(new BibEntry()));
+    }
+}
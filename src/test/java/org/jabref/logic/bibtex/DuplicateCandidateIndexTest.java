@@ -0,0 +1,126 @@
+package org.jabref.logic.bibtex;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibtexEntryTypes;
+import org.jabref.model.entry.FieldName;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class DuplicateCandidateIndexTest {
+
+    private BibEntry simpleArticle;
+    private BibEntry unrelatedArticle;
+
+    @Before
+    public void setUp() {
+        simpleArticle = new BibEntry(BibtexEntryTypes.ARTICLE.getName())
+                .withField(FieldName.AUTHOR, "Single Author")
+                .withField(FieldName.TITLE, "A serious paper about something")
+                .withField(FieldName.YEAR, "2017");
+        unrelatedArticle = new BibEntry(BibtexEntryTypes.ARTICLE.getName())
+                .withField(FieldName.AUTHOR, "Completely Different")
+                .withField(FieldName.TITLE, "Holy Moly Uffdada und Trallalla")
+                .withField(FieldName.YEAR, "1992");
+    }
+
+    @Test
+    public void unrelatedEntryIsNoCandidate() {
+        DuplicateCandidateIndex index = new DuplicateCandidateIndex(Arrays.asList(simpleArticle, unrelatedArticle));
+
+        assertEquals(Collections.emptyList(), index.getCandidates(simpleArticle));
+    }
+
+    @Test
+    public void entryWithSameIdentifierIsCandidate() {
+        simpleArticle.setField(FieldName.DOI, "10.1000/182");
+        BibEntry book = new BibEntry(BibtexEntryTypes.BOOK.getName()).withField(FieldName.DOI, "10.1000/182");
+        DuplicateCandidateIndex index = new DuplicateCandidateIndex(Arrays.asList(simpleArticle, unrelatedArticle));
+
+        assertEquals(Collections.singletonList(simpleArticle), index.getCandidates(book));
+    }
+
+    @Test
+    public void entryWithSameFirstAuthorAndYearIsCandidate() {
+        BibEntry other = new BibEntry(BibtexEntryTypes.ARTICLE.getName())
+                .withField(FieldName.AUTHOR, "Author, S. and Someone Else")
+                .withField(FieldName.TITLE, "Completely different title")
+                .withField(FieldName.YEAR, "2017");
+        DuplicateCandidateIndex index = new DuplicateCandidateIndex(Arrays.asList(simpleArticle, unrelatedArticle));
+
+        assertEquals(Collections.singletonList(simpleArticle), index.getCandidates(other));
+    }
+
+    @Test
+    public void entryWithSimilarTitleIsCandidate() {
+        BibEntry other = new BibEntry(BibtexEntryTypes.ARTICLE.getName())
+                .withField(FieldName.AUTHOR, "Someone Else")
+                .withField(FieldName.TITLE, "A {S}erious paper about something else");
+        DuplicateCandidateIndex index = new DuplicateCandidateIndex(Arrays.asList(simpleArticle, unrelatedArticle));
+
+        assertEquals(Collections.singletonList(simpleArticle), index.getCandidates(other));
+    }
+
+    @Test
+    public void entryOfOtherTypeWithSimilarTitleIsNoCandidate() {
+        BibEntry other = new BibEntry(BibtexEntryTypes.BOOK.getName())
+                .withField(FieldName.TITLE, "A serious paper about something");
+        DuplicateCandidateIndex index = new DuplicateCandidateIndex(Arrays.asList(simpleArticle, unrelatedArticle));
+
+        assertEquals(Collections.emptyList(), index.getCandidates(other));
+    }
+
+    @Test
+    public void findDuplicatesReportsEachPairOnce() {
+        BibEntry copy = (BibEntry) simpleArticle.clone();
+        List<List<BibEntry>> duplicates = new ArrayList<>();
+        List<Integer> progress = new ArrayList<>();
+        DuplicateCandidateIndex index = new DuplicateCandidateIndex(Arrays.asList(simpleArticle, unrelatedArticle, copy));
+
+        index.findDuplicates(BibDatabaseMode.BIBTEX,
+                (first, second) -> {
+                    synchronized (duplicates) {
+                        duplicates.add(Arrays.asList(first, second));
+                    }
+                },
+                checkedEntries -> {
+                    synchronized (progress) {
+                        progress.add(checkedEntries);
+                    }
+                },
+                () -> false);
+
+        assertEquals(Collections.singletonList(Arrays.asList(simpleArticle, copy)), duplicates);
+        assertTrue(progress.contains(3));
+    }
+
+    @Test
+    public void findDuplicatesStopsWhenCancelled() {
+        List<List<BibEntry>> duplicates = new ArrayList<>();
+        DuplicateCandidateIndex index = new DuplicateCandidateIndex(
+                Arrays.asList(simpleArticle, (BibEntry) simpleArticle.clone()));
+
+        index.findDuplicates(BibDatabaseMode.BIBTEX, (first, second) -> duplicates.add(Arrays.asList(first, second)),
+                checkedEntries -> {
+                }, () -> true);
+
+        assertEquals(Collections.emptyList(), duplicates);
+    }
+
+    @Test
+    public void containsDuplicateUsesIndex() {
+        DuplicateCandidateIndex index = new DuplicateCandidateIndex(Arrays.asList(unrelatedArticle, simpleArticle));
+
+        assertEquals(simpleArticle, DuplicateCheck.containsDuplicate(index, (BibEntry) simpleArticle.clone(),
+                BibDatabaseMode.BIBTEX).get());
+    }
+}
@@ -181,4 +181,44 @@ public class FieldComparatorTest {
         FieldComparator comparator = new FieldComparator("author/editor");
         assertEquals("author/editor", comparator.getFieldName());
     }
+
+    @Test
+    public void compareUsesChangedFieldValue() throws Exception {
+        FieldComparator comparator = new FieldComparator("title");
+        BibEntry first = new BibEntry();
+        first.setField("title", "A");
+        BibEntry second = new BibEntry();
+        second.setField("title", "B");
+        assertEquals(-1, comparator.compare(first, second));
+
+        first.setField("title", "C");
+
+        assertEquals(1, comparator.compare(first, second));
+    }
+
+    @Test
+    public void compareWithSharedCacheSortsEachFieldOnItsOwn() throws Exception {
+        SortKeyCache sortKeyCache = new SortKeyCache();
+        FieldComparator titleComparator = new FieldComparator("title", false, sortKeyCache);
+        FieldComparator yearComparator = new FieldComparator("year", false, sortKeyCache);
+        BibEntry first = new BibEntry();
+        first.setField("title", "A");
+        first.setField("year", "2017");
+        BibEntry second = new BibEntry();
+        second.setField("title", "B");
+        second.setField("year", "2016");
+
+        assertEquals(-1, titleComparator.compare(first, second));
+        assertEquals(1, yearComparator.compare(first, second));
+    }
+
+    @Test
+    public void compareMissingFieldAfterExistingField() throws Exception {
+        FieldComparator comparator = new FieldComparator("title");
+        BibEntry missing = new BibEntry();
+        BibEntry existing = new BibEntry();
+        existing.setField("title", "A");
+
+        assertEquals(1, comparator.compare(missing, existing));
+    }
 }
@@ -436,4 +436,76 @@ public class MakeLabelWithDatabaseTest {
         BibtexKeyPatternUtil.makeAndSetLabel(bibtexKeyPattern, database, entry, preferences);
         assertEquals(Optional.of("Aapoj"), entry.getCiteKeyOptional());
     }
+
+    @Test
+    public void generateKeysForAllEntriesAddsLettersInOrderOfEntries() {
+        BibEntry entry2 = new BibEntry();
+        entry2.setField("author", "John Doe");
+        entry2.setField("year", "2016");
+        database.insertEntry(entry2);
+        BibEntry entry3 = new BibEntry();
+        entry3.setField("author", "Jane Roe");
+        entry3.setField("year", "2017");
+        database.insertEntry(entry3);
+
+        BibtexKeyPatternUtil.makeAndSetLabels(bibtexKeyPattern, database, database.getEntries(), preferences);
+
+        assertEquals(Optional.of("Doe2016"), entry.getCiteKeyOptional());
+        assertEquals(Optional.of("Doe2016a"), entry2.getCiteKeyOptional());
+        assertEquals(Optional.of("Roe2017"), entry3.getCiteKeyOptional());
+    }
+
+    @Test
+    public void generateKeysForAllEntriesKeepsUniqueKeys() {
+        entry.setCiteKey("Doe2016b");
+        BibEntry entry2 = new BibEntry();
+        entry2.setField("author", "John Doe");
+        entry2.setField("year", "2016");
+        entry2.setCiteKey("Doe2016a");
+        database.insertEntry(entry2);
+        BibEntry entry3 = new BibEntry();
+        entry3.setField("author", "John Doe");
+        entry3.setField("year", "2016");
+        entry3.setCiteKey("Doe2016");
+        database.insertEntry(entry3);
+        preferences = new BibtexKeyPatternPreferences("", "", true, true, true, pattern, ',');
+
+        BibtexKeyPatternUtil.makeAndSetLabels(bibtexKeyPattern, database, database.getEntries(), preferences);
+
+        assertEquals(Optional.of("Doe2016b"), entry.getCiteKeyOptional());
+        assertEquals(Optional.of("Doe2016a"), entry2.getCiteKeyOptional());
+        assertEquals(Optional.of("Doe2016c"), entry3.getCiteKeyOptional());
+    }
+
+    @Test
+    public void generateKeysForAllEntriesReusesReleasedKey() {
+        BibEntry entry2 = new BibEntry();
+        entry2.setField("author", "John Doe");
+        entry2.setField("year", "2016");
+        database.insertEntry(entry2);
+        BibEntry entry3 = new BibEntry();
+        entry3.setField("author", "Jane Roe");
+        entry3.setField("year", "2016");
+        entry3.setCiteKey("Doe2016a");
+        database.insertEntry(entry3);
+        BibEntry entry4 = new BibEntry();
+        entry4.setField("author", "John Doe");
+        entry4.setField("year", "2016");
+        database.insertEntry(entry4);
+
+        BibtexKeyPatternUtil.makeAndSetLabels(bibtexKeyPattern, database, database.getEntries(), preferences);
+
+        assertEquals(Optional.of("Doe2016"), entry.getCiteKeyOptional());
+        assertEquals(Optional.of("Doe2016b"), entry2.getCiteKeyOptional());
+        assertEquals(Optional.of("Roe2016"), entry3.getCiteKeyOptional());
+        assertEquals(Optional.of("Doe2016a"), entry4.getCiteKeyOptional());
+    }
+
+    @Test
+    public void generateKeyWithChangedPatternUsesNewPattern() {
+        BibtexKeyPatternUtil.makeAndSetLabel(bibtexKeyPattern, database, entry, preferences);
+        bibtexKeyPattern.setDefaultValue("[year][auth]");
+        BibtexKeyPatternUtil.makeAndSetLabel(bibtexKeyPattern, database, entry, preferences);
+        assertEquals(Optional.of("2016Doe"), entry.getCiteKeyOptional());
+    }
 }
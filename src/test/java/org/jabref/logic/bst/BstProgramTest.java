@@ -0,0 +1,125 @@
+package org.jabref.logic.bst;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.jabref.model.entry.BibEntry;
+
+import org.antlr.runtime.RecognitionException;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class BstProgramTest {
+
+    private static final Path ABBRV = Paths.get("src/test/resources/org/jabref/logic/bst/abbrv.bst");
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void abbrvProducesSameOutputAsVM() throws RecognitionException, IOException {
+        List<BibEntry> entries = createEntries();
+
+        String expected = new VM(ABBRV.toFile()).run(entries);
+
+        assertEquals(expected, BstProgram.fromFile(ABBRV).run(entries));
+    }
+
+    @Test
+    public void entryVariablesAndCallTypeProduceSameOutputAsVM() throws RecognitionException {
+        assertSameOutputAsVM("ENTRY { title } { count } { label } "
+                + "FUNCTION {article} { title write$ count #1 + 'count := count int.to.str$ write$ "
+                + "cite$ write$ type$ write$ newline$ } "
+                + "FUNCTION {book} { article } FUNCTION {inproceedings} { article } "
+                + "READ ITERATE {call.type$} REVERSE {call.type$}");
+    }
+
+    @Test
+    public void macroAndWhileProduceSameOutputAsVM() throws RecognitionException {
+        assertSameOutputAsVM("MACRO {jan} {\"January\"} INTEGERS { i } "
+                + "FUNCTION {f} { jan write$ #5 'i := { i #0 > } { i int.to.str$ write$ i #1 - 'i := } while$ } "
+                + "EXECUTE {f}");
+    }
+
+    @Test
+    public void sortProducesSameOutputAsVM() throws RecognitionException {
+        assertSameOutputAsVM("ENTRY { } { } { } FUNCTION {presort} { cite$ 'sort.key$ := } "
+                + "FUNCTION {output} { cite$ write$ } READ ITERATE {presort} SORT ITERATE {output}");
+    }
+
+    @Test
+    public void variableIsOnlyVisibleAfterItsDeclaration() throws RecognitionException {
+        assertSameOutputAsVM("INTEGERS { x } FUNCTION {f} { x int.to.str$ write$ } EXECUTE {f} "
+                + "STRINGS { x } FUNCTION {g} { \"s\" 'x := x write$ } EXECUTE {g}");
+    }
+
+    @Test
+    public void redefinedBuiltInFunctionIsCalledAfterItsDefinition() throws RecognitionException {
+        assertSameOutputAsVM("FUNCTION {g} { \"x\" write$ } EXECUTE {g} "
+                + "FUNCTION {write$} { pop$ } EXECUTE {g}");
+    }
+
+    @Test(expected = VMException.class)
+    public void unknownIdentifierThrowsException() throws RecognitionException {
+        BstProgram.compile("FUNCTION {f} { unknown } EXECUTE {f}").run(Collections.emptyList());
+    }
+
+    @Test
+    public void programIsCachedPerFile() throws RecognitionException, IOException {
+        Path file = testFolder.newFile("test.bst").toPath();
+        Files.write(file, Collections.singletonList("FUNCTION {f} { \"a\" write$ } EXECUTE {f}"),
+                StandardCharsets.UTF_8);
+        FileTime modificationTime = Files.getLastModifiedTime(file);
+        BstProgram program = BstProgram.fromFile(file);
+
+        assertSame(program, BstProgram.fromFile(file));
+
+        Files.write(file, Collections.singletonList("FUNCTION {f} { \"b\" write$ } EXECUTE {f}"),
+                StandardCharsets.UTF_8);
+        Files.setLastModifiedTime(file, FileTime.fromMillis(modificationTime.toMillis() + 2000));
+
+        assertEquals("b", BstProgram.fromFile(file).run(Collections.emptyList()));
+    }
+
+    private void assertSameOutputAsVM(String bst) throws RecognitionException {
+        List<BibEntry> entries = createEntries();
+
+        String expected = new VM(bst).run(entries);
+
+        assertEquals(expected, BstProgram.compile(bst).run(entries));
+    }
+
+    private static List<BibEntry> createEntries() {
+        BibEntry article = new BibEntry("article")
+                .withField("author", "Crowston, K. and Annabi, H. and Howison, J. and Masango, C.")
+                .withField("title", "Effective work practices for floss development: A model and propositions")
+                .withField("journal", "Hawaii International Conference On System Sciences (HICSS)")
+                .withField("year", "2005");
+        article.setCiteKey("canh05");
+        BibEntry book = new BibEntry("book")
+                .withField("author", "Donald E. Knuth")
+                .withField("title", "The {TeX}book")
+                .withField("publisher", "Addison-Wesley")
+                .withField("year", "1984");
+        book.setCiteKey("knuth84");
+        BibEntry inproceedings = new BibEntry("inproceedings")
+                .withField("author", "von Last, Jr, First and Other, A. and others")
+                .withField("title", "On {S}tuff")
+                .withField("booktitle", "Proceedings")
+                .withField("pages", "1--10")
+                .withField("year", "1999");
+        inproceedings.setCiteKey("last99");
+        return Arrays.asList(article, book, inproceedings);
+    }
+}
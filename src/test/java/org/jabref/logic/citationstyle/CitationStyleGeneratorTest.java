@@ -1,5 +1,8 @@
 package org.jabref.logic.citationstyle;
 
+import java.util.Arrays;
+import java.util.List;
+
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.util.TestEntry;
 import org.jabref.model.entry.BibEntry;
@@ -116,4 +119,32 @@ public class CitationStyleGeneratorTest {
         assertEquals(expectedCitation, actualCitation);
     }
 
+    @Test
+    public void reusedProcessorForgetsPreviousEntries() {
+        BibEntry first = new BibEntry().withField(FieldName.AUTHOR, "Last, First");
+        first.setCiteKey("first");
+        BibEntry second = new BibEntry().withField(FieldName.AUTHOR, "Doe, Jane");
+        second.setCiteKey("second");
+        String style = CitationStyle.getDefault().getSource();
+
+        CitationStyleGenerator.generateCitation(first, style, CitationStyleOutputFormat.HTML);
+        String citation = CitationStyleGenerator.generateCitation(second, style, CitationStyleOutputFormat.HTML);
+
+        assertEquals("  <div class=\"csl-entry\">\n" +
+                "    <div class=\"csl-left-margin\">[1]</div><div class=\"csl-right-inline\">J. Doe, .</div>\n" +
+                "  </div>\n", citation);
+    }
+
+    @Test
+    public void generateCitationsNumbersEntriesOfBatch() {
+        BibEntry first = new BibEntry().withField(FieldName.AUTHOR, "Last, First");
+        first.setCiteKey("first");
+        BibEntry second = new BibEntry().withField(FieldName.AUTHOR, "Doe, Jane");
+        second.setCiteKey("second");
+
+        List<String> citations = CitationStyleGenerator.generateCitations(Arrays.asList(first, second),
+                CitationStyle.getDefault().getSource(), CitationStyleOutputFormat.ASCII_DOC);
+
+        assertEquals(Arrays.asList("[1] F. Last, .\n", "[2] J. Doe, .\n"), citations);
+    }
 }
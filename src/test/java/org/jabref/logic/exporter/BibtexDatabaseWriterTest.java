@@ -6,7 +6,9 @@ import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Scanner;
 
 import org.jabref.logic.formatter.casechanger.LowerCaseFormatter;
@@ -42,6 +44,7 @@ import org.junit.Test;
 import org.mockito.Answers;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.mockito.Mockito.mock;
 
 public class BibtexDatabaseWriterTest {
@@ -533,6 +536,54 @@ public class BibtexDatabaseWriterTest {
                 , session.getStringValue());
     }
 
+    @Test
+    public void getSortedEntriesSortsAgainAfterEntryChanged() throws Exception {
+        metaData.setSaveOrderConfig(new SaveOrderConfig(false, new SaveOrderConfig.SortCriterion("author", false),
+                new SaveOrderConfig.SortCriterion("year", false), new SaveOrderConfig.SortCriterion("title", false)));
+        BibEntry firstEntry = new BibEntry().withField("author", "A");
+        BibEntry secondEntry = new BibEntry().withField("author", "B");
+        BibEntry thirdEntry = new BibEntry().withField("author", "C");
+        database.insertEntry(thirdEntry);
+        database.insertEntry(firstEntry);
+        database.insertEntry(secondEntry);
+        assertEquals(Arrays.asList(firstEntry, secondEntry, thirdEntry),
+                BibDatabaseWriter.getSortedEntries(bibtexContext, database.getEntries(), new SavePreferences()));
+
+        firstEntry.setField("author", "D");
+
+        assertEquals(Arrays.asList(secondEntry, thirdEntry, firstEntry),
+                BibDatabaseWriter.getSortedEntries(bibtexContext, database.getEntries(), new SavePreferences()));
+    }
+
+    @Test
+    public void getSortedEntriesKeepsGivenOrderOfEqualEntries() throws Exception {
+        metaData.setSaveOrderConfig(new SaveOrderConfig(false, new SaveOrderConfig.SortCriterion("author", false),
+                new SaveOrderConfig.SortCriterion("year", false), new SaveOrderConfig.SortCriterion("title", false)));
+        BibEntry firstEntry = new BibEntry().withField("author", "A");
+        BibEntry secondEntry = new BibEntry().withField("author", "A");
+        BibDatabaseWriter.getSortedEntries(bibtexContext, Arrays.asList(firstEntry, secondEntry),
+                new SavePreferences());
+
+        List<BibEntry> sorted = BibDatabaseWriter.getSortedEntries(bibtexContext,
+                Arrays.asList(secondEntry, firstEntry), new SavePreferences());
+
+        assertSame(secondEntry, sorted.get(0));
+        assertSame(firstEntry, sorted.get(1));
+    }
+
+    @Test
+    public void getSortedEntriesRemembersSortedOrderInContext() throws Exception {
+        metaData.setSaveOrderConfig(new SaveOrderConfig(false, new SaveOrderConfig.SortCriterion("author", false),
+                new SaveOrderConfig.SortCriterion("year", false), new SaveOrderConfig.SortCriterion("title", false)));
+        BibEntry firstEntry = new BibEntry().withField("author", "A");
+        BibEntry secondEntry = new BibEntry().withField("author", "B");
+
+        BibDatabaseWriter.getSortedEntries(bibtexContext, Arrays.asList(secondEntry, firstEntry),
+                new SavePreferences());
+
+        assertEquals(Arrays.asList(firstEntry, secondEntry), bibtexContext.getLastSortedEntries());
+    }
+
     @Test
     public void writeEntriesInOriginalOrderWhenNoSaveOrderConfigIsSetInMetadata() throws Exception {
         BibEntry firstEntry = new BibEntry();
@@ -0,0 +1,56 @@
+package org.jabref.logic.exporter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class VerifyingWriterTest {
+
+    @Test
+    public void writesEncodedText() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        VerifyingWriter writer = new VerifyingWriter(out, StandardCharsets.UTF_8);
+
+        writer.write("Müller");
+        writer.write('}');
+        writer.close();
+
+        assertArrayEquals("Müller}".getBytes(StandardCharsets.UTF_8), out.toByteArray());
+        assertEquals(8, writer.getBytesWritten());
+        assertTrue(writer.couldEncodeAll());
+    }
+
+    @Test
+    public void remembersCharactersWhichCannotBeEncoded() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        VerifyingWriter writer = new VerifyingWriter(out, StandardCharsets.US_ASCII);
+
+        writer.write("Müller and Čech");
+        writer.close();
+
+        assertEquals("M?ller and ?ech", new String(out.toByteArray(), StandardCharsets.US_ASCII));
+        assertFalse(writer.couldEncodeAll());
+        assertEquals("üČ", writer.getProblemCharacters());
+    }
+
+    @Test
+    public void writesSurrogatePairSplitAcrossWrites() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        VerifyingWriter writer = new VerifyingWriter(out, StandardCharsets.UTF_8);
+        String emoji = new String(Character.toChars(0x1F600));
+
+        writer.write(emoji.charAt(0));
+        writer.write(emoji.charAt(1));
+        writer.close();
+
+        assertArrayEquals(emoji.getBytes(StandardCharsets.UTF_8), out.toByteArray());
+        assertTrue(writer.couldEncodeAll());
+    }
+}
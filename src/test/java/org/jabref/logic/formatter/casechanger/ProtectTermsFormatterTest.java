@@ -59,4 +59,14 @@ public class ProtectTermsFormatterTest {
         assertEquals("{Testing BPEL Engine Performance: A Survey}",
                 formatter.format("{Testing BPEL Engine Performance: A Survey}"));
     }
+
+    @Test
+    public void testRepeatedTermIsProtectedEachTime() {
+        assertEquals("{CDMA} {CDMA}", formatter.format("CDMA CDMA"));
+    }
+
+    @Test
+    public void testTermFollowedByLetterIsNotProtected() {
+        assertEquals("CDMAs and {CDMA}-based", formatter.format("CDMAs and CDMA-based"));
+    }
 }
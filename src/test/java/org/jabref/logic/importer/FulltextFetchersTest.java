@@ -1,28 +1,54 @@
 package org.jabref.logic.importer;
 
+import java.io.IOException;
+import java.net.InetSocketAddress;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.Arrays;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.FieldName;
 
+import com.sun.net.httpserver.HttpServer;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 public class FulltextFetchersTest {
     private BibEntry entry;
+    private HttpServer server;
+    private URL pdfUrl;
+    private URL otherPdfUrl;
+    private URL htmlUrl;
 
     @Before
-    public void setUp() {
+    public void setUp() throws IOException {
         entry = new BibEntry();
+
+        // serves the stub documents on a free local port, HEAD and GET requests only get the content type
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            String contentType = exchange.getRequestURI().getPath().endsWith(".pdf") ? "application/pdf" : "text/html";
+            exchange.getResponseHeaders().add("Content-Type", contentType);
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        server.start();
+        String base = "http://localhost:" + server.getAddress().getPort();
+        pdfUrl = new URL(base + "/paper.pdf");
+        otherPdfUrl = new URL(base + "/other.pdf");
+        htmlUrl = new URL(base + "/paper.html");
     }
 
     @After
     public void tearDown() {
+        server.stop(0);
         entry = null;
     }
 
@@ -43,4 +69,86 @@ public class FulltextFetchersTest {
 
         assertEquals(Optional.empty(), fetcher.findFullTextPDF(entry));
     }
+
+    @Test
+    public void acceptPdfUrlsOfStubServer() {
+        entry.setField(FieldName.DOI, "10.1000/182");
+        FulltextFetcher htmlFinder = (e) -> Optional.of(htmlUrl);
+        FulltextFetcher pdfFinder = (e) -> Optional.of(pdfUrl);
+        FulltextFetchers fetcher = new FulltextFetchers(Arrays.asList(htmlFinder, pdfFinder));
+
+        assertEquals(Optional.of(pdfUrl), fetcher.findFullTextPDF(entry));
+    }
+
+    @Test
+    public void prefersEarlierFinderEvenIfItIsSlower() {
+        entry.setField(FieldName.DOI, "10.1000/182");
+        FulltextFetcher slowFinder = (e) -> {
+            sleep(500);
+            return Optional.of(pdfUrl);
+        };
+        FulltextFetcher fastFinder = (e) -> Optional.of(otherPdfUrl);
+        FulltextFetchers fetcher = new FulltextFetchers(Arrays.asList(slowFinder, fastFinder));
+
+        assertEquals(Optional.of(pdfUrl), fetcher.findFullTextPDF(entry));
+    }
+
+    @Test
+    public void asksFindersConcurrently() {
+        entry.setField(FieldName.DOI, "10.1000/182");
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        // each finder only finds something if the other one runs at the same time
+        FulltextFetcher firstFinder = (e) -> {
+            bothStarted.countDown();
+            return await(bothStarted) ? Optional.of(htmlUrl) : Optional.empty();
+        };
+        FulltextFetcher secondFinder = (e) -> {
+            bothStarted.countDown();
+            return await(bothStarted) ? Optional.of(pdfUrl) : Optional.empty();
+        };
+        FulltextFetchers fetcher = new FulltextFetchers(Arrays.asList(firstFinder, secondFinder));
+
+        assertEquals(Optional.of(pdfUrl), fetcher.findFullTextPDF(entry));
+    }
+
+    @Test
+    public void cancelsLaterFindersOnceAPdfIsFound() throws InterruptedException {
+        entry.setField(FieldName.DOI, "10.1000/182");
+        CountDownLatch laterFinderStarted = new CountDownLatch(1);
+        CountDownLatch laterFinderCanceled = new CountDownLatch(1);
+        FulltextFetcher finder = (e) -> {
+            await(laterFinderStarted);
+            return Optional.of(pdfUrl);
+        };
+        FulltextFetcher blockingFinder = (e) -> {
+            laterFinderStarted.countDown();
+            try {
+                new CountDownLatch(1).await(1, TimeUnit.MINUTES);
+            } catch (InterruptedException ex) {
+                laterFinderCanceled.countDown();
+            }
+            return Optional.of(otherPdfUrl);
+        };
+        FulltextFetchers fetcher = new FulltextFetchers(Arrays.asList(finder, blockingFinder));
+
+        assertEquals(Optional.of(pdfUrl), fetcher.findFullTextPDF(entry));
+        assertTrue(laterFinderCanceled.await(10, TimeUnit.SECONDS));
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static void sleep(long milliseconds) {
+        try {
+            Thread.sleep(milliseconds);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
 }
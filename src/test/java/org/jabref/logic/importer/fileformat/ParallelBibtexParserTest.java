@@ -0,0 +1,99 @@
+package org.jabref.logic.importer.fileformat;
+
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.List;
+
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.importer.ParserResult;
+import org.jabref.model.entry.BibEntry;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Answers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ParallelBibtexParserTest {
+
+    private static final String CONTENT = "% DBID: 2mvhh73ge3hc5fosdsvuoa808t" + "\n"
+            + "@preamble{some preamble}" + "\n"
+            + "@string{aString = {some content}}" + "\n"
+            + "% comment in front of first" + "\n"
+            + "@article{first," + "\n" + "  author = {Ed von Test}" + "\n" + "}" + "\n"
+            + "@book{second," + "\n" + "  title = aString" + "\n" + "}" + "\n"
+            + "\n" + "% comment in front of third" + "\n"
+            + "@misc{third," + "\n" + "  year = {2017}" + "\n" + "}" + "\n"
+            + "@comment{jabref-meta: databaseType:biblatex;}" + "\n"
+            + "some epilog";
+
+    private ImportFormatPreferences importFormatPreferences;
+    private ParallelBibtexParser parser;
+
+    @Before
+    public void setUp() {
+        importFormatPreferences = mock(ImportFormatPreferences.class, Answers.RETURNS_DEEP_STUBS);
+        when(importFormatPreferences.getKeywordSeparator()).thenReturn(',');
+        parser = new ParallelBibtexParser(importFormatPreferences);
+    }
+
+    @Test
+    public void splitIntoChunksEndsChunksAfterEntries() {
+        List<String> chunks = ParallelBibtexParser.splitIntoChunks(CONTENT, 1);
+
+        assertEquals(4, chunks.size());
+        assertTrue(chunks.get(0).endsWith("  author = {Ed von Test}\n}\n"));
+        assertTrue(chunks.get(2).startsWith("\n% comment in front of third"));
+        assertTrue(chunks.get(3).startsWith("@comment{jabref-meta"));
+        assertEquals(CONTENT, String.join("", chunks));
+    }
+
+    @Test
+    public void splitIntoChunksKeepsSmallContentInOneChunk() {
+        assertEquals(Arrays.asList(CONTENT), ParallelBibtexParser.splitIntoChunks(CONTENT, CONTENT.length()));
+    }
+
+    @Test
+    public void parseInChunksReturnsSameResultAsSequentialParser() throws Exception {
+        ParserResult expected = new BibtexParser(importFormatPreferences).parse(new StringReader(CONTENT));
+
+        ParserResult result = parser.parse(CONTENT, 1);
+
+        assertEquals(expected.getDatabase().getEntries(), result.getDatabase().getEntries());
+        for (int i = 0; i < expected.getDatabase().getEntryCount(); i++) {
+            assertEquals(expected.getDatabase().getEntries().get(i).getParsedSerialization(),
+                    result.getDatabase().getEntries().get(i).getParsedSerialization());
+        }
+        assertEquals(expected.getDatabase().getPreamble(), result.getDatabase().getPreamble());
+        assertEquals(expected.getDatabase().getStringCount(), result.getDatabase().getStringCount());
+        assertEquals(expected.getDatabase().getEpilog(), result.getDatabase().getEpilog());
+        assertEquals(expected.getDatabase().getSharedDatabaseID(), result.getDatabase().getSharedDatabaseID());
+        assertEquals(expected.getMetaData(), result.getMetaData());
+    }
+
+    @Test
+    public void parseInChunksReportsDuplicateKeysAcrossChunks() throws Exception {
+        String content = "@article{test, author = {A}}" + "\n" + "@article{test, author = {B}}" + "\n";
+
+        ParserResult result = parser.parse(content, 1);
+
+        assertEquals(2, result.getDatabase().getEntryCount());
+        assertEquals(Arrays.asList("test"), result.getDuplicateKeys());
+    }
+
+    @Test
+    public void parseInChunksFallsBackToSequentialParsingOnErrors() throws Exception {
+        String content = "@article{test, author = {A}}" + "\n" + "@article{broken, author = {B}" + "\n"
+                + "@article{other, author = {C}}" + "\n";
+        ParserResult expected = new BibtexParser(importFormatPreferences).parse(new StringReader(content));
+
+        ParserResult result = parser.parse(content, 1);
+
+        List<BibEntry> entries = result.getDatabase().getEntries();
+        assertEquals(expected.getDatabase().getEntries(), entries);
+        assertEquals(expected.warnings(), result.warnings());
+    }
+}
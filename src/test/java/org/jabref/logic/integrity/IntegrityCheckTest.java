@@ -7,6 +7,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import org.jabref.logic.bibtexkeypattern.BibtexKeyPatternPreferences;
 import org.jabref.logic.journals.Abbreviation;
@@ -28,6 +29,7 @@ import org.mockito.Mockito;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.mock;
 
@@ -353,6 +355,47 @@ public class IntegrityCheckTest {
         assertWrong(createContext("author", "Some unicode ⊕"));
     }
 
+    @Test
+    public void messagesAreOrderedLikeEntries() {
+        BibDatabase database = new BibDatabase();
+        for (int i = 0; i < 100; i++) {
+            database.insertEntry(new BibEntry().withField("month", "Umlauts are nöt ällowed " + i));
+        }
+
+        List<IntegrityMessage> messages = createIntegrityCheck(new BibDatabaseContext(database, new Defaults()))
+                .checkBibtexDatabase();
+
+        assertEquals(database.getEntries(), messages.stream()
+                .map(IntegrityMessage::getEntry)
+                .distinct()
+                .collect(Collectors.toList()));
+    }
+
+    @Test
+    public void checkChangedEntriesChecksChangedAndAddedEntries() {
+        BibDatabaseContext context = createContext("month", "Umlauts are nöt ällowed");
+        BibEntry entry = context.getDatabase().getEntries().get(0);
+        IntegrityCheck check = createIntegrityCheck(context);
+        context.getDatabase().registerListener(check);
+        assertFalse(check.checkBibtexDatabase().isEmpty());
+
+        entry.setField("month", "1");
+        assertEquals(Collections.emptyList(), check.checkChangedEntries());
+
+        BibEntry addedEntry = new BibEntry().withField("month", "Umlauts are nöt ällowed");
+        context.getDatabase().insertEntry(addedEntry);
+        List<IntegrityMessage> messages = check.checkChangedEntries();
+        assertFalse(messages.isEmpty());
+        assertTrue(messages.stream().allMatch(message -> message.getEntry() == addedEntry));
+    }
+
+    private IntegrityCheck createIntegrityCheck(BibDatabaseContext context) {
+        return new IntegrityCheck(context,
+                mock(FileDirectoryPreferences.class),
+                createBibtexKeyPatternPreferences(),
+                new JournalAbbreviationRepository(new Abbreviation("IEEE Software", "IEEE SW")));
+    }
+
     private BibDatabaseContext createContext(String field, String value, String type) {
         BibEntry entry = new BibEntry();
         entry.setField(field, value);
@@ -69,4 +69,44 @@ public class JournalAbbreviationRepositoryTest {
 
     }
 
+    @Test
+    public void lookupIgnoresCase() {
+        JournalAbbreviationRepository repository = new JournalAbbreviationRepository();
+        repository.addEntry(new Abbreviation("Long Name", "L. N."));
+
+        assertTrue(repository.isKnownName("long name"));
+        assertTrue(repository.isAbbreviatedName("l. n."));
+        assertEquals("L. N.", repository.getIsoAbbreviation("LONG NAME").orElse("WRONG"));
+    }
+
+    @Test
+    public void lookupNormalizesPunctuation() {
+        JournalAbbreviationRepository repository = new JournalAbbreviationRepository();
+        repository.addEntry(new Abbreviation("Long Name", "L. N."));
+
+        assertTrue(repository.isKnownName("Long  Name"));
+        assertTrue(repository.isKnownName("L.N."));
+        assertTrue(repository.isAbbreviatedName("L.N."));
+        assertFalse(repository.isAbbreviatedName("Long Name"));
+        assertEquals("Long Name", repository.getAbbreviation("L.N.").map(Abbreviation::getName).orElse("WRONG"));
+    }
+
+    @Test
+    public void overwrittenAbbreviationIsNoLongerKnown() {
+        JournalAbbreviationRepository repository = new JournalAbbreviationRepository();
+        repository.addEntry(new Abbreviation("Long Name", "L. N."));
+        repository.addEntry(new Abbreviation("Long Name", "LA. N."));
+
+        assertFalse(repository.isKnownName("L. N."));
+        assertTrue(repository.isKnownName("LA. N."));
+    }
+
+    @Test
+    public void fullNameIsPreferredToAbbreviation() {
+        JournalAbbreviationRepository repository = new JournalAbbreviationRepository();
+        repository.addEntry(new Abbreviation("Other Name", "Long Name"));
+        repository.addEntry(new Abbreviation("Long Name", "L. N."));
+
+        assertEquals("L. N.", repository.getIsoAbbreviation("Long Name").orElse("WRONG"));
+    }
 }
@@ -0,0 +1,77 @@
+package org.jabref.logic.layout;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+import java.util.Optional;
+
+import org.jabref.model.entry.BibEntry;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Answers;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class LayoutCacheTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private LayoutCache cache;
+    private LayoutFormatterPreferences layoutFormatterPreferences;
+    private BibEntry entry;
+
+    @Before
+    public void setUp() {
+        cache = new LayoutCache();
+        layoutFormatterPreferences = mock(LayoutFormatterPreferences.class, Answers.RETURNS_DEEP_STUBS);
+        entry = new BibEntry().withField("author", "Doe").withField("title", "Title");
+    }
+
+    @Test
+    public void layoutFileIsReadAgainAfterModification() throws IOException {
+        Path file = testFolder.newFile("test.layout").toPath();
+        Files.write(file, Collections.singletonList("\\author"), StandardCharsets.UTF_8);
+        FileTime modificationTime = Files.getLastModifiedTime(file);
+        assertEquals("Doe\n", cache.getLayout(file, layoutFormatterPreferences).doLayout(entry, null));
+
+        Files.write(file, Collections.singletonList("\\title"), StandardCharsets.UTF_8);
+        Files.setLastModifiedTime(file, FileTime.fromMillis(modificationTime.toMillis() + 2000));
+
+        assertEquals("Title\n", cache.getLayout(file, layoutFormatterPreferences).doLayout(entry, null));
+    }
+
+    @Test
+    public void unmodifiedLayoutFileIsNotReadAgain() throws IOException {
+        Path file = testFolder.newFile("test.layout").toPath();
+        Files.write(file, Collections.singletonList("\\author"), StandardCharsets.UTF_8);
+        FileTime modificationTime = Files.getLastModifiedTime(file);
+        cache.getLayout(file, layoutFormatterPreferences);
+
+        Files.write(file, Collections.singletonList("\\title"), StandardCharsets.UTF_8);
+        Files.setLastModifiedTime(file, modificationTime);
+
+        assertEquals("Doe\n", cache.getLayout(file, layoutFormatterPreferences).doLayout(entry, null));
+    }
+
+    @Test
+    public void formattersAreResolvedWithGivenPreferences() throws IOException {
+        Path file = testFolder.newFile("test.layout").toPath();
+        Files.write(file, Collections.singletonList("\\format[MyNames]{\\author}"), StandardCharsets.UTF_8);
+        LayoutFormatterPreferences customPreferences = mock(LayoutFormatterPreferences.class,
+                Answers.RETURNS_DEEP_STUBS);
+        when(customPreferences.getCustomExportNameFormatter("MyNames")).thenReturn(Optional.of("*@*@{ll}"));
+
+        assertEquals(Collections.emptyList(), cache.getLayout(file, customPreferences).getMissingFormatters());
+        assertEquals(Collections.singletonList("MyNames"),
+                cache.getLayout(file, layoutFormatterPreferences).getMissingFormatters());
+    }
+}
@@ -125,4 +125,67 @@ public class LayoutTest {
                 "1. Test file (" + new File("src/test/resources/pdfs/encrypted.pdf").getCanonicalPath() + ")",
                 layoutText);
     }
+
+    @Test
+    public void fieldBlockWithAndRequiresAllFields() throws IOException {
+        Assert.assertEquals("", layout("\\begin{author&title}found\\end{author&title}",
+                "@other{bla, author={Doe}}"));
+        Assert.assertEquals("found", layout("\\begin{author&title}found\\end{author&title}",
+                "@other{bla, author={Doe}, title={Title}}"));
+    }
+
+    @Test
+    public void fieldBlockWithOrRequiresOneField() throws IOException {
+        Assert.assertEquals("", layout("\\begin{author|title}found\\end{author|title}", "@other{bla, year={2017}}"));
+        Assert.assertEquals("found", layout("\\begin{author|title}found\\end{author|title}",
+                "@other{bla, title={Title}}"));
+    }
+
+    @Test
+    public void layoutWithFieldsCanBeLaidOutConcurrently() throws IOException {
+        Layout layout = new LayoutHelper(new StringReader("\\begin{author}\\format[HTMLChars]{\\author}\\end{author}"),
+                layoutFormatterPreferences).getLayoutFromText();
+
+        Assert.assertTrue(layout.canLayOutConcurrently());
+    }
+
+    @Test
+    public void layoutWithXmlCharsCanBeLaidOutConcurrently() throws IOException {
+        Layout layout = new LayoutHelper(new StringReader("\\format[XMLChars,CreateDocBookAuthors]{\\author}"),
+                layoutFormatterPreferences).getLayoutFromText();
+
+        Assert.assertTrue(layout.canLayOutConcurrently());
+    }
+
+    @Test
+    public void layoutWithGroupCannotBeLaidOutConcurrently() throws IOException {
+        Layout layout = new LayoutHelper(new StringReader("\\begingroup{year}\\year\\endgroup{year}\\title"),
+                layoutFormatterPreferences).getLayoutFromText();
+
+        Assert.assertFalse(layout.canLayOutConcurrently());
+    }
+
+    @Test
+    public void layoutWithNumberCannotBeLaidOutConcurrently() throws IOException {
+        Layout layout = new LayoutHelper(new StringReader("\\begin{title}\\format[Number]{\\title}\\end{title}"),
+                layoutFormatterPreferences).getLayoutFromText();
+
+        Assert.assertFalse(layout.canLayOutConcurrently());
+    }
+
+    @Test
+    public void layoutWithFormatterNotKnownToBeThreadSafeCannotBeLaidOutConcurrently() throws IOException {
+        Layout layout = new LayoutHelper(new StringReader("\\format[JournalAbbreviator]{\\journal}"),
+                layoutFormatterPreferences).getLayoutFromText();
+
+        Assert.assertFalse(layout.canLayOutConcurrently());
+    }
+
+    @Test
+    public void layoutWithPostFormatterNotKnownToBeThreadSafeCannotBeLaidOutConcurrently() throws IOException {
+        Layout layout = new LayoutHelper(new StringReader("\\title"), layoutFormatterPreferences).getLayoutFromText();
+        layout.setPostFormatter(fieldText -> fieldText);
+
+        Assert.assertFalse(layout.canLayOutConcurrently());
+    }
 }
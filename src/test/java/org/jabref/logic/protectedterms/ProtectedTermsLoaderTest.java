@@ -19,6 +19,7 @@ import org.junit.rules.TemporaryFolder;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 
@@ -223,4 +224,22 @@ public class ProtectedTermsLoaderTest {
                 temporaryFolder.newFile().getAbsolutePath());
         assertEquals("My new list", newList.getDescription());
     }
+
+    @Test
+    public void testProtectedTermsMatcherIsReusedWhileListsAreUnchanged() {
+        ProtectedTermsMatcher matcher = loader.getProtectedTermsMatcher();
+
+        assertSame(matcher, loader.getProtectedTermsMatcher());
+    }
+
+    @Test
+    public void testProtectedTermsMatcherIsCompiledAgainWhenListIsDisabled() {
+        assertEquals("{CDMA}", loader.getProtectedTermsMatcher().protect("CDMA"));
+
+        for (ProtectedTermsList list : loader.getProtectedTermsLists()) {
+            list.setEnabled(false);
+        }
+
+        assertEquals("CDMA", loader.getProtectedTermsMatcher().protect("CDMA"));
+    }
 }
@@ -0,0 +1,43 @@
+package org.jabref.logic.protectedterms;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class ProtectedTermsMatcherTest {
+
+    private final ProtectedTermsMatcher matcher = new ProtectedTermsMatcher(
+            Arrays.asList("IEEE", "IEEE Trans.", "Trans", "3G", "3GPP", "Monte Carlo"));
+
+    @Test
+    public void textWithoutTermsIsUnchanged() {
+        assertEquals("A survey of graph drawing", matcher.protect("A survey of graph drawing"));
+    }
+
+    @Test
+    public void longestTermIsProtected() {
+        assertEquals("{3GPP} and {3G}", matcher.protect("3GPP and 3G"));
+    }
+
+    @Test
+    public void termsAreMatchedLiterally() {
+        assertEquals("{IEEE Trans.} and {IEEE} TransX", matcher.protect("IEEE Trans. and IEEE TransX"));
+    }
+
+    @Test
+    public void termsAfterSeparatorsAreProtected() {
+        assertEquals("({Monte Carlo})/{3G}-\"{IEEE}\"", matcher.protect("(Monte Carlo)/3G-\"IEEE\""));
+    }
+
+    @Test
+    public void termsInsideWordsAreNotProtected() {
+        assertEquals("x3G 3Gx", matcher.protect("x3G 3Gx"));
+    }
+
+    @Test
+    public void emptyTermsAreIgnored() {
+        assertEquals("abc", new ProtectedTermsMatcher(Arrays.asList("", "b")).protect("abc"));
+    }
+}
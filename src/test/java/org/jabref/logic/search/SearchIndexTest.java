@@ -0,0 +1,132 @@
+package org.jabref.logic.search;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class SearchIndexTest {
+
+    private BibDatabase database;
+    private SearchIndex searchIndex;
+    private BibEntry first;
+    private BibEntry second;
+
+    @Before
+    public void setUp() {
+        database = new BibDatabase();
+        first = new BibEntry();
+        first.setField("author", "Ed von Test");
+        first.setField("title", "Great {V}ikinger");
+        second = new BibEntry();
+        second.setField("author", "Smith, John");
+        second.setField("journal", "Test Journal");
+        database.insertEntry(first);
+        database.insertEntry(second);
+        searchIndex = new SearchIndex(database);
+    }
+
+    @Test
+    public void tokenizeFoldsCaseAndSplitsAtNonAlphanumericCharacters() {
+        assertEquals(new HashSet<>(Arrays.asList("smith", "john")), SearchIndex.tokenize("SMITH, John"));
+    }
+
+    @Test
+    public void containBasedSearchFindsSubstringsOfTokens() {
+        assertEquals(Optional.of(Collections.singleton(first)), candidates("viking", false));
+    }
+
+    @Test
+    public void containBasedSearchRequiresAllWords() {
+        assertEquals(Optional.of(Collections.singleton(second)), candidates("test smith", false));
+    }
+
+    @Test
+    public void containBasedSearchWithoutLettersIsNotAnsweredByIndex() {
+        assertEquals(Optional.empty(), candidates("-", false));
+    }
+
+    @Test
+    public void containBasedSearchWithOnlyShortWordsIsNotAnsweredByIndex() {
+        assertEquals(Optional.empty(), candidates("ed v", false));
+    }
+
+    @Test
+    public void containBasedSearchIgnoresShortWordsNextToLongerOnes() {
+        assertEquals(Optional.of(new HashSet<>(Arrays.asList(first, second))), candidates("ed test", false));
+    }
+
+    @Test
+    public void containBasedSearchForUnknownWordHasNoCandidates() {
+        assertEquals(Optional.of(Collections.emptySet()), candidates("vikingar", false));
+    }
+
+    @Test
+    public void grammarBasedSearchUsesFieldPostings() {
+        assertEquals(Optional.of(Collections.singleton(second)), candidates("journal=test", false));
+    }
+
+    @Test
+    public void grammarBasedSearchCombinesCandidates() {
+        assertEquals(Optional.of(new HashSet<>(Arrays.asList(first, second))),
+                candidates("title=great or author=smith", false));
+        assertEquals(Optional.of(Collections.emptySet()), candidates("title=great and author=smith", false));
+    }
+
+    @Test
+    public void grammarBasedSearchWithNegationIsNotAnsweredByIndex() {
+        assertEquals(Optional.empty(), candidates("not title=great", false));
+    }
+
+    @Test
+    public void regularExpressionSearchIsNotAnsweredByIndex() {
+        assertEquals(Optional.empty(), candidates("vik.*", true));
+    }
+
+    @Test
+    public void indexFollowsChangesOfDatabase() {
+        candidates("viking", false);
+
+        first.setField("title", "Something else");
+        BibEntry third = new BibEntry();
+        third.setField("title", "Vikings");
+        database.insertEntry(third);
+        database.removeEntry(second);
+
+        assertEquals(Optional.of(Collections.singleton(third)), candidates("viking", false));
+        assertEquals(Optional.of(Collections.emptySet()), candidates("smith", false));
+    }
+
+    @Test
+    public void indexDistinguishesEqualEntries() {
+        BibEntry copy = (BibEntry) first.clone();
+        database.insertEntry(copy);
+        candidates("viking", false);
+
+        database.removeEntry(first);
+
+        assertEquals(Optional.of(Collections.singleton(copy)), candidates("viking", false));
+    }
+
+    @Test
+    public void searcherWithIndexReturnsSameMatchesAsWithoutIndex() {
+        for (String query : Arrays.asList("test", "TEST", "title=vikinger", "author=smith or test", "vik.*")) {
+            SearchQuery searchQuery = new SearchQuery(query, false, false);
+            assertEquals(new DatabaseSearcher(searchQuery, database).getMatches(),
+                    new DatabaseSearcher(searchQuery, database, searchIndex).getMatches());
+        }
+    }
+
+    private Optional<Set<BibEntry>> candidates(String query, boolean regularExpression) {
+        return searchIndex.getCandidates(new SearchQuery(query, false, regularExpression));
+    }
+}
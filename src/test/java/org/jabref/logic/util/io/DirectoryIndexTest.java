@@ -0,0 +1,147 @@
+package org.jabref.logic.util.io;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class DirectoryIndexTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private Path rootDir;
+    private DirectoryIndex index;
+
+    @Before
+    public void setUp() throws IOException {
+        rootDir = temporaryFolder.getRoot().toPath();
+
+        Path pdfDir = Files.createDirectory(rootDir.resolve("pdfs"));
+        Path subDir = Files.createDirectory(pdfDir.resolve("sub"));
+        Files.createDirectory(rootDir.resolve("empty"));
+
+        Files.createFile(rootDir.resolve("HipKro03.pdf"));
+        Files.createFile(pdfDir.resolve("HipKro03 - Hello.pdf"));
+        Files.createFile(subDir.resolve("Other.pdf"));
+
+        // directories which were modified just now are always listed again, so make them look older
+        FileTime anHourAgo = FileTime.fromMillis(System.currentTimeMillis() - TimeUnit.HOURS.toMillis(1));
+        for (Path dir : Arrays.asList(rootDir, pdfDir, subDir, rootDir.resolve("empty"))) {
+            Files.setLastModifiedTime(dir, anHourAgo);
+        }
+
+        index = new DirectoryIndex(rootDir);
+        index.update();
+    }
+
+    @Test
+    public void findsFilesStartingWithPrefixInAllDirectories() {
+        List<Path> files = index.getFilesStartingWith("HipKro03").stream().sorted().collect(Collectors.toList());
+
+        assertEquals(Arrays.asList(Paths.get("HipKro03.pdf"), Paths.get("pdfs", "HipKro03 - Hello.pdf")), files);
+    }
+
+    @Test
+    public void containsFileRelativeToDirectory() {
+        assertTrue(index.containsFile(Paths.get("pdfs", "sub", "Other.pdf")));
+        assertFalse(index.containsFile(Paths.get("pdfs", "sub")));
+    }
+
+    @Test
+    public void getSubdirectoriesIsResolvedAgainstGivenDirectory() {
+        assertEquals(Arrays.asList(rootDir.resolve("empty"), rootDir.resolve("pdfs"), rootDir.resolve("pdfs/sub")),
+                index.getSubdirectories(rootDir, true));
+        assertEquals(Arrays.asList(rootDir.resolve("empty"), rootDir.resolve("pdfs")),
+                index.getSubdirectories(rootDir, false));
+    }
+
+    @Test
+    public void getChildrenReturnsFilesAndDirectories() {
+        Path pdfDir = rootDir.resolve("pdfs");
+
+        assertEquals(Arrays.asList(pdfDir.resolve("HipKro03 - Hello.pdf"), pdfDir.resolve("sub")),
+                index.getChildren(pdfDir));
+    }
+
+    @Test
+    public void directoryOutsideOfIndexHasNoChildren() {
+        assertEquals(Collections.emptyList(), index.getChildren(rootDir.getParent()));
+    }
+
+    @Test
+    public void nonExistingDirectoryHasEmptyIndex() {
+        DirectoryIndex missingIndex = DirectoryIndex.forDirectory(rootDir.resolve("asdfasdf"));
+
+        assertEquals(Collections.emptyList(), missingIndex.getFilesStartingWith(""));
+    }
+
+    @Test
+    public void findsFileCreatedAfterIndexing() throws IOException {
+        Files.createFile(rootDir.resolve("pdfs/sub/HipKro03 - Other.pdf"));
+
+        index.update();
+
+        assertTrue(index.containsFile(Paths.get("pdfs", "sub", "HipKro03 - Other.pdf")));
+        assertEquals(3, index.getFilesStartingWith("HipKro03").size());
+    }
+
+    @Test
+    public void findsDirectoryCreatedAfterIndexing() throws IOException {
+        Path newDir = Files.createDirectories(rootDir.resolve("empty/new"));
+        Files.createFile(newDir.resolve("New.pdf"));
+
+        index.update();
+
+        assertEquals(Collections.singletonList(newDir.resolve("New.pdf")), index.getChildren(newDir));
+    }
+
+    @Test
+    public void forgetsFileDeletedAfterIndexing() throws IOException {
+        Files.delete(rootDir.resolve("HipKro03.pdf"));
+
+        index.update();
+
+        assertFalse(index.containsFile(Paths.get("HipKro03.pdf")));
+        assertEquals(Collections.singletonList(Paths.get("pdfs", "HipKro03 - Hello.pdf")),
+                index.getFilesStartingWith("HipKro03"));
+    }
+
+    @Test
+    public void forgetsDirectoryDeletedAfterIndexing() throws IOException {
+        Path subDir = rootDir.resolve("pdfs/sub");
+        Files.delete(subDir.resolve("Other.pdf"));
+        Files.delete(subDir);
+
+        index.update();
+
+        assertFalse(index.containsFile(Paths.get("pdfs", "sub", "Other.pdf")));
+        assertEquals(Arrays.asList(rootDir.resolve("empty"), rootDir.resolve("pdfs")),
+                index.getSubdirectories(rootDir, true));
+    }
+
+    @Test
+    public void forDirectorySeesFilesCreatedAfterItWasUsed() throws IOException {
+        DirectoryIndex.forDirectory(rootDir);
+        Files.createFile(rootDir.resolve("pdfs/New.pdf"));
+
+        DirectoryIndex sharedIndex = DirectoryIndex.forDirectory(rootDir);
+
+        assertTrue(sharedIndex.containsFile(Paths.get("pdfs", "New.pdf")));
+    }
+}
@@ -12,6 +12,7 @@ import java.util.Set;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibtexString;
 import org.jabref.model.entry.IdGenerator;
+import org.jabref.model.entry.event.EntryEventSource;
 import org.jabref.model.event.TestEventListener;
 
 import org.junit.Before;
@@ -22,6 +23,7 @@ import org.junit.rules.ExpectedException;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -77,6 +79,20 @@ public class BibDatabaseTest {
         assertFalse(database.containsEntryWithId(entry.getId()));
     }
 
+    @Test
+    public void removeEntriesRemovesOnlyGivenEntries() {
+        BibEntry first = new BibEntry();
+        BibEntry second = new BibEntry();
+        BibEntry third = new BibEntry();
+        database.insertEntries(first, second, third);
+
+        database.removeEntries(Arrays.asList(first, third), EntryEventSource.LOCAL);
+        assertEquals(Collections.singletonList(second), database.getEntries());
+        assertFalse(database.containsEntryWithId(first.getId()));
+        assertTrue(database.containsEntryWithId(second.getId()));
+        assertFalse(database.containsEntryWithId(third.getId()));
+    }
+
     @Test(expected = NullPointerException.class)
     public void insertNullEntryThrowsException() {
         database.insertEntry(null);
@@ -212,6 +228,75 @@ public class BibDatabaseTest {
         assertEquals(1, database.getDuplicationChecker().getNumberOfKeyOccurrences("AAA"));
     }
 
+    @Test
+    public void getEntryByKeyFindsFirstEntryWithKey() {
+        BibEntry first = new BibEntry();
+        first.setCiteKey("AAA");
+        BibEntry second = new BibEntry();
+        second.setCiteKey("AAA");
+        database.insertEntries(first, second);
+
+        assertEquals(Optional.of(first), database.getEntryByKey("AAA"));
+        assertEquals(Arrays.asList(first, second), database.getEntriesByKey("AAA"));
+    }
+
+    @Test
+    public void getEntriesByKeyFollowsKeyChangesInDatabaseOrder() {
+        BibEntry first = new BibEntry();
+        first.setCiteKey("BBB");
+        BibEntry second = new BibEntry();
+        second.setCiteKey("AAA");
+        database.insertEntries(first, second);
+
+        first.setCiteKey("AAA");
+
+        assertEquals(Arrays.asList(first, second), database.getEntriesByKey("AAA"));
+        assertEquals(Optional.empty(), database.getEntryByKey("BBB"));
+
+        second.clearField(BibEntry.KEY_FIELD);
+
+        assertEquals(Collections.singletonList(first), database.getEntriesByKey("AAA"));
+    }
+
+    @Test
+    public void getEntriesByKeyDistinguishesEqualEntries() {
+        BibEntry first = new BibEntry();
+        first.setCiteKey("AAA");
+        BibEntry copy = (BibEntry) first.clone();
+        database.insertEntries(first, copy);
+
+        database.removeEntry(first);
+
+        assertEquals(1, database.getEntriesByKey("AAA").size());
+        assertSame(copy, database.getEntryByKey("AAA").get());
+    }
+
+    @Test
+    public void getEntryByKeyIgnoresRemovedEntries() {
+        BibEntry entry = new BibEntry();
+        entry.setCiteKey("AAA");
+        database.insertEntry(entry);
+        database.removeEntry(entry);
+
+        entry.setCiteKey("BBB");
+
+        assertEquals(Optional.empty(), database.getEntryByKey("AAA"));
+        assertEquals(Optional.empty(), database.getEntryByKey("BBB"));
+        assertEquals(Optional.empty(), database.getEntryById(entry.getId()));
+    }
+
+    @Test
+    public void getEntryByIdFollowsIdChanges() {
+        BibEntry entry = new BibEntry();
+        database.insertEntry(entry);
+        String oldId = entry.getId();
+
+        entry.setId(IdGenerator.next());
+
+        assertEquals(Optional.of(entry), database.getEntryById(entry.getId()));
+        assertFalse(database.containsEntryWithId(oldId));
+    }
+
     @Test
     public void circularStringResolving() {
         BibtexString string = new BibtexString("AAA", "#BBB#");
@@ -1,6 +1,9 @@
 package org.jabref.model.entry;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.junit.Assert;
 import org.junit.Test;
@@ -668,4 +671,28 @@ public class AuthorListTest {
         Assert.assertEquals(new AuthorList(expected), AuthorList.parse("Rodriguez Fernandez, José María"));
     }
 
+    @Test
+    public void parseReturnsCachedAuthorList() {
+        String authors = "Cached, First and Other, Second";
+        AuthorList parsed = AuthorList.parse(authors);
+        long hits = AuthorList.getCacheStatistics().hitCount();
+
+        Assert.assertSame(parsed, AuthorList.parse(authors));
+        Assert.assertTrue(AuthorList.getCacheStatistics().hitCount() > hits);
+    }
+
+    @Test
+    public void parseFromParallelStreamsGivesSameResults() {
+        List<String> expected = IntStream.range(0, 1000)
+                .mapToObj(i -> "Last" + (i % 100) + ", First and Other, Second")
+                .map(AuthorList::fixAuthorLastNameFirst)
+                .collect(Collectors.toList());
+
+        List<String> actual = IntStream.range(0, 1000).parallel()
+                .mapToObj(i -> "Last" + (i % 100) + ", First and Other, Second")
+                .map(AuthorList::fixAuthorLastNameFirst)
+                .collect(Collectors.toList());
+
+        Assert.assertEquals(expected, actual);
+    }
 }
@@ -4,7 +4,10 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
+import javafx.beans.binding.ObjectBinding;
+
 import org.jabref.model.database.BibDatabase;
+import org.jabref.model.event.TestEventListener;
 
 import org.junit.After;
 import org.junit.Before;
@@ -12,6 +15,7 @@ import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
 
 public class BibEntryTest {
 
@@ -131,4 +135,46 @@ public class BibEntryTest {
         assertEquals(new KeywordList(new Keyword("kw"), new Keyword("kw2"), new Keyword("kw3")), actual);
     }
 
+    @Test
+    public void listenerRegisteredLaterIsNotified() {
+        entry.setField(FieldName.TITLE, "before");
+        TestEventListener listener = new TestEventListener();
+        entry.registerListener(listener);
+
+        entry.setField(FieldName.TITLE, "after");
+
+        assertSame(entry, listener.getBibEntry());
+    }
+
+    @Test
+    public void unregisterListenerWithoutRegisteredListenerDoesNothing() {
+        entry.unregisterListener(new TestEventListener());
+    }
+
+    @Test
+    public void fieldBindingFollowsChanges() {
+        entry.setField(FieldName.TITLE, "before");
+        ObjectBinding<String> binding = entry.getFieldBinding(FieldName.TITLE);
+        assertEquals("before", binding.get());
+
+        entry.setField(FieldName.TITLE, "after");
+        assertEquals("after", binding.get());
+
+        entry.clearField(FieldName.TITLE);
+        assertEquals(null, binding.get());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void fieldMapIsReadOnly() {
+        entry.getFieldMap().put(FieldName.TITLE, "value");
+    }
+
+    @Test
+    public void latexFreeFieldIsUpdatedAfterChange() {
+        entry.setField(FieldName.TITLE, "{\\\"a}");
+        assertEquals(Optional.of("ä"), entry.getLatexFreeField(FieldName.TITLE));
+
+        entry.setField(FieldName.TITLE, "{\\\"o}");
+        assertEquals(Optional.of("ö"), entry.getLatexFreeField(FieldName.TITLE));
+    }
 }
@@ -0,0 +1,103 @@
+package org.jabref.model.entry;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class CompactFieldMapTest {
+
+    private CompactFieldMap fields;
+
+    @Before
+    public void setUp() {
+        fields = new CompactFieldMap();
+        fields.put("author", "Smith");
+        fields.put("title", "Some title");
+    }
+
+    @Test
+    public void putReplacesExistingValue() {
+        assertEquals("Smith", fields.put("author", "Jones"));
+
+        assertEquals("Jones", fields.get("author"));
+        assertEquals(2, fields.size());
+    }
+
+    @Test
+    public void putInternsFieldNames() {
+        fields.put(new String("year"), "2017");
+
+        assertSame("year", fields.keySet().stream().filter("year"::equals).findFirst().get());
+    }
+
+    @Test
+    public void removeKeepsOtherFields() {
+        assertEquals("Smith", fields.remove("author"));
+
+        assertNull(fields.get("author"));
+        assertFalse(fields.containsKey("author"));
+        assertEquals("Some title", fields.get("title"));
+        assertEquals(1, fields.size());
+    }
+
+    @Test
+    public void removeOfMissingFieldReturnsNull() {
+        assertNull(fields.remove("year"));
+        assertEquals(2, fields.size());
+    }
+
+    @Test
+    public void equalsAndHashCodeMatchOtherMaps() {
+        Map<String, String> expected = new HashMap<>();
+        expected.put("title", "Some title");
+        expected.put("author", "Smith");
+
+        assertEquals(expected, fields);
+        assertEquals(fields, expected);
+        assertEquals(expected.hashCode(), fields.hashCode());
+    }
+
+    @Test
+    public void iterationIsNotAffectedByConcurrentChanges() {
+        Iterator<Map.Entry<String, String>> iterator = fields.entrySet().iterator();
+        fields.put("year", "2017");
+        fields.remove("title");
+
+        int count = 0;
+        while (iterator.hasNext()) {
+            iterator.next();
+            count++;
+        }
+        assertEquals(2, count);
+    }
+
+    @Test
+    public void removeThroughIteratorRemovesField() {
+        Iterator<Map.Entry<String, String>> iterator = fields.entrySet().iterator();
+        iterator.next();
+        iterator.remove();
+
+        assertEquals(1, fields.size());
+    }
+
+    @Test
+    public void clearRemovesAllFields() {
+        fields.clear();
+
+        assertTrue(fields.isEmpty());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void nullValueIsRejected() {
+        fields.put("year", null);
+    }
+}
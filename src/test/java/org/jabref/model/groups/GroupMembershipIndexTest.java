@@ -0,0 +1,118 @@
+package org.jabref.model.groups;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class GroupMembershipIndexTest {
+
+    private BibDatabase database;
+    private GroupMembershipIndex index;
+    private GroupTreeNode root;
+    private BibEntry first;
+    private BibEntry second;
+    private BibEntry third;
+
+    @Before
+    public void setUp() {
+        database = new BibDatabase();
+        first = new BibEntry().withField("author", "author1 and author2");
+        second = new BibEntry().withField("author", "author1");
+        third = new BibEntry().withField("keywords", "something");
+        database.insertEntry(first);
+        database.insertEntry(second);
+        database.insertEntry(third);
+        index = new GroupMembershipIndex(database);
+        root = GroupTreeNode.fromGroup(new AllEntriesGroup("All entries"));
+    }
+
+    private static AbstractGroup getAuthorGroup(String author, GroupHierarchyType context) {
+        return new WordKeywordGroup(author, context, "author", author, true, ',', false);
+    }
+
+    @Test
+    public void numberOfMatchesOfAllEntriesGroupIsNumberOfEntries() {
+        assertEquals(3, index.getNumberOfMatches(root));
+    }
+
+    @Test
+    public void numberOfMatchesCountsContainedEntries() {
+        GroupTreeNode node = root.addSubgroup(getAuthorGroup("author1", GroupHierarchyType.INDEPENDENT));
+
+        assertEquals(2, index.getNumberOfMatches(node));
+    }
+
+    @Test
+    public void refiningGroupIntersectsWithParent() {
+        GroupTreeNode parent = root.addSubgroup(getAuthorGroup("author2", GroupHierarchyType.INDEPENDENT));
+        GroupTreeNode node = parent.addSubgroup(getAuthorGroup("author1", GroupHierarchyType.REFINING));
+
+        assertEquals(node.calculateNumberOfMatches(database), index.getNumberOfMatches(node));
+        assertEquals(Collections.singletonList(first), index.getMatchingEntries(node));
+    }
+
+    @Test
+    public void includingGroupUnitesWithChildren() {
+        GroupTreeNode node = root.addSubgroup(getAuthorGroup("author2", GroupHierarchyType.INCLUDING));
+        node.addSubgroup(new WordKeywordGroup("keywords", GroupHierarchyType.INDEPENDENT, "keywords", "something",
+                true, ',', false));
+
+        assertEquals(node.calculateNumberOfMatches(database), index.getNumberOfMatches(node));
+        assertEquals(2, index.getNumberOfMatches(node));
+    }
+
+    @Test
+    public void indexFollowsChangesOfDatabase() {
+        GroupTreeNode node = root.addSubgroup(getAuthorGroup("author1", GroupHierarchyType.INDEPENDENT));
+        assertEquals(2, index.getNumberOfMatches(node));
+
+        second.setField("author", "author3");
+        third.setField("author", "author1");
+        database.insertEntry(new BibEntry().withField("author", "author1"));
+        database.removeEntry(first);
+
+        assertEquals(2, index.getNumberOfMatches(node));
+        assertEquals(2, node.calculateNumberOfMatches(database));
+    }
+
+    @Test
+    public void searchGroupIsUpdatedOnChangeOfAnyField() {
+        GroupTreeNode node = root.addSubgroup(
+                new SearchGroup("search", GroupHierarchyType.INDEPENDENT, "something", false, false));
+        assertEquals(1, index.getNumberOfMatches(node));
+
+        first.setField("title", "Something else");
+
+        assertEquals(2, index.getNumberOfMatches(node));
+    }
+
+    @Test
+    public void indexDistinguishesEqualEntries() {
+        GroupTreeNode node = root.addSubgroup(getAuthorGroup("author1", GroupHierarchyType.INDEPENDENT));
+        database.insertEntry((BibEntry) second.clone());
+        assertEquals(3, index.getNumberOfMatches(node));
+
+        database.removeEntry(second);
+
+        assertEquals(2, index.getNumberOfMatches(node));
+    }
+
+    @Test
+    public void matchingGroupsAreSameAsWithoutIndex() {
+        GroupTreeNode author1 = root.addSubgroup(getAuthorGroup("author1", GroupHierarchyType.INDEPENDENT));
+        author1.addSubgroup(getAuthorGroup("author2", GroupHierarchyType.REFINING));
+        root.addSubgroup(getAuthorGroup("author3", GroupHierarchyType.INDEPENDENT));
+
+        for (BibEntry entry : Arrays.asList(first, second, third, new BibEntry().withField("author", "author3"))) {
+            assertEquals(root.getMatchingGroups(Collections.singletonList(entry)),
+                    index.getMatchingGroups(root, Collections.singletonList(entry)));
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package org.jabref.model.strings;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class LatexToUnicodeAdapterTest {
+
+    @Test
+    public void plainTextIsReturnedUnchanged() {
+        String text = "A 32 mA sigma-delta modulator (part 2): O'Connor's approach.";
+
+        assertSame(text, LatexToUnicodeAdapter.format(text));
+    }
+
+    @Test
+    public void textWithoutLatexIsPlain() {
+        assertTrue(LatexToUnicodeAdapter.isPlainText(""));
+        assertTrue(LatexToUnicodeAdapter.isPlainText("Mönch, Łęski and Müller"));
+        assertTrue(LatexToUnicodeAdapter.isPlainText("L'oscillation [1]"));
+    }
+
+    @Test
+    public void textWithLatexSyntaxIsNotPlain() {
+        assertFalse(LatexToUnicodeAdapter.isPlainText("Monta\\~{n}a"));
+        assertFalse(LatexToUnicodeAdapter.isPlainText("{A} approach"));
+        assertFalse(LatexToUnicodeAdapter.isPlainText("$x$"));
+        assertFalse(LatexToUnicodeAdapter.isPlainText("Lorem ipsum_lorem ipsum"));
+        assertFalse(LatexToUnicodeAdapter.isPlainText("A 32~mA"));
+        assertFalse(LatexToUnicodeAdapter.isPlainText("pages 1--10"));
+        assertFalse(LatexToUnicodeAdapter.isPlainText("``quoted''"));
+    }
+
+    @Test
+    public void textWithUnusualWhitespaceIsNotPlain() {
+        assertFalse(LatexToUnicodeAdapter.isPlainText("two  spaces"));
+        assertFalse(LatexToUnicodeAdapter.isPlainText("line\nbreak"));
+        assertFalse(LatexToUnicodeAdapter.isPlainText(" leading"));
+        assertFalse(LatexToUnicodeAdapter.isPlainText("trailing "));
+    }
+
+    @Test
+    public void textWhichIsNotNormalizedIsNotPlain() {
+        assertFalse(LatexToUnicodeAdapter.isPlainText("Mo\u0308nch"));
+    }
+
+    @Test
+    public void conversionIsCached() {
+        String text = "{\\\"{a}} cached by LatexToUnicodeAdapterTest";
+        long hits = LatexToUnicodeAdapter.getCacheStats().hitCount();
+
+        assertEquals("ä cached by LatexToUnicodeAdapterTest", LatexToUnicodeAdapter.format(text));
+        assertEquals("ä cached by LatexToUnicodeAdapterTest", LatexToUnicodeAdapter.format(text));
+        assertTrue(LatexToUnicodeAdapter.getCacheStats().hitCount() > hits);
+    }
+}
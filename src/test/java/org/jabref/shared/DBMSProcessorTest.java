@@ -147,6 +147,28 @@ public class DBMSProcessorTest {
         }
     }
 
+    @Test
+    public void testUpdateEntriesRefusesOnlyOutdatedEntries() throws SQLException {
+        BibEntry firstEntry = getBibEntryExample();
+        BibEntry secondEntry = getBibEntryExample();
+        dbmsProcessor.insertEntries(Arrays.asList(firstEntry, secondEntry));
+
+        firstEntry.setField("year", "1995");
+        firstEntry.clearField("booktitle");
+        //simulate older version
+        secondEntry.getSharedBibEntryData().setVersion(0);
+        secondEntry.setField("year", "1993");
+
+        List<OfflineLockException> refusedUpdates = dbmsProcessor.updateEntries(Arrays.asList(firstEntry, secondEntry));
+
+        Assert.assertEquals(1, refusedUpdates.size());
+        Assert.assertEquals(secondEntry, refusedUpdates.get(0).getLocalBibEntry());
+        Assert.assertEquals(Optional.of(firstEntry),
+                dbmsProcessor.getSharedEntry(firstEntry.getSharedBibEntryData().getSharedID()));
+        Assert.assertEquals(Optional.of("1994"),
+                dbmsProcessor.getSharedEntry(secondEntry.getSharedBibEntryData().getSharedID()).get().getField("year"));
+    }
+
     @Test
     public void testRemoveEntry() throws SQLException {
         BibEntry bibEntry = getBibEntryExample();
@@ -170,6 +192,40 @@ public class DBMSProcessorTest {
         Assert.assertEquals(expectedEntries, actualEntries);
     }
 
+    @Test
+    public void testGetSharedEntriesByIDs() {
+        BibEntry firstEntry = getBibEntryExample();
+        BibEntry secondEntry = getBibEntryExample();
+        BibEntry thirdEntry = getBibEntryExample();
+        thirdEntry.setField("year", "1995");
+
+        dbmsProcessor.insertEntry(firstEntry);
+        dbmsProcessor.insertEntry(secondEntry);
+        dbmsProcessor.insertEntry(thirdEntry);
+
+        List<BibEntry> expectedEntries = Arrays.asList(firstEntry, thirdEntry);
+        List<BibEntry> actualEntries = dbmsProcessor.getSharedEntries(Arrays.asList(
+                thirdEntry.getSharedBibEntryData().getSharedID(), firstEntry.getSharedBibEntryData().getSharedID()));
+
+        Assert.assertEquals(expectedEntries, actualEntries);
+    }
+
+    @Test
+    public void testGetSharedEntriesContainsEntriesWithoutFields() {
+        BibEntry emptyEntry = new BibEntry();
+        emptyEntry.setType("book");
+        BibEntry bibEntry = getBibEntryExample();
+
+        dbmsProcessor.insertEntry(emptyEntry);
+        dbmsProcessor.insertEntry(bibEntry);
+        dbmsProcessor.setFetchSize(1);
+
+        List<BibEntry> expectedEntries = Arrays.asList(emptyEntry, bibEntry);
+        List<BibEntry> actualEntries = dbmsProcessor.getSharedEntries();
+
+        Assert.assertEquals(expectedEntries, actualEntries);
+    }
+
     @Test
     public void testGetSharedEntry() {
         BibEntry expectedBibEntry = getBibEntryExampleWithEmptyFields();
@@ -7,6 +7,9 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.jabref.logic.exporter.MetaDataSerializer;
 import org.jabref.logic.formatter.casechanger.LowerCaseFormatter;
@@ -19,6 +22,7 @@ import org.jabref.model.database.BibDatabaseMode;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.event.EntryEventSource;
 import org.jabref.model.metadata.MetaData;
+import org.jabref.shared.event.LocalDatabaseSynchronizedEvent;
 import org.jabref.shared.exception.DatabaseNotSupportedException;
 import org.jabref.shared.exception.InvalidDBMSConnectionPropertiesException;
 import org.jabref.shared.exception.OfflineLockException;
@@ -102,6 +106,33 @@ public class DBMSSynchronizerTest {
 
     }
 
+    @Test
+    public void testFieldChangesWithinDelayArePushedInOneBatch() throws InterruptedException {
+        AtomicInteger pushedBatches = new AtomicInteger();
+        CountDownLatch pushed = new CountDownLatch(1);
+        dbmsSynchronizer.setSynchronizationExecutor(push -> {
+            pushedBatches.incrementAndGet();
+            push.run();
+            pushed.countDown();
+        });
+        BibEntry firstEntry = getBibEntryExample(1);
+        BibEntry secondEntry = getBibEntryExample(2);
+        firstEntry.registerListener(dbmsSynchronizer);
+        secondEntry.registerListener(dbmsSynchronizer);
+        bibDatabase.insertEntry(firstEntry);
+        bibDatabase.insertEntry(secondEntry);
+
+        dbmsSynchronizer.setSynchronizationDelay(1000);
+        firstEntry.setField("author", "Brad L and Gilson");
+        firstEntry.setField("year", "2017");
+        secondEntry.setField("author", "Gilson");
+
+        Assert.assertTrue(pushed.await(10, TimeUnit.SECONDS));
+        List<BibEntry> actualEntries = dbmsProcessor.getSharedEntries();
+        Assert.assertEquals(1, pushedBatches.get());
+        Assert.assertEquals(Arrays.asList(firstEntry, secondEntry), actualEntries);
+    }
+
     @Test
     public void testEntryRemovedEventListener() {
         BibEntry bibEntry = getBibEntryExample(1);
@@ -187,6 +218,26 @@ public class DBMSSynchronizerTest {
         Assert.assertEquals(bibDatabase.getEntries(), dbmsProcessor.getSharedEntries());
     }
 
+    @Test
+    public void testSynchronizeLocalDatabaseReportsEntryCounts() {
+        BibEntry localEntry = getBibEntryExample(1);
+        bibDatabase.insertEntry(localEntry);
+        dbmsProcessor.insertEntry(getBibEntryExample(2));
+
+        SynchronizationTestEventListener eventListener = new SynchronizationTestEventListener();
+        dbmsSynchronizer.registerListener(eventListener);
+
+        dbmsSynchronizer.synchronizeLocalDatabase();
+
+        LocalDatabaseSynchronizedEvent event = eventListener.getLocalDatabaseSynchronizedEvent();
+        Assert.assertNotNull(event);
+        Assert.assertEquals(2, event.getSharedEntryCount());
+        Assert.assertEquals(1, event.getInsertedEntryCount());
+        Assert.assertEquals(0, event.getUpdatedEntryCount());
+        Assert.assertEquals(0, event.getRemovedEntryCount());
+        Assert.assertEquals(2, bibDatabase.getEntryCount());
+    }
+
     @Test
     public void testApplyMetaData() {
         BibEntry bibEntry = getBibEntryExample(1);
@@ -1,5 +1,6 @@
 package org.jabref.shared;
 
+import org.jabref.shared.event.LocalDatabaseSynchronizedEvent;
 import org.jabref.shared.event.SharedEntryNotPresentEvent;
 import org.jabref.shared.event.UpdateRefusedEvent;
 import org.jabref.testutils.category.DatabaseTests;
@@ -12,6 +13,7 @@ public class SynchronizationTestEventListener {
 
     private SharedEntryNotPresentEvent sharedEntryNotPresentEvent;
     private UpdateRefusedEvent updateRefusedEvent;
+    private LocalDatabaseSynchronizedEvent localDatabaseSynchronizedEvent;
 
 
     @Subscribe
@@ -24,6 +26,11 @@ public class SynchronizationTestEventListener {
         this.updateRefusedEvent = event;
     }
 
+    @Subscribe
+    public void listen(LocalDatabaseSynchronizedEvent event) {
+        this.localDatabaseSynchronizedEvent = event;
+    }
+
     public SharedEntryNotPresentEvent getSharedEntryNotPresentEvent() {
         return sharedEntryNotPresentEvent;
     }
@@ -31,4 +38,8 @@ public class SynchronizationTestEventListener {
     public UpdateRefusedEvent getUpdateRefusedEvent() {
         return updateRefusedEvent;
     }
+
+    public LocalDatabaseSynchronizedEvent getLocalDatabaseSynchronizedEvent() {
+        return localDatabaseSynchronizedEvent;
+    }
 }